@@ -0,0 +1,91 @@
+#!/usr/bin/env python3
+"""Compare JMH JSON results against a baseline.
+
+    python3 src/jmh/compare.py [--threshold PCT] src/jmh/baseline.json target/jmh-result.json
+
+A benchmark regresses when its score is more than PCT percent (default 10) worse than the baseline
+and the difference is larger than the two scores' error margins combined. Throughput is better when
+higher; every other mode (average time, sample time, single shot) is better when lower.
+Exits with status 1 when anything regressed.
+
+To record a new baseline, copy a result file over the baseline on the machine the comparisons run on:
+
+    cp target/jmh-result.json src/jmh/baseline.json
+"""
+
+import argparse
+import json
+import math
+import sys
+
+
+def load(path):
+    with open(path, encoding="utf-8") as f:
+        content = f.read().strip()
+    results = {}
+    for run in json.loads(content) if content else []:
+        name = run["benchmark"].removeprefix("com.translation.")
+        params = run.get("params") or {}
+        key = name + "".join(f" {k}={params[k]}" for k in sorted(params))
+        metric = run["primaryMetric"]
+        error = metric.get("scoreError")
+        results[key] = {
+            "mode": run["mode"],
+            "score": metric["score"],
+            "error": 0.0 if error is None or error == "NaN" or math.isnan(float(error)) else float(error),
+            "unit": metric["scoreUnit"],
+        }
+    return results
+
+
+def main():
+    parser = argparse.ArgumentParser(description="Compare JMH JSON results against a baseline")
+    parser.add_argument("baseline")
+    parser.add_argument("current")
+    parser.add_argument("--threshold", type=float, default=10.0,
+                        help="percent change in the worse direction that counts as a regression")
+    args = parser.parse_args()
+
+    baseline = load(args.baseline)
+    current = load(args.current)
+    if not baseline:
+        print(f"{args.baseline} has no results yet; record one with: cp {args.current} {args.baseline}")
+        return 0
+
+    regressions = 0
+    width = max(len(key) for key in current) if current else 0
+    print(f"{'Benchmark':<{width}}  {'Baseline':>14}  {'Current':>14}  {'Change':>8}  Unit")
+    for key in sorted(current):
+        now = current[key]
+        before = baseline.get(key)
+        if before is None:
+            print(f"{key:<{width}}  {'-':>14}  {now['score']:>14.3f}  {'new':>8}  {now['unit']}")
+            continue
+        if before["unit"] != now["unit"] or before["mode"] != now["mode"] or before["score"] == 0:
+            print(f"{key:<{width}}  {'-':>14}  {now['score']:>14.3f}  {'n/a':>8}  "
+                  f"{now['unit']} (baseline: {before['mode']}, {before['unit']})")
+            continue
+
+        change = (now["score"] - before["score"]) / before["score"] * 100
+        worse = -change if now["mode"] == "thrpt" else change
+        significant = abs(now["score"] - before["score"]) > before["error"] + now["error"]
+        flag = ""
+        if worse > args.threshold and significant:
+            flag = "  REGRESSION"
+            regressions += 1
+        elif worse < -args.threshold and significant:
+            flag = "  improved"
+        print(f"{key:<{width}}  {before['score']:>14.3f}  {now['score']:>14.3f}  {change:>+7.1f}%  "
+              f"{now['unit']}{flag}")
+
+    for key in sorted(set(baseline) - set(current)):
+        print(f"{key:<{width}}  {baseline[key]['score']:>14.3f}  {'-':>14}  {'missing':>8}  {baseline[key]['unit']}")
+
+    if regressions:
+        print(f"\n{regressions} benchmark(s) regressed by more than {args.threshold:g}%")
+        return 1
+    return 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
@@ -0,0 +1,117 @@
+package com.translation.cache;
+
+import com.translation.config.TranslationProperties;
+import com.translation.integration.CachingTranslationProvider;
+import com.translation.integration.TranslationProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Translation cache lookups: building the normalized {@link TranslationKey}, hits and misses on a cache
+ * holding {@code entries} translations, and a hit through {@link CachingTranslationProvider}.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args=TranslationCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslationCacheBenchmark {
+
+    private static final String ENGINE = "LocalTranslationProvider";
+
+    @Param({
+        "Save changes before closing the editor",
+        "  Your order has shipped   and should arrive\twithin three to five business days.  "
+    })
+    public String text;
+
+    @Param({"1000", "100000"})
+    public int entries;
+
+    private TranslationCache cache;
+    private TranslationKey hitKey;
+    private TranslationProvider cachingProvider;
+
+    @Setup
+    public void setUp() {
+        TranslationCache translationCache = new TranslationCache(new TranslationProperties());
+        for (int i = 0; i < entries; i++) {
+            translationCache.put(TranslationKey.of(ENGINE, "en", "es", "Cached segment " + i), "Segmento " + i);
+        }
+        hitKey = TranslationKey.of(ENGINE, "en", "es", text);
+        translationCache.put(hitKey, "[es] " + text);
+        cache = translationCache;
+        cachingProvider = new CachingTranslationProvider(new NamedProvider(), translationCache);
+    }
+
+    @Benchmark
+    public TranslationKey buildKey() {
+        return TranslationKey.of(ENGINE, "en", "es", text);
+    }
+
+    @Benchmark
+    public String hit() {
+        return cache.get(TranslationKey.of(ENGINE, "en", "es", text));
+    }
+
+    @Benchmark
+    public String miss() {
+        return cache.get(TranslationKey.of(ENGINE, "en", "fr", text));
+    }
+
+    @Benchmark
+    public String providerHit() {
+        return cachingProvider.translate(text, "en", "es");
+    }
+
+    /**
+     * Provider that only supplies the engine name; every benchmarked call is a cache hit
+     */
+    private static class NamedProvider implements TranslationProvider {
+
+        @Override
+        public String translate(String text, String sourceLanguage, String targetLanguage) {
+            throw new IllegalStateException("Expected a cache hit");
+        }
+
+        @Override
+        public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
+            throw new IllegalStateException("Expected a cache hit");
+        }
+
+        @Override
+        public Map<String, String> getSupportedLanguages() {
+            return Map.of();
+        }
+
+        @Override
+        public boolean validateLanguagePair(String sourceLanguage, String targetLanguage) {
+            return true;
+        }
+
+        @Override
+        public boolean healthCheck() {
+            return true;
+        }
+
+        @Override
+        public String getProviderName() {
+            return ENGINE;
+        }
+    }
+}
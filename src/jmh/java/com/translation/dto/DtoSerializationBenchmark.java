@@ -0,0 +1,120 @@
+package com.translation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON (de)serialization of the request and response bodies, with an {@link ObjectMapper} configured
+ * as Spring Boot configures it here ({@code spring.jackson.default-property-inclusion: non_null}).
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args=DtoSerialization}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoSerializationBenchmark {
+
+    private static final String TEXT = "Your order has shipped and should arrive within three to five business days.";
+
+    private static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .build();
+    }
+
+    @State(Scope.Benchmark)
+    public static class RequestState {
+        ObjectReader reader;
+        ObjectWriter writer;
+        TranslateRequest request;
+        byte[] json;
+
+        @Setup
+        public void setUp() throws IOException {
+            ObjectMapper objectMapper = objectMapper();
+            reader = objectMapper.readerFor(TranslateRequest.class);
+            writer = objectMapper.writerFor(TranslateRequest.class);
+            request = TranslateRequest.builder()
+                .text(TEXT)
+                .sourceLanguage("en")
+                .targetLanguage("es")
+                .build();
+            json = writer.writeValueAsBytes(request);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class BatchState {
+        @Param({"1", "16", "100"})
+        public int batchSize;
+
+        ObjectReader reader;
+        ObjectWriter writer;
+        BatchTranslateResponse response;
+        byte[] json;
+
+        @Setup
+        public void setUp() throws IOException {
+            ObjectMapper objectMapper = objectMapper();
+            reader = objectMapper.readerFor(BatchTranslateResponse.class);
+            writer = objectMapper.writerFor(BatchTranslateResponse.class);
+            List<String> originals = new ArrayList<>();
+            List<String> translations = new ArrayList<>();
+            for (int i = 0; i < batchSize; i++) {
+                originals.add(TEXT + " #" + i);
+                translations.add("Su pedido ha sido enviado y debería llegar en tres a cinco días hábiles. #" + i);
+            }
+            response = BatchTranslateResponse.builder()
+                .originalTexts(originals)
+                .translatedTexts(translations)
+                .sourceLanguage("en")
+                .targetLanguage("es")
+                .engine("GoogleTranslationProvider")
+                .count(batchSize)
+                .timestamp(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .build();
+            json = writer.writeValueAsBytes(response);
+        }
+    }
+
+    @Benchmark
+    public TranslateRequest readTranslateRequest(RequestState state) throws IOException {
+        return state.reader.readValue(state.json);
+    }
+
+    @Benchmark
+    public byte[] writeTranslateRequest(RequestState state) throws IOException {
+        return state.writer.writeValueAsBytes(state.request);
+    }
+
+    @Benchmark
+    public BatchTranslateResponse readBatchResponse(BatchState state) throws IOException {
+        return state.reader.readValue(state.json);
+    }
+
+    @Benchmark
+    public byte[] writeBatchResponse(BatchState state) throws IOException {
+        return state.writer.writeValueAsBytes(state.response);
+    }
+}
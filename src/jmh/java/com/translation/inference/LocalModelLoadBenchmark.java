@@ -0,0 +1,92 @@
+package com.translation.inference;
+
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Cold load time of the local model, one load per forked JVM, for each precision with and without
+ * memory mapping. After each load the process's resident memory is printed from {@code /proc/self/status},
+ * split into anonymous (private) and file-backed (shareable page cache) pages. Linux only; needs an
+ * exported model, e.g. {@code -Djmh.args="LocalModelLoad -p modelPath=./models/nllb-200-distilled-600M"}.
+ * Run the same command with {@code sync; echo 3 > /proc/sys/vm/drop_caches} first to include disk reads.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class LocalModelLoadBenchmark {
+
+    @Param("./models/nllb-200-distilled-600M")
+    public String modelPath;
+
+    @Param({"float32", "float16", "int8"})
+    public String precision;
+
+    @Param({"true", "false"})
+    public boolean memoryMap;
+
+    private OnnxTranslationModel model;
+    private Map<String, Long> before;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        Path dir = Path.of(modelPath);
+        String suffix = OnnxTranslationModel.fileSuffix(precision);
+        if (!Files.isRegularFile(dir.resolve("encoder_model" + suffix + ".onnx"))) {
+            throw new IllegalStateException("No " + precision + " model in " + dir.toAbsolutePath());
+        }
+        before = residentMemoryKb();
+    }
+
+    @Benchmark
+    public OnnxTranslationModel load() throws IOException, OrtException {
+        try (OrtSession.SessionOptions options = new OrtSession.SessionOptions()) {
+            options.setOptimizationLevel(OrtSession.SessionOptions.OptLevel.ALL_OPT);
+            options.setIntraOpNumThreads(1);
+            model = OnnxTranslationModel.load(Path.of(modelPath), precision, memoryMap, options);
+            return model;
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException, OrtException {
+        Map<String, Long> after = residentMemoryKb();
+        System.out.printf("%n[rss] precision=%s memoryMap=%s mapped=%s total=%dMB (+%dMB) anon=+%dMB file=+%dMB%n",
+            precision, memoryMap, model.isMemoryMapped(),
+            after.get("VmRSS") / 1024,
+            (after.get("VmRSS") - before.get("VmRSS")) / 1024,
+            (after.get("RssAnon") - before.get("RssAnon")) / 1024,
+            (after.get("RssFile") - before.get("RssFile")) / 1024);
+        model.close();
+    }
+
+    private static Map<String, Long> residentMemoryKb() throws IOException {
+        return Files.readAllLines(Path.of("/proc/self/status")).stream()
+            .filter(line -> line.startsWith("VmRSS:") || line.startsWith("RssAnon:") || line.startsWith("RssFile:"))
+            .collect(Collectors.toMap(
+                line -> line.substring(0, line.indexOf(':')),
+                line -> Long.parseLong(line.replaceAll("[^0-9]", ""))));
+    }
+}
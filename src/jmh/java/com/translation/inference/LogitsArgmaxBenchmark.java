@@ -0,0 +1,84 @@
+package com.translation.inference;
+
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OrtEnvironment;
+import ai.onnxruntime.OrtException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-step cost of picking the next token from decoder logits: reading them through
+ * {@link OnnxTensor#getFloatBuffer()}, which copies the whole {@code [batch, positions, vocabulary]}
+ * tensor to the heap, against scanning the same values in place. The difference is what an
+ * export with last-position-only logits or a bound output buffer would save. {@code positions = 2}
+ * is the first decode step ({@code </s> [target]}); later steps have one position. No model needed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogitsArgmaxBenchmark {
+
+    /**
+     * NLLB-200 vocabulary size
+     */
+    private static final int VOCABULARY = 256_206;
+
+    @Param({"1", "8"})
+    public int batch;
+
+    @Param({"1", "2"})
+    public int positions;
+
+    private FloatBuffer logits;
+    private OnnxTensor tensor;
+    private int[] best;
+
+    @Setup
+    public void setUp() throws OrtException {
+        int size = batch * positions * VOCABULARY;
+        logits = ByteBuffer.allocateDirect(size * Float.BYTES).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            logits.put(i, random.nextFloat());
+        }
+        tensor = OnnxTensor.createTensor(OrtEnvironment.getEnvironment(), logits,
+            new long[] {batch, positions, VOCABULARY});
+        best = new int[batch];
+    }
+
+    @TearDown
+    public void tearDown() {
+        tensor.close();
+    }
+
+    @Benchmark
+    public int[] copyAndScan() {
+        OnnxTranslationModel.argmaxLastPosition(tensor.getFloatBuffer(), positions, VOCABULARY, best);
+        return best;
+    }
+
+    @Benchmark
+    public int[] scanInPlace() {
+        OnnxTranslationModel.argmaxLastPosition(logits, positions, VOCABULARY, best);
+        return best;
+    }
+}
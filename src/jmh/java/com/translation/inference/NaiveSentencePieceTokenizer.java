@@ -0,0 +1,100 @@
+package com.translation.inference;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Baseline for {@link SentencePieceTokenizerBenchmark}: the same Viterbi segmentation, looking each
+ * candidate up as a substring in a hash map and allocating fresh buffers per call.
+ */
+final class NaiveSentencePieceTokenizer {
+
+    private final Map<String, Integer> pieceIds = new HashMap<>();
+    private final float[] scores;
+    private final int maxPieceLength;
+    private final int unkId;
+    private final float unkScore;
+
+    NaiveSentencePieceTokenizer(SentencePieceTokenizer tokenizer) {
+        this.scores = new float[tokenizer.vocabularySize()];
+        this.unkId = tokenizer.unkId();
+        int longest = 1;
+        float lowest = 0.0f;
+        for (int id = 0; id < scores.length; id++) {
+            String piece = tokenizer.piece(id);
+            if (piece != null && !tokenizer.isSpecial(id)) {
+                pieceIds.putIfAbsent(piece, id);
+                scores[id] = tokenizer.score(id);
+                longest = Math.max(longest, piece.length());
+                lowest = Math.min(lowest, scores[id]);
+            }
+        }
+        this.maxPieceLength = longest;
+        this.unkScore = lowest - 10.0f;
+    }
+
+    int[] encode(String text) {
+        String normalized = normalize(text);
+        int length = normalized.length();
+        if (length == 0) {
+            return new int[0];
+        }
+
+        float[] best = new float[length + 1];
+        int[] from = new int[length + 1];
+        int[] piece = new int[length + 1];
+        for (int end = 1; end <= length; end++) {
+            best[end] = Float.NEGATIVE_INFINITY;
+            for (int start = Math.max(0, end - maxPieceLength); start < end; start++) {
+                Integer id = pieceIds.get(normalized.substring(start, end));
+                if (id != null && best[start] + scores[id] > best[end]) {
+                    best[end] = best[start] + scores[id];
+                    from[end] = start;
+                    piece[end] = id;
+                }
+            }
+            if (best[end] == Float.NEGATIVE_INFINITY) {
+                best[end] = best[end - 1] + unkScore;
+                from[end] = end - 1;
+                piece[end] = unkId;
+            }
+        }
+
+        int count = 0;
+        for (int end = length; end > 0; end = from[end]) {
+            count++;
+        }
+        int[] ids = new int[count];
+        for (int end = length, i = count - 1; end > 0; end = from[end], i--) {
+            ids[i] = piece[end];
+        }
+        int merged = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] != unkId || merged == 0 || ids[merged - 1] != unkId) {
+                ids[merged++] = ids[i];
+            }
+        }
+        return merged == ids.length ? ids : Arrays.copyOf(ids, merged);
+    }
+
+    private static String normalize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).strip();
+        StringBuilder builder = new StringBuilder(normalized.length() + 1).append(SentencePieceTokenizer.SPACE);
+        boolean previousSpace = true;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (!previousSpace) {
+                    builder.append(SentencePieceTokenizer.SPACE);
+                }
+                previousSpace = true;
+            } else {
+                builder.append(c);
+                previousSpace = false;
+            }
+        }
+        return builder.length() == 1 ? "" : builder.toString();
+    }
+}
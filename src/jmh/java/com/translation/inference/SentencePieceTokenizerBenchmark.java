@@ -0,0 +1,116 @@
+package com.translation.inference;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link SentencePieceTokenizer} against {@link NaiveSentencePieceTokenizer}, and of
+ * cached counts through {@link TokenCounter}. Uses a vocabulary built from the sample texts unless
+ * {@code tokenizerPath} names a real {@code tokenizer.json}. Add {@code -prof gc} to compare allocation:
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="SentencePieceTokenizer -prof gc"}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SentencePieceTokenizerBenchmark {
+
+    private static final List<String> SAMPLES = List.of(
+        "Save changes before closing the editor",
+        "Your order has shipped and should arrive within three to five business days.",
+        "The quick brown fox jumps over the lazy dog while the translation service keeps running smoothly "
+            + "under heavy load, packing many short segments into each request to the upstream provider."
+    );
+
+    @Param({"0", "1", "2"})
+    public int sample;
+
+    @Param("")
+    public String tokenizerPath;
+
+    private String text;
+    private SentencePieceTokenizer tokenizer;
+    private NaiveSentencePieceTokenizer naive;
+    private SentencePieceTokenizer.Workspace workspace;
+    private TokenCounter counter;
+
+    @Setup
+    public void setUp() throws IOException {
+        text = SAMPLES.get(sample);
+        tokenizer = tokenizerPath.isEmpty() ? sampleVocabulary() : SentencePieceTokenizer.load(Path.of(tokenizerPath));
+        naive = new NaiveSentencePieceTokenizer(tokenizer);
+        workspace = new SentencePieceTokenizer.Workspace();
+        counter = new TokenCounter(tokenizer, 1_000_000L);
+    }
+
+    @Benchmark
+    public int[] naiveEncode() {
+        return naive.encode(text);
+    }
+
+    @Benchmark
+    public int[] encode() {
+        return tokenizer.encode(text);
+    }
+
+    @Benchmark
+    public int encodeIntoWorkspace() {
+        return tokenizer.encode(text, workspace);
+    }
+
+    @Benchmark
+    public int cachedCount() {
+        return counter.count(text);
+    }
+
+    /**
+     * Every character, word and word prefix/suffix of the samples as pieces, longer pieces scoring higher
+     */
+    private static SentencePieceTokenizer sampleVocabulary() {
+        List<String> pieces = new ArrayList<>(List.of("<unk>", String.valueOf(SentencePieceTokenizer.SPACE)));
+        for (String sample : SAMPLES) {
+            for (String word : sample.split(" ")) {
+                for (int i = 0; i < word.length(); i++) {
+                    pieces.add(String.valueOf(word.charAt(i)));
+                    pieces.add(word.substring(0, i + 1));
+                    pieces.add(word.substring(i));
+                }
+                pieces.add(SentencePieceTokenizer.SPACE + word);
+            }
+        }
+
+        Map<String, Integer> pieceIds = new HashMap<>();
+        List<String> unique = new ArrayList<>();
+        for (String piece : pieces) {
+            if (pieceIds.putIfAbsent(piece, unique.size()) == null) {
+                unique.add(piece);
+            }
+        }
+        float[] scores = new float[unique.size()];
+        boolean[] special = new boolean[unique.size()];
+        for (int id = 0; id < unique.size(); id++) {
+            scores[id] = -12.0f + unique.get(id).length();
+        }
+        special[0] = true;
+        return new SentencePieceTokenizer(pieceIds, unique.toArray(new String[0]), scores, special, 0);
+    }
+}
@@ -0,0 +1,104 @@
+package com.translation.integration;
+
+import com.translation.config.TranslationProperties;
+import com.translation.dto.BatchTranslateRequest;
+import com.translation.dto.TranslateRequest;
+import com.translation.inference.InferenceScheduler;
+import com.translation.inference.LocalInferenceEngine;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request validation: Bean Validation of the request bodies, as the controller's {@code @Valid} runs it,
+ * and the provider's language-pair check ({@link LocalTranslationProvider}, the same map lookups as OpenAI's).
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args=RequestValidation}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestValidationBenchmark {
+
+    @Param({"es", "xx"})
+    public String targetLanguage;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private BatchExecutor batchExecutor;
+    private LocalInferenceEngine inferenceEngine;
+    private InferenceScheduler inferenceScheduler;
+    private LocalTranslationProvider provider;
+    private TranslateRequest translateRequest;
+    private BatchTranslateRequest batchRequest;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        TranslationProperties properties = new TranslationProperties();
+        batchExecutor = new BatchExecutor(properties);
+        inferenceEngine = new LocalInferenceEngine(properties);
+        inferenceScheduler = new InferenceScheduler(inferenceEngine, properties);
+        provider = new LocalTranslationProvider(batchExecutor, inferenceEngine, inferenceScheduler);
+
+        translateRequest = TranslateRequest.builder()
+            .text("Your order has shipped and should arrive within three to five business days.")
+            .sourceLanguage("en")
+            .targetLanguage(targetLanguage)
+            .build();
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            texts.add("Item " + i + " is back in stock");
+        }
+        batchRequest = BatchTranslateRequest.builder()
+            .texts(texts)
+            .sourceLanguage("en")
+            .targetLanguage(targetLanguage)
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        inferenceScheduler.shutdown();
+        inferenceEngine.shutdown();
+        batchExecutor.shutdown();
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TranslateRequest>> validateTranslateRequest() {
+        return validator.validate(translateRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BatchTranslateRequest>> validateBatchRequest() {
+        return validator.validate(batchRequest);
+    }
+
+    @Benchmark
+    public boolean validateLanguagePair() {
+        return provider.validateLanguagePair("en", targetLanguage);
+    }
+}
@@ -0,0 +1,58 @@
+package com.translation.masking;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link PlaceholderMasker} on typical UI strings.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args=PlaceholderMasker}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaceholderMaskerBenchmark {
+
+    @Param({
+        "Save changes before closing the editor",
+        "You have 17 new messages",
+        "Hi <b>{name}</b>, %d items shipped to you, see https://example.com/orders?id=42 or mail support@example.org"
+    })
+    public String text;
+
+    private MaskedText masked;
+
+    @Setup
+    public void setUp() {
+        masked = PlaceholderMasker.mask(text);
+    }
+
+    @Benchmark
+    public MaskedText mask() {
+        return PlaceholderMasker.mask(text);
+    }
+
+    @Benchmark
+    public String restore() {
+        return masked.restore(masked.template());
+    }
+
+    @Benchmark
+    public String roundTrip() {
+        MaskedText maskedText = PlaceholderMasker.mask(text);
+        return maskedText.restore(maskedText.template());
+    }
+}
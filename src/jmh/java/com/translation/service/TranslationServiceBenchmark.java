@@ -0,0 +1,180 @@
+package com.translation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translation.cache.RequestCoalescer;
+import com.translation.cache.TranslationCache;
+import com.translation.config.TranslationProperties;
+import com.translation.dto.BatchTranslateRequest;
+import com.translation.dto.BatchTranslateResponse;
+import com.translation.dto.TranslateRequest;
+import com.translation.dto.TranslateResponse;
+import com.translation.health.ProviderHealthMonitor;
+import com.translation.inference.InferenceScheduler;
+import com.translation.inference.LocalInferenceEngine;
+import com.translation.integration.BatchExecutor;
+import com.translation.integration.GoogleTranslationProvider;
+import com.translation.integration.LocalTranslationProvider;
+import com.translation.integration.MicroBatchDispatcher;
+import com.translation.integration.OpenAITranslationProvider;
+import com.translation.integration.RequestHedger;
+import com.translation.integration.TranslationProviderFactory;
+import com.translation.memory.TranslationMemory;
+import com.translation.metrics.TranslationMetrics;
+import com.translation.ratelimit.UpstreamRateLimiter;
+import com.translation.resilience.ProviderGuard;
+import com.translation.routing.ProviderRouter;
+import com.translation.tracing.RequestLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Cost of {@link TranslationService#translate} and {@link TranslationService#batchTranslate} through the
+ * real provider chain (masking, cache, coalescing, metrics, circuit breaker) with {@code translation.engine=local}.
+ * {@code provider=stub} answers instantly, so the score is the service's own overhead; {@code provider=local}
+ * is the {@link LocalTranslationProvider} itself, simulated unless {@code modelPath} holds an ONNX model.
+ * With {@code bypassCache=false} every call after the first is a cache hit.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args=TranslationServiceBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslationServiceBenchmark {
+
+    private static final String TEXT = "Hi {name}, your order has shipped and should arrive within 3 business days.";
+
+    @Param({"stub", "local"})
+    public String provider;
+
+    @Param({"false", "true"})
+    public boolean bypassCache;
+
+    @Param("")
+    public String modelPath;
+
+    private TranslationService service;
+    private TranslateRequest translateRequest;
+    private BatchTranslateRequest batchRequest;
+    private final List<Runnable> shutdownHooks = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        TranslationProperties properties = new TranslationProperties();
+        properties.setEngine("local");
+        properties.getMemory().setEnabled(false);
+        if (!modelPath.isEmpty()) {
+            properties.getLocal().setModelPath(modelPath);
+        }
+
+        BatchExecutor batchExecutor = new BatchExecutor(properties);
+        LocalInferenceEngine inferenceEngine = new LocalInferenceEngine(properties);
+        InferenceScheduler inferenceScheduler = new InferenceScheduler(inferenceEngine, properties);
+        LocalTranslationProvider localProvider = "stub".equals(provider)
+            ? new StubProvider(batchExecutor, inferenceEngine, inferenceScheduler)
+            : new LocalTranslationProvider(batchExecutor, inferenceEngine, inferenceScheduler);
+
+        TranslationCache translationCache = new TranslationCache(properties);
+        RequestCoalescer requestCoalescer = new RequestCoalescer();
+        MicroBatchDispatcher microBatchDispatcher = new MicroBatchDispatcher(properties);
+        TranslationMemory translationMemory = new TranslationMemory(properties, new ObjectMapper());
+        ProviderRouter providerRouter = new ProviderRouter(properties);
+        RequestHedger requestHedger = new RequestHedger(properties);
+        ProviderGuard providerGuard = new ProviderGuard(properties);
+        TranslationMetrics translationMetrics = new TranslationMetrics(new SimpleMeterRegistry());
+        // Only the local engine is configured; the health monitor is not started
+        ProviderHealthMonitor healthMonitor = new ProviderHealthMonitor(mock(GoogleTranslationProvider.class),
+            mock(OpenAITranslationProvider.class), localProvider, properties, providerRouter, providerGuard);
+        TranslationProviderFactory providerFactory = new TranslationProviderFactory(null, null, localProvider,
+            properties, translationCache, requestCoalescer, microBatchDispatcher, translationMemory, providerRouter,
+            requestHedger, providerGuard, translationMetrics, healthMonitor);
+
+        ThreadPoolTaskExecutor requestExecutor = new ThreadPoolTaskExecutor();
+        requestExecutor.setCorePoolSize(4);
+        requestExecutor.initialize();
+
+        service = new TranslationService(providerFactory, properties, translationCache, requestCoalescer,
+            translationMemory, providerGuard, new UpstreamRateLimiter(properties, providerGuard), inferenceScheduler,
+            translationMetrics, healthMonitor, new RequestLog(properties), requestExecutor);
+
+        translateRequest = TranslateRequest.builder()
+            .text(TEXT)
+            .sourceLanguage("en")
+            .targetLanguage("es")
+            .bypassCache(bypassCache)
+            .build();
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            texts.add(TEXT.replace("3", String.valueOf(i)));
+        }
+        batchRequest = BatchTranslateRequest.builder()
+            .texts(texts)
+            .sourceLanguage("en")
+            .targetLanguage("es")
+            .bypassCache(bypassCache)
+            .build();
+
+        shutdownHooks.add(requestExecutor::shutdown);
+        shutdownHooks.add(healthMonitor::shutdown);
+        shutdownHooks.add(requestHedger::shutdown);
+        shutdownHooks.add(microBatchDispatcher::shutdown);
+        shutdownHooks.add(inferenceScheduler::shutdown);
+        shutdownHooks.add(inferenceEngine::shutdown);
+        shutdownHooks.add(batchExecutor::shutdown);
+    }
+
+    @TearDown
+    public void tearDown() {
+        shutdownHooks.forEach(Runnable::run);
+    }
+
+    @Benchmark
+    public TranslateResponse translate() {
+        return service.translate(translateRequest);
+    }
+
+    @Benchmark
+    public BatchTranslateResponse batchTranslate() {
+        return service.batchTranslate(batchRequest);
+    }
+
+    /**
+     * Local provider that answers immediately, so only the layers above it are measured
+     */
+    private static class StubProvider extends LocalTranslationProvider {
+
+        StubProvider(BatchExecutor batchExecutor, LocalInferenceEngine inferenceEngine,
+                     InferenceScheduler inferenceScheduler) {
+            super(batchExecutor, inferenceEngine, inferenceScheduler);
+        }
+
+        @Override
+        public String translate(String text, String sourceLanguage, String targetLanguage) {
+            return text;
+        }
+
+        @Override
+        public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
+            return new ArrayList<>(texts);
+        }
+    }
+}
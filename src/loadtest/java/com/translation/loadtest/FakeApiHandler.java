@@ -0,0 +1,82 @@
+package com.translation.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Base of the fake upstream APIs: waits for a sampled latency, then answers with an injected
+ * 429 or 5xx at the configured rates, or with the API's normal response
+ */
+abstract class FakeApiHandler implements HttpHandler {
+
+    protected static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    private final double rateLimitRate;
+
+    final LongAdder requests = new LongAdder();
+    final LongAdder rateLimited = new LongAdder();
+    final LongAdder errors = new LongAdder();
+
+    FakeApiHandler(LatencyDistribution latency, double errorRate, double rateLimitRate) {
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.rateLimitRate = rateLimitRate;
+    }
+
+    /**
+     * Write the API's successful response
+     */
+    protected abstract void respond(HttpExchange exchange, byte[] body) throws IOException;
+
+    /**
+     * The API's error body for an injected failure
+     */
+    protected abstract Object errorBody(int status);
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        requests.increment();
+        try (exchange) {
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readAllBytes();
+            }
+            Thread.sleep(Math.max(0, latency.sampleMillis()));
+
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < rateLimitRate) {
+                rateLimited.increment();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendJson(exchange, 429, errorBody(429));
+            } else if (roll < rateLimitRate + errorRate) {
+                errors.increment();
+                sendJson(exchange, 503, errorBody(503));
+            } else {
+                respond(exchange, body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            errors.increment();
+            sendJson(exchange, 400, errorBody(400));
+        }
+    }
+
+    protected static void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] json = MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, json.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(json);
+        }
+    }
+}
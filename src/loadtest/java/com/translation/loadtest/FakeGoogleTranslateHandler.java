@@ -0,0 +1,95 @@
+package com.translation.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Google Cloud Translation v2 REST API: {@code /language/translate/v2} with repeated {@code q} plus
+ * {@code target} and {@code source} as query, form or JSON parameters, and {@code /language/translate/v2/languages}.
+ * Every text comes back as {@code "[target] text"}.
+ */
+class FakeGoogleTranslateHandler extends FakeApiHandler {
+
+    private static final List<Map<String, String>> LANGUAGES = List.of(
+        Map.of("language", "en", "name", "English"),
+        Map.of("language", "es", "name", "Spanish"),
+        Map.of("language", "fr", "name", "French"),
+        Map.of("language", "de", "name", "German"),
+        Map.of("language", "ja", "name", "Japanese")
+    );
+
+    FakeGoogleTranslateHandler(LatencyDistribution latency, double errorRate, double rateLimitRate) {
+        super(latency, errorRate, rateLimitRate);
+    }
+
+    @Override
+    protected void respond(HttpExchange exchange, byte[] body) throws IOException {
+        if (exchange.getRequestURI().getPath().endsWith("/languages")) {
+            sendJson(exchange, 200, Map.of("data", Map.of("languages", LANGUAGES)));
+            return;
+        }
+
+        Map<String, List<String>> params = new HashMap<>();
+        parseForm(exchange.getRequestURI().getRawQuery(), params);
+        if (body.length > 0) {
+            String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+            if (contentType != null && contentType.startsWith("application/json")) {
+                MAPPER.readTree(body).fields().forEachRemaining(field -> {
+                    List<String> values = params.computeIfAbsent(field.getKey(), name -> new ArrayList<>());
+                    if (field.getValue().isArray()) {
+                        field.getValue().forEach(value -> values.add(value.asText()));
+                    } else {
+                        values.add(field.getValue().asText());
+                    }
+                });
+            } else {
+                parseForm(new String(body, StandardCharsets.UTF_8), params);
+            }
+        }
+
+        List<String> texts = params.getOrDefault("q", List.of());
+        List<String> target = params.get("target");
+        if (texts.isEmpty() || target == null) {
+            throw new IllegalArgumentException("q and target are required");
+        }
+        List<Map<String, String>> translations = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            translations.add(Map.of(
+                "translatedText", "[" + target.get(0) + "] " + text,
+                "detectedSourceLanguage", params.getOrDefault("source", List.of("en")).get(0)
+            ));
+        }
+        sendJson(exchange, 200, Map.of("data", Map.of("translations", translations)));
+    }
+
+    @Override
+    protected Object errorBody(int status) {
+        String reason = status == 429 ? "rateLimitExceeded" : status == 400 ? "badRequest" : "backendError";
+        String message = "Injected " + reason;
+        return Map.of("error", Map.of(
+            "code", status,
+            "message", message,
+            "errors", List.of(Map.of("domain", "global", "reason", reason, "message", message))
+        ));
+    }
+
+    private static void parseForm(String encoded, Map<String, List<String>> params) {
+        if (encoded == null || encoded.isEmpty()) {
+            return;
+        }
+        for (String pair : encoded.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = URLDecoder.decode(separator < 0 ? pair : pair.substring(0, separator), StandardCharsets.UTF_8);
+            String value = separator < 0 ? "" : URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+            params.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.translation.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OpenAI REST API: {@code POST /v1/chat/completions} and {@code GET /v1/models/{id}}.
+ * A user message holding a JSON array of {@code {"id", "text"}} items (a packed batch) is answered
+ * item by item; any other message comes back as {@code "[translated] message"}.
+ */
+class FakeOpenAIHandler extends FakeApiHandler {
+
+    private static final String PREFIX = "[translated] ";
+
+    FakeOpenAIHandler(LatencyDistribution latency, double errorRate, double rateLimitRate) {
+        super(latency, errorRate, rateLimitRate);
+    }
+
+    @Override
+    protected void respond(HttpExchange exchange, byte[] body) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (path.startsWith("/v1/models/")) {
+            String id = path.substring("/v1/models/".length());
+            sendJson(exchange, 200, Map.of("id", id, "object", "model", "created", 0, "owned_by", "loadtest"));
+            return;
+        }
+        if (!path.equals("/v1/chat/completions")) {
+            sendJson(exchange, 404, errorBody(404));
+            return;
+        }
+
+        JsonNode request = MAPPER.readTree(body);
+        int promptChars = 0;
+        String content = "";
+        for (JsonNode message : request.path("messages")) {
+            promptChars += message.path("content").asText().length();
+            if ("user".equals(message.path("role").asText())) {
+                content = message.path("content").asText();
+            }
+        }
+        String reply = translate(content);
+        int promptTokens = promptChars / 4 + 8;
+        int completionTokens = reply.length() / 4 + 1;
+
+        sendJson(exchange, 200, Map.of(
+            "id", "chatcmpl-loadtest",
+            "object", "chat.completion",
+            "created", System.currentTimeMillis() / 1000,
+            "model", request.path("model").asText("gpt-3.5-turbo"),
+            "choices", List.of(Map.of(
+                "index", 0,
+                "message", Map.of("role", "assistant", "content", reply),
+                "finish_reason", "stop"
+            )),
+            "usage", Map.of(
+                "prompt_tokens", promptTokens,
+                "completion_tokens", completionTokens,
+                "total_tokens", promptTokens + completionTokens
+            )
+        ));
+    }
+
+    @Override
+    protected Object errorBody(int status) {
+        String code = status == 429 ? "rate_limit_exceeded" : status == 400 ? "invalid_request" : "server_error";
+        return Map.of("error", Map.of(
+            "message", "Injected " + code,
+            "type", status == 429 ? "requests" : "server_error",
+            "code", code
+        ));
+    }
+
+    private static String translate(String content) {
+        try {
+            JsonNode items = MAPPER.readTree(content);
+            if (items != null && items.isArray()) {
+                ArrayNode translated = MAPPER.createArrayNode();
+                for (JsonNode item : items) {
+                    translated.addObject()
+                        .put("id", item.path("id").asInt())
+                        .put("text", PREFIX + item.path("text").asText());
+                }
+                return MAPPER.writeValueAsString(translated);
+            }
+        } catch (IOException e) {
+            // Not a packed batch
+        }
+        return PREFIX + content;
+    }
+}
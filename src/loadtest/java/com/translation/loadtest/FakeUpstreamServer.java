@@ -0,0 +1,65 @@
+package com.translation.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local stand-in for the Google Translate v2 and OpenAI APIs with injected latency, 5xx errors and 429s.
+ * <pre>
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.main=com.translation.loadtest.FakeUpstreamServer \
+ *     -Dloadtest.args="--port=9090 --google-latency=lognormal:80:0.4 --openai-latency=lognormal:700:0.6 \
+ *     --error-rate=0.01 --rate-limit-rate=0.02"
+ * </pre>
+ * Run the service with {@code --spring.profiles.active=loadtest} to send both engines here.
+ */
+public class FakeUpstreamServer {
+
+    public static void main(String[] args) throws IOException {
+        Args options = new Args(args);
+        int port = options.getInt("port", 9090);
+        double errorRate = options.getDouble("error-rate", 0.0);
+        double rateLimitRate = options.getDouble("rate-limit-rate", 0.0);
+        String latency = options.get("latency", null);
+        LatencyDistribution googleLatency = LatencyDistribution.parse(
+            options.get("google-latency", latency != null ? latency : "lognormal:80:0.4"));
+        LatencyDistribution openaiLatency = LatencyDistribution.parse(
+            options.get("openai-latency", latency != null ? latency : "lognormal:700:0.6"));
+
+        FakeApiHandler google = new FakeGoogleTranslateHandler(googleLatency, errorRate, rateLimitRate);
+        FakeApiHandler openai = new FakeOpenAIHandler(openaiLatency, errorRate, rateLimitRate);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 4096);
+        server.createContext("/language/translate/v2", google);
+        server.createContext("/v1/", openai);
+        // Requests sleep for their latency, so every in-flight request needs its own thread
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        System.out.printf("Fake upstream listening on http://localhost:%d (error rate %.3f, 429 rate %.3f)%n",
+            port, errorRate, rateLimitRate);
+
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fake-upstream-report");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reporter.scheduleAtFixedRate(() -> {
+            report("google", google);
+            report("openai", openai);
+        }, 10, 10, TimeUnit.SECONDS);
+    }
+
+    private static void report(String name, FakeApiHandler handler) {
+        long requests = handler.requests.sumThenReset();
+        long rateLimited = handler.rateLimited.sumThenReset();
+        long errors = handler.errors.sumThenReset();
+        if (requests > 0) {
+            System.out.printf("%-6s %6d requests in 10s (%d rate limited, %d errors)%n",
+                name, requests, rateLimited, errors);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.translation.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Closed-loop load driver for {@code POST /api/translate/} and {@code POST /api/translate/batch}: at each
+ * concurrency level, that many clients send requests back to back for {@code duration-s} seconds after a
+ * {@code warmup-s} warm-up. Texts are drawn from {@code distinct-texts} different sentences, so the share
+ * of cache hits can be controlled. Prints one line per step and writes {@code results.csv} and
+ * {@code report.md} to {@code out}.
+ * <pre>
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--base-url=http://localhost:8080 \
+ *     --endpoints=translate,batch --concurrency=1,2,4,8,16,32,64,128 --duration-s=20 --batch-size=16"
+ * </pre>
+ */
+public class LoadTestDriver {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private static final String[] WORDS = {
+        "annual", "billing", "customer", "delivery", "quarterly", "security", "marketing", "product",
+        "shipping", "payroll", "support", "vendor", "travel", "budget", "hiring", "release",
+        "north", "south", "east", "west", "central", "global", "regional", "local",
+        "draft", "final", "revised", "pending", "approved", "archived", "shared", "private",
+        "blue", "green", "red", "silver", "golden", "bright", "quiet", "rapid",
+        "morning", "evening", "weekly", "monthly", "daily", "urgent", "routine", "special",
+        "garden", "kitchen", "office", "studio", "harbor", "market", "library", "station",
+        "river", "mountain", "forest", "valley", "island", "desert", "meadow", "canyon"
+    };
+
+    private static final String[] TEMPLATES = {
+        "Please review the %s %s %s report before the meeting.",
+        "Your %s order from the %s %s store has shipped.",
+        "The %s %s files were moved to the %s folder.",
+        "We could not reach the %s %s team about the %s request."
+    };
+
+    public static void main(String[] args) throws Exception {
+        Args options = new Args(args);
+        String baseUrl = options.get("base-url", "http://localhost:8080");
+        List<String> endpoints = Arrays.asList(options.get("endpoints", "translate,batch").split(","));
+        int[] concurrencyLevels = Arrays.stream(options.get("concurrency", "1,2,4,8,16,32,64,128").split(","))
+            .mapToInt(Integer::parseInt)
+            .toArray();
+        Duration warmup = Duration.ofSeconds(options.getInt("warmup-s", 5));
+        Duration duration = Duration.ofSeconds(options.getInt("duration-s", 20));
+        int batchSize = options.getInt("batch-size", 16);
+        int distinctTexts = options.getInt("distinct-texts", 100_000);
+        String sourceLanguage = options.get("source", "en");
+        String targetLanguage = options.get("target", "es");
+        Path out = Path.of(options.get("out", "target/loadtest"));
+
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "loadtest-http");
+                thread.setDaemon(true);
+                return thread;
+            }))
+            .build();
+
+        List<StepResult> results = new ArrayList<>();
+        System.out.println(StepResult.HEADER);
+        for (String endpoint : endpoints) {
+            Workload workload = workload(baseUrl, endpoint.trim(), batchSize, distinctTexts,
+                sourceLanguage, targetLanguage);
+            for (int concurrency : concurrencyLevels) {
+                run(client, workload, concurrency, warmup);
+                StepResult result = run(client, workload, concurrency, duration);
+                results.add(result);
+                System.out.println(result.line());
+            }
+        }
+        writeReports(out, results, baseUrl, duration, batchSize, distinctTexts);
+        System.out.println("Reports written to " + out.toAbsolutePath());
+    }
+
+    private static Workload workload(String baseUrl, String endpoint, int batchSize, int distinctTexts,
+                                     String sourceLanguage, String targetLanguage) {
+        switch (endpoint) {
+            case "translate":
+                return new Workload(endpoint, URI.create(baseUrl + "/api/translate/"), 1, () -> json(Map.of(
+                    "text", text(distinctTexts),
+                    "sourceLanguage", sourceLanguage,
+                    "targetLanguage", targetLanguage)));
+            case "batch":
+                return new Workload(endpoint, URI.create(baseUrl + "/api/translate/batch"), batchSize, () -> {
+                    List<String> texts = new ArrayList<>(batchSize);
+                    for (int i = 0; i < batchSize; i++) {
+                        texts.add(text(distinctTexts));
+                    }
+                    return json(Map.of(
+                        "texts", texts,
+                        "sourceLanguage", sourceLanguage,
+                        "targetLanguage", targetLanguage));
+                });
+            default:
+                throw new IllegalArgumentException("Unknown endpoint: " + endpoint + " (expected translate or batch)");
+        }
+    }
+
+    /**
+     * One of up to 4 x 64^3 distinct sentences, without digits so translation memory cannot
+     * match them as variants of each other
+     */
+    private static String text(int distinctTexts) {
+        int i = ThreadLocalRandom.current().nextInt(distinctTexts);
+        int words = WORDS.length;
+        return String.format(TEMPLATES[(i / (words * words * words)) % TEMPLATES.length],
+            WORDS[i % words], WORDS[(i / words) % words], WORDS[(i / (words * words)) % words]);
+    }
+
+    private static String json(Object body) {
+        try {
+            return MAPPER.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static StepResult run(HttpClient client, Workload workload, int concurrency, Duration duration)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        List<Client> clients = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            Client loadClient = new Client(client, workload, deadline);
+            Thread thread = new Thread(loadClient, "loadtest-client-" + i);
+            clients.add(loadClient);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        int completed = clients.stream().mapToInt(loadClient -> loadClient.count).sum();
+        long[] latencies = new long[completed];
+        int offset = 0;
+        Map<String, Integer> errors = new TreeMap<>();
+        for (Client loadClient : clients) {
+            System.arraycopy(loadClient.latencies, 0, latencies, offset, loadClient.count);
+            offset += loadClient.count;
+            loadClient.errors.forEach((status, count) -> errors.merge(status, count, Integer::sum));
+        }
+        Arrays.sort(latencies);
+        return new StepResult(workload.name(), concurrency, seconds, workload.textsPerRequest(), latencies, errors);
+    }
+
+    private static void writeReports(Path out, List<StepResult> results, String baseUrl, Duration duration,
+                                     int batchSize, int distinctTexts) throws IOException {
+        Files.createDirectories(out);
+        List<String> csv = new ArrayList<>();
+        csv.add("endpoint,concurrency,requests,errors,requests_per_s,texts_per_s,p50_ms,p90_ms,p99_ms,p999_ms,max_ms");
+        results.forEach(result -> csv.add(result.csv()));
+        Files.write(out.resolve("results.csv"), csv);
+
+        StringBuilder report = new StringBuilder("# Load test report\n\n")
+            .append(String.format("Target %s, %ds per step, batch size %d, %d distinct texts.%n",
+                baseUrl, duration.toSeconds(), batchSize, distinctTexts));
+        Map<String, List<StepResult>> byEndpoint = results.stream()
+            .collect(Collectors.groupingBy(StepResult::endpoint, TreeMap::new, Collectors.toList()));
+        byEndpoint.forEach((endpoint, steps) -> {
+            StepResult peak = steps.stream()
+                .max((a, b) -> Double.compare(a.requestsPerSecond(), b.requestsPerSecond()))
+                .orElseThrow();
+            report.append(String.format("%n## %s%n%nPeak %.1f req/s (%.1f texts/s) at concurrency %d, p99 %.1f ms.%n%n",
+                endpoint, peak.requestsPerSecond(), peak.textsPerSecond(), peak.concurrency(), peak.percentileMs(99)));
+            report.append("| Concurrency | Requests | Errors | req/s | texts/s | p50 ms | p90 ms | p99 ms | p99.9 ms | max ms |\n");
+            report.append("|---:|---:|---|---:|---:|---:|---:|---:|---:|---:|\n");
+            steps.forEach(step -> report.append(step.markdown()).append('\n'));
+        });
+        Files.writeString(out.resolve("report.md"), report);
+    }
+
+    private record Workload(String name, URI uri, int textsPerRequest, Supplier<String> body) {
+    }
+
+    /**
+     * One simulated user: sends the next request as soon as the previous one completes
+     */
+    private static class Client implements Runnable {
+        private final HttpClient httpClient;
+        private final Workload workload;
+        private final long deadline;
+        private final Map<String, Integer> errors = new TreeMap<>();
+        private long[] latencies = new long[1024];
+        private int count;
+
+        Client(HttpClient httpClient, Workload workload, long deadline) {
+            this.httpClient = httpClient;
+            this.workload = workload;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void run() {
+            while (System.nanoTime() < deadline) {
+                HttpRequest request = HttpRequest.newBuilder(workload.uri())
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(workload.body().get()))
+                    .build();
+                long start = System.nanoTime();
+                String error;
+                try {
+                    int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    error = status / 100 == 2 ? null : String.valueOf(status);
+                } catch (IOException e) {
+                    error = e.getClass().getSimpleName();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long latency = System.nanoTime() - start;
+                if (error != null) {
+                    errors.merge(error, 1, Integer::sum);
+                } else {
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = latency;
+                }
+            }
+        }
+    }
+
+    /**
+     * Outcome of one endpoint at one concurrency level; latencies are of successful requests, sorted
+     */
+    private record StepResult(String endpoint, int concurrency, double seconds, int textsPerRequest,
+                              long[] latencies, Map<String, Integer> errors) {
+
+        static final String HEADER = String.format("%-10s %6s %9s %8s %9s %9s %8s %8s %8s %8s",
+            "endpoint", "conc", "requests", "errors", "req/s", "texts/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+
+        double requestsPerSecond() {
+            return latencies.length / seconds;
+        }
+
+        double textsPerSecond() {
+            return requestsPerSecond() * textsPerRequest;
+        }
+
+        int errorCount() {
+            return errors.values().stream().mapToInt(Integer::intValue).sum();
+        }
+
+        double percentileMs(double percentile) {
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+            return latencies[Math.max(0, Math.min(index, latencies.length - 1))] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        String line() {
+            return String.format("%-10s %6d %9d %8d %9.1f %9.1f %8.1f %8.1f %8.1f %8.1f%s",
+                endpoint, concurrency, latencies.length, errorCount(), requestsPerSecond(), textsPerSecond(),
+                percentileMs(50), percentileMs(90), percentileMs(99), percentileMs(100),
+                errors.isEmpty() ? "" : "  " + errors);
+        }
+
+        String csv() {
+            return String.format("%s,%d,%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f",
+                endpoint, concurrency, latencies.length, errorCount(), requestsPerSecond(), textsPerSecond(),
+                percentileMs(50), percentileMs(90), percentileMs(99), percentileMs(99.9), percentileMs(100));
+        }
+
+        String markdown() {
+            String errorSummary = errors.isEmpty() ? "0" : errors.entrySet().stream()
+                .map(entry -> entry.getKey() + ": " + entry.getValue())
+                .collect(Collectors.joining(", "));
+            return String.format("| %d | %d | %s | %.1f | %.1f | %.1f | %.1f | %.1f | %.1f | %.1f |",
+                concurrency, latencies.length, errorSummary, requestsPerSecond(), textsPerSecond(),
+                percentileMs(50), percentileMs(90), percentileMs(99), percentileMs(99.9), percentileMs(100));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.translation.cache;
+
+import com.translation.exception.TranslationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight deduplication of identical in-flight translations.
+ * The first caller for a key performs the upstream call; concurrent callers
+ * for the same key wait for and share its result (or its failure).
+ */
+@Slf4j
+@Component
+public class RequestCoalescer {
+
+    private final ConcurrentHashMap<TranslationKey, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder upstreamCalls = new LongAdder();
+    private final LongAdder coalescedRequests = new LongAdder();
+
+    public String execute(TranslationKey key, Supplier<String> upstreamCall) {
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalescedRequests.increment();
+            log.debug("Coalesced translation request: {} -> {}", key.sourceLanguage(), key.targetLanguage());
+            return await(existing);
+        }
+
+        upstreamCalls.increment();
+        try {
+            String result = upstreamCall.get();
+            created.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * Requests that performed an upstream call
+     */
+    public long getUpstreamCalls() {
+        return upstreamCalls.sum();
+    }
+
+    /**
+     * Requests that shared another request's upstream call
+     */
+    public long getCoalescedRequests() {
+        return coalescedRequests.sum();
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    private static String await(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new TranslationException(
+                "Translation failed: " + e.getMessage(),
+                HttpStatus.SERVICE_UNAVAILABLE
+            );
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.translation.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.translation.config.TranslationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Bounded in-process cache of completed translations.
+ * Entries expire after {@code translation.api.cache-ttl} seconds and are evicted
+ * once the cached characters exceed {@code translation.api.cache-max-weight}.
+ */
+@Slf4j
+@Component
+public class TranslationCache {
+
+    private final boolean enabled;
+    private final Cache<TranslationKey, String> cache;
+
+    public TranslationCache(TranslationProperties properties) {
+        TranslationProperties.ApiConfig api = properties.getApi();
+        this.enabled = Boolean.TRUE.equals(api.getCacheEnabled());
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(api.getCacheMaxWeight())
+            .weigher((TranslationKey key, String value) -> key.weight() + value.length())
+            .expireAfterWrite(Duration.ofSeconds(api.getCacheTtl()))
+            .recordStats()
+            .build();
+        log.info("Translation cache initialized (enabled: {}, ttl: {}s, max weight: {} chars)",
+            enabled, api.getCacheTtl(), api.getCacheMaxWeight());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String get(TranslationKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(TranslationKey key, String translatedText) {
+        if (translatedText != null) {
+            cache.put(key, translatedText);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
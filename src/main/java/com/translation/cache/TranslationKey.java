@@ -0,0 +1,85 @@
+package com.translation.cache;
+
+import java.text.Normalizer;
+
+/**
+ * Identity of a translation: engine, language pair and normalized text.
+ * Two requests that only differ by surrounding whitespace or repeated spaces map to the same key,
+ * so translations shared under a key are stored stripped and given back the caller's own
+ * surrounding whitespace with {@link #withWhitespaceOf}.
+ */
+public record TranslationKey(String engine, String sourceLanguage, String targetLanguage, String text) {
+
+    /**
+     * Approximate per-entry overhead (object headers, language codes) in characters
+     */
+    private static final int ENTRY_OVERHEAD = 32;
+
+    public static TranslationKey of(String engine, String sourceLanguage, String targetLanguage, String text) {
+        return new TranslationKey(engine, sourceLanguage, targetLanguage, normalize(text));
+    }
+
+    /**
+     * Weight of the key in characters, used for size-bounded eviction
+     */
+    public int weight() {
+        return text.length() + ENTRY_OVERHEAD;
+    }
+
+    /**
+     * {@code translation}, stripped, with the leading and trailing whitespace of {@code source};
+     * a blank source is returned as it is
+     */
+    public static String withWhitespaceOf(String source, String translation) {
+        if (translation == null) {
+            return null;
+        }
+        int start = 0;
+        while (start < source.length() && Character.isWhitespace(source.charAt(start))) {
+            start++;
+        }
+        if (start == source.length()) {
+            return source;
+        }
+        int end = source.length();
+        while (Character.isWhitespace(source.charAt(end - 1))) {
+            end--;
+        }
+        String stripped = translation.strip();
+        if (start == 0 && end == source.length()) {
+            return stripped;
+        }
+        return source.substring(0, start) + stripped + source.substring(end);
+    }
+
+    /**
+     * NFC-normalize, strip, and collapse runs of spaces to one. Newlines and tabs are kept,
+     * since they are formatting the translation has to preserve.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String nfc = Normalizer.isNormalized(text, Normalizer.Form.NFC)
+            ? text
+            : Normalizer.normalize(text, Normalizer.Form.NFC);
+        String stripped = nfc.strip();
+
+        StringBuilder sb = null;
+        boolean previousSpace = false;
+        for (int i = 0; i < stripped.length(); i++) {
+            char c = stripped.charAt(i);
+            boolean space = c == ' ';
+            if (space && previousSpace) {
+                if (sb == null) {
+                    sb = new StringBuilder(stripped.length());
+                    sb.append(stripped, 0, i);
+                }
+            } else if (sb != null) {
+                sb.append(c);
+            }
+            previousSpace = space;
+        }
+        return sb == null ? stripped : sb.toString();
+    }
+}
@@ -0,0 +1,46 @@
+package com.translation.config;
+
+import com.translation.tracing.TraceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Dedicated executor for translation requests, so upstream calls run off the
+ * servlet container's worker threads and cheap endpoints stay responsive.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AsyncWebConfig implements WebMvcConfigurer {
+    
+    private final TranslationProperties properties;
+    
+    @Bean
+    public ThreadPoolTaskExecutor translationRequestExecutor() {
+        TranslationProperties.RequestExecutorConfig config = properties.getRequestExecutor();
+        
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("translate-");
+        executor.setCorePoolSize(config.getPoolSize());
+        executor.setMaxPoolSize(config.getPoolSize());
+        executor.setQueueCapacity(config.getQueueCapacity());
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setTaskDecorator(TraceContext::wrap);
+        executor.initialize();
+        
+        log.info("Translation request executor initialized (pool size: {}, queue capacity: {})",
+            config.getPoolSize(), config.getQueueCapacity());
+        return executor;
+    }
+    
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(properties.getRequestExecutor().getRequestTimeoutMs());
+        configurer.setTaskExecutor(translationRequestExecutor());
+    }
+}
@@ -4,6 +4,11 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Data
 @Component
 @ConfigurationProperties(prefix = "translation")
@@ -14,27 +19,89 @@ public class TranslationProperties {
     private GoogleConfig google = new GoogleConfig();
     private OpenaiConfig openai = new OpenaiConfig();
     private LocalConfig local = new LocalConfig();
+    private TokenizerConfig tokenizer = new TokenizerConfig();
     private ApiConfig api = new ApiConfig();
+    private BatchConfig batch = new BatchConfig();
+    private MicroBatchConfig microBatch = new MicroBatchConfig();
+    private RequestExecutorConfig requestExecutor = new RequestExecutorConfig();
+    private DocumentConfig document = new DocumentConfig();
+    private JobsConfig jobs = new JobsConfig();
+    private MemoryConfig memory = new MemoryConfig();
+    private RoutingConfig routing = new RoutingConfig();
+    private HedgingConfig hedging = new HedgingConfig();
+    private ResilienceConfig resilience = new ResilienceConfig();
+    private RateLimitConfig rateLimit = new RateLimitConfig();
+    private HealthConfig health = new HealthConfig();
+    private TracingConfig tracing = new TracingConfig();
     
     @Data
     public static class GoogleConfig {
         private String projectId;
         private String credentialsPath;
+        /**
+         * Translate v2 API endpoint; unset uses Google's. Load tests point it at the fake upstream.
+         */
+        private String baseUrl;
+        /**
+         * API key; unset uses the application default credentials
+         */
+        private String apiKey;
+        private Integer maxSegmentsPerRequest = 128;
+        private Integer maxCharsPerRequest = 30000;
     }
     
     @Data
     public static class OpenaiConfig {
         private String apiKey;
+        /**
+         * API root, e.g. {@code https://api.openai.com/}; unset uses OpenAI's
+         */
+        private String baseUrl;
         private String model = "gpt-3.5-turbo";
+        private Integer maxTokens = 2048;
+        private Boolean packedBatchEnabled = true;
+        private Integer maxSegmentsPerPack = 40;
     }
     
     @Data
     public static class LocalConfig {
         private String modelName = "facebook/nllb-200-distilled-600M";
-        private String device = "cuda";
+        /**
+         * Directory of the ONNX export of {@code modelName} (encoder, decoders and tokenizer.json)
+         */
+        private String modelPath = "./models/nllb-200-distilled-600M";
+        private String device = "cpu";
+        /**
+         * float32, float16 or int8; the reduced precisions load the {@code _fp16} / {@code _quantized} model files
+         */
         private String precision = "float32";
+        /**
+         * Map ORT-format ({@code .ort}) model files read-only instead of copying their weights
+         */
+        private Boolean memoryMap = true;
         private Integer batchSize = 8;
         private Integer maxLength = 512;
+        /**
+         * Batches run concurrently; defaults to available cores / {@code intraOpThreads}
+         */
+        private Integer workers;
+        private Integer intraOpThreads = 1;
+        /**
+         * Longest a queued segment waits for its batch to fill before it runs anyway
+         */
+        private Long maxBatchDelayMs = 10L;
+    }
+    
+    @Data
+    public static class TokenizerConfig {
+        /**
+         * SentencePiece {@code tokenizer.json} used to count tokens; defaults to the local model's
+         */
+        private String path;
+        /**
+         * Max characters of text whose token counts are cached
+         */
+        private Long cacheMaxWeight = 5_000_000L;
     }
     
     @Data
@@ -43,5 +110,204 @@ public class TranslationProperties {
         private Integer maxBatchSize = 100;
         private Boolean cacheEnabled = true;
         private Integer cacheTtl = 3600;
+        private Long cacheMaxWeight = 20_000_000L;
+        private Boolean coalescingEnabled = true;
+        private Boolean maskingEnabled = false;
+    }
+    
+    @Data
+    public static class BatchConfig {
+        private Integer maxInFlight = 8;
+        private Long itemTimeoutMs = 30000L;
+        private Integer streamChunkSize = 8;
+    }
+    
+    @Data
+    public static class MicroBatchConfig {
+        private Boolean enabled = false;
+        private Long maxWaitMs = 5L;
+        /**
+         * Defaults to {@code translation.local.batch-size} when unset
+         */
+        private Integer maxBatchSize;
+    }
+    
+    @Data
+    public static class RequestExecutorConfig {
+        private Integer poolSize = 256;
+        private Integer queueCapacity = 2000;
+        private Long requestTimeoutMs = 60000L;
+    }
+    
+    @Data
+    public static class DocumentConfig {
+        private Integer maxChunkChars = 2000;
+        private Integer maxInFlightChunks = 8;
+    }
+    
+    @Data
+    public static class JobsConfig {
+        private String storePath = "./data/jobs";
+        private String importDir = "./data/imports";
+        private Integer batchSize = 50;
+        private Double itemsPerSecond = 50.0;
+        private Integer maxConcurrentJobs = 2;
+        private Integer maxAttempts = 5;
+        private Long retryDelayMs = 5000L;
+        private Integer maxItems = 1_000_000;
+        /**
+         * Finished jobs and their files are deleted this long after their last update; 0 keeps them
+         */
+        private Integer retentionHours = 168;
+    }
+    
+    @Data
+    public static class MemoryConfig {
+        private Boolean enabled = false;
+        private String path = "./data/memory/translations.ndjson";
+        private Long reloadIntervalMs = 5000L;
+        private Boolean fuzzyEnabled = true;
+        private Integer writeQueueCapacity = 10000;
+        private Integer maxEntries = 100_000;
+    }
+    
+    @Data
+    public static class RoutingConfig {
+        private Boolean enabled = false;
+        /**
+         * Default traffic weights per engine (google, openai, local); 0 or absent excludes an engine
+         */
+        private Map<String, Integer> weights = new LinkedHashMap<>();
+        /**
+         * Per language pair overrides of {@code weights}
+         */
+        private List<Route> routes = new ArrayList<>();
+        private Double ewmaAlpha = 0.2;
+        private Double explorationRate = 0.05;
+        /**
+         * Whether the routing table may be replaced through the API, which has no authentication
+         */
+        private Boolean updatesEnabled = false;
+        
+        @Data
+        public static class Route {
+            private String sourceLanguage = "*";
+            private String targetLanguage = "*";
+            private Map<String, Integer> weights = new LinkedHashMap<>();
+        }
+    }
+    
+    @Data
+    public static class HedgingConfig {
+        private Boolean enabled = false;
+        /**
+         * Latency percentile of the provider after which a hedge is sent
+         */
+        private Double percentile = 95.0;
+        private Long minDelayMs = 20L;
+        /**
+         * Delay used until {@code minSamples} latencies have been observed
+         */
+        private Long initialDelayMs = 1000L;
+        private Integer minSamples = 50;
+        /**
+         * Upper bound on hedges as a share of requests
+         */
+        private Double maxHedgeRatio = 0.05;
+        /**
+         * Engine that receives hedges; unset hedges to the same provider
+         */
+        private String alternateEngine;
+    }
+    
+    @Data
+    public static class ResilienceConfig {
+        /**
+         * Circuit breaker and bulkhead per engine provider
+         */
+        private Boolean enabled = true;
+        private Float failureRateThreshold = 50.0f;
+        private Float slowCallRateThreshold = 80.0f;
+        private Long slowCallDurationMs = 10000L;
+        private Integer slidingWindowSize = 50;
+        private Integer minimumNumberOfCalls = 20;
+        private Long waitInOpenStateMs = 30000L;
+        private Integer permittedCallsInHalfOpenState = 5;
+        /**
+         * Concurrent calls allowed per provider: upstream requests for Google and OpenAI (calls waiting
+         * for their rate limit hold no slot), provider calls for the local engine, where a batch counts as one
+         */
+        private Integer maxConcurrentCalls = 64;
+        private Long maxWaitMs = 0L;
+        /**
+         * Engines tried in order when the configured engine fails, e.g. [openai, local]
+         */
+        private List<String> fallbackChain = new ArrayList<>();
+    }
+    
+    @Data
+    public static class RateLimitConfig {
+        private Boolean enabled = true;
+        /**
+         * Longest a call may queue for its provider's limits before it is rejected with 429
+         */
+        private Long maxQueueWaitMs = 10000L;
+        /**
+         * Attempts per upstream call when the provider answers 429 or 5xx
+         */
+        private Integer maxAttempts = 4;
+        private Long initialBackoffMs = 250L;
+        private Long maxBackoffMs = 8000L;
+        /**
+         * Limits per engine (google, openai); engines without an entry are not paced
+         */
+        private Map<String, Limit> providers = new LinkedHashMap<>();
+        
+        @Data
+        public static class Limit {
+            private Double requestsPerSecond;
+            /**
+             * Characters per minute for Google; tokens per minute for OpenAI (prompt plus reply cap)
+             */
+            private Long unitsPerMinute;
+        }
+    }
+    
+    @Data
+    public static class HealthConfig {
+        /**
+         * How often the cached provider health is recomputed
+         */
+        private Long refreshIntervalMs = 5000L;
+        /**
+         * Engines without enough live traffic are probed at most this often
+         */
+        private Long probeIntervalMs = 30000L;
+        private Long probeTimeoutMs = 5000L;
+        /**
+         * Live calls are counted over this trailing window
+         */
+        private Long windowMs = 60000L;
+        /**
+         * Live calls in the window needed before traffic, rather than probes, decides an engine's health
+         */
+        private Integer minimumCalls = 10;
+        /**
+         * % of failed live calls at which an engine is reported down
+         */
+        private Double failureRateThreshold = 50.0;
+    }
+    
+    @Data
+    public static class TracingConfig {
+        /**
+         * Fraction of requests without an incoming traceparent that are sampled: their request line
+         * and upstream spans are logged
+         */
+        private Double sampleRate = 0.01;
+        /**
+         * Requests slower than this are logged even when not sampled
+         */
+        private Long slowRequestMs = 2000L;
     }
 }
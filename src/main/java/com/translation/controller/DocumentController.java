@@ -0,0 +1,80 @@
+package com.translation.controller;
+
+import com.translation.integration.TranslationProvider;
+import com.translation.service.DocumentTranslationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/translate/document")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class DocumentController {
+
+    private final DocumentTranslationService documentTranslationService;
+
+    /**
+     * Translate a document sent as the raw request body (UTF-8); the translation is streamed back
+     */
+    @PostMapping(consumes = {MediaType.TEXT_PLAIN_VALUE, MediaType.TEXT_HTML_VALUE, MediaType.TEXT_MARKDOWN_VALUE})
+    public ResponseEntity<StreamingResponseBody> translateDocument(
+            @RequestParam String sourceLanguage,
+            @RequestParam String targetLanguage,
+            @RequestParam(defaultValue = "false") boolean bypassCache,
+            @RequestHeader(value = "Content-Type", defaultValue = MediaType.TEXT_PLAIN_VALUE) MediaType contentType,
+            InputStream body) {
+        log.info("Document translation request: {} -> {}", sourceLanguage, targetLanguage);
+        return stream(body, contentType, sourceLanguage, targetLanguage, bypassCache);
+    }
+
+    /**
+     * Translate an uploaded document file (UTF-8); the translation is streamed back
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StreamingResponseBody> translateDocumentFile(
+            @RequestParam String sourceLanguage,
+            @RequestParam String targetLanguage,
+            @RequestParam(defaultValue = "false") boolean bypassCache,
+            @RequestPart("file") MultipartFile file) throws IOException {
+        log.info("Document file translation request: {} ({} bytes), {} -> {}",
+            file.getOriginalFilename(), file.getSize(), sourceLanguage, targetLanguage);
+        MediaType contentType = file.getContentType() != null
+            ? MediaType.parseMediaType(file.getContentType())
+            : MediaType.TEXT_PLAIN;
+        return stream(file.getInputStream(), contentType, sourceLanguage, targetLanguage, bypassCache);
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(InputStream body, MediaType contentType,
+                                                         String sourceLanguage, String targetLanguage,
+                                                         boolean bypassCache) {
+        TranslationProvider provider =
+            documentTranslationService.resolveProvider(sourceLanguage, targetLanguage, !bypassCache);
+
+        StreamingResponseBody response = outputStream -> {
+            try (Reader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+                documentTranslationService.translateDocument(provider, reader, writer, sourceLanguage, targetLanguage);
+            }
+        };
+
+        return ResponseEntity.ok()
+            .contentType(new MediaType(contentType, StandardCharsets.UTF_8))
+            .body(response);
+    }
+}
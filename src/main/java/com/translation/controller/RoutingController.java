@@ -0,0 +1,50 @@
+package com.translation.controller;
+
+import com.translation.config.TranslationProperties;
+import com.translation.dto.RoutingTableRequest;
+import com.translation.dto.RoutingTableResponse;
+import com.translation.exception.TranslationException;
+import com.translation.routing.ProviderRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/translate/routing")
+@RequiredArgsConstructor
+public class RoutingController {
+
+    private final ProviderRouter providerRouter;
+    private final TranslationProperties properties;
+
+    /**
+     * Current routing table with observed per-provider latency and error rates
+     */
+    @GetMapping
+    @CrossOrigin(origins = "*")
+    public ResponseEntity<RoutingTableResponse> getRouting() {
+        return ResponseEntity.ok(providerRouter.describe());
+    }
+
+    /**
+     * Replace the routing table at runtime; same-origin only, and refused unless
+     * {@code routing.updates-enabled} is set, since it changes where all traffic goes
+     */
+    @PutMapping
+    public ResponseEntity<RoutingTableResponse> updateRouting(@Valid @RequestBody RoutingTableRequest request) {
+        if (!Boolean.TRUE.equals(properties.getRouting().getUpdatesEnabled())) {
+            throw new TranslationException(
+                "Routing updates are disabled (translation.routing.updates-enabled)",
+                HttpStatus.FORBIDDEN,
+                "ROUTING_UPDATES_DISABLED"
+            );
+        }
+        log.info("Routing table update requested: weights {}", request.getWeights());
+        return ResponseEntity.ok(providerRouter.update(request));
+    }
+}
@@ -1,16 +1,24 @@
 package com.translation.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translation.config.TranslationProperties;
 import com.translation.dto.*;
 import com.translation.service.TranslationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -20,36 +28,75 @@ import java.util.Map;
 public class TranslationController {
     
     private final TranslationService translationService;
+    private final TranslationProperties properties;
+    private final ObjectMapper objectMapper;
     
     /**
-     * Translate single text
+     * Translate single text (completes asynchronously, releasing the servlet thread)
      */
     @PostMapping("/")
-    public ResponseEntity<TranslateResponse> translate(@Valid @RequestBody TranslateRequest request) {
-        log.info("Translation request: {} -> {}",
+    public CompletableFuture<ResponseEntity<TranslateResponse>> translate(@Valid @RequestBody TranslateRequest request) {
+        log.debug("Translation request: {} -> {}",
             request.getSourceLanguage(), request.getTargetLanguage());
-        try {
-            TranslateResponse response = translationService.translate(request);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("Translation failed: {}", e.getMessage());
-            throw e;
-        }
+        return translationService.translateAsync(request)
+            .whenComplete((response, e) -> {
+                if (e != null) {
+                    log.error("Translation failed: {}", e.getMessage());
+                }
+            })
+            .thenApply(ResponseEntity::ok);
     }
     
     /**
-     * Batch translate multiple texts
+     * Batch translate multiple texts (completes asynchronously, releasing the servlet thread)
      */
     @PostMapping("/batch")
-    public ResponseEntity<BatchTranslateResponse> batchTranslate(@Valid @RequestBody BatchTranslateRequest request) {
-        log.info("Batch translation request: {} texts, {} -> {}",
-            request.getTexts().size(), request.getSourceLanguage(), request.getTargetLanguage());
+    public CompletableFuture<ResponseEntity<BatchTranslateResponse>> batchTranslate(
+            @Valid @RequestBody BatchTranslateRequest request) {
+        if (log.isDebugEnabled()) {
+            log.debug("Batch translation request: {} texts, {} -> {}",
+                request.getTexts().size(), request.getSourceLanguage(), request.getTargetLanguage());
+        }
+        return translationService.batchTranslateAsync(request)
+            .whenComplete((response, e) -> {
+                if (e != null) {
+                    log.error("Batch translation failed: {}", e.getMessage());
+                }
+            })
+            .thenApply(ResponseEntity::ok);
+    }
+    
+    /**
+     * Batch translate, streaming each item as one NDJSON line as soon as it completes
+     */
+    @PostMapping(value = "/batch/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> batchTranslateStream(@Valid @RequestBody BatchTranslateRequest request) {
+        if (log.isDebugEnabled()) {
+            log.debug("Streaming batch translation request: {} texts, {} -> {}",
+                request.getTexts().size(), request.getSourceLanguage(), request.getTargetLanguage());
+        }
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(properties.getRequestExecutor().getRequestTimeoutMs());
+        
+        translationService.streamBatchTranslate(request, item -> sendLine(emitter, item))
+            .whenComplete((done, e) -> {
+                if (e != null) {
+                    log.error("Streaming batch translation failed: {}", e.getMessage());
+                    emitter.completeWithError(e);
+                } else {
+                    emitter.complete();
+                }
+            });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+    }
+    
+    private void sendLine(ResponseBodyEmitter emitter, BatchTranslateItem item) {
         try {
-            BatchTranslateResponse response = translationService.batchTranslate(request);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("Batch translation failed: {}", e.getMessage());
-            throw e;
+            byte[] json = objectMapper.writeValueAsBytes(item);
+            byte[] line = Arrays.copyOf(json, json.length + 1);
+            line[json.length] = '\n';
+            emitter.send(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to stream batch item " + item.getIndex(), e);
         }
     }
     
@@ -58,7 +105,7 @@ public class TranslationController {
      */
     @GetMapping("/languages")
     public ResponseEntity<SupportedLanguagesResponse> getLanguages() {
-        log.info("Fetching supported languages");
+        log.debug("Fetching supported languages");
         try {
             SupportedLanguagesResponse response = translationService.getSupportedLanguages();
             return ResponseEntity.ok(response);
@@ -69,11 +116,19 @@ public class TranslationController {
     }
     
     /**
-     * Health check
+     * Translation cache statistics
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(translationService.getCacheStats());
+    }
+    
+    /**
+     * Health check, answered from the cached provider health
      */
     @GetMapping("/health")
     public ResponseEntity<HealthCheckResponse> healthCheck() {
-        log.info("Health check requested");
+        log.debug("Health check requested");
         try {
             HealthCheckResponse response = translationService.healthCheck();
             if (response.getHealthy()) {
@@ -87,6 +142,27 @@ public class TranslationController {
         }
     }
     
+    /**
+     * Liveness probe: the process is responsive; does not depend on the providers
+     */
+    @GetMapping("/health/live")
+    public ResponseEntity<Map<String, String>> liveness() {
+        return probeResponse(translationService.isLive());
+    }
+    
+    /**
+     * Readiness probe: at least one serving engine is up
+     */
+    @GetMapping("/health/ready")
+    public ResponseEntity<Map<String, String>> readiness() {
+        return probeResponse(translationService.isReady());
+    }
+    
+    private static ResponseEntity<Map<String, String>> probeResponse(boolean up) {
+        return ResponseEntity.status(up ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+            .body(Map.of("status", up ? "UP" : "DOWN"));
+    }
+    
     /**
      * Service info
      */
@@ -0,0 +1,68 @@
+package com.translation.controller;
+
+import com.translation.dto.TranslationJobRequest;
+import com.translation.dto.TranslationJobResponse;
+import com.translation.exception.TranslationException;
+import com.translation.job.TranslationJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import jakarta.validation.Valid;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/translate/jobs")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class TranslationJobController {
+
+    private final TranslationJobService jobService;
+
+    /**
+     * Submit a bulk translation job; processing continues in the background
+     */
+    @PostMapping
+    public ResponseEntity<TranslationJobResponse> submitJob(@Valid @RequestBody TranslationJobRequest request) {
+        log.info("Translation job request: {} -> {}", request.getSourceLanguage(), request.getTargetLanguage());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(jobService.submit(request));
+    }
+
+    /**
+     * Get job status and progress
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<TranslationJobResponse> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(jobService.getJob(jobId));
+    }
+
+    /**
+     * Download the results processed so far, one NDJSON line per item in input order
+     */
+    @GetMapping(value = "/{jobId}/results", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getResults(@PathVariable String jobId) {
+        Path results = jobService.getResultsPath(jobId);
+        if (!Files.exists(results)) {
+            throw new TranslationException("No results yet for job: " + jobId, HttpStatus.NOT_FOUND, "JOB_NOT_FOUND");
+        }
+        StreamingResponseBody body = outputStream -> Files.copy(results, outputStream);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    /**
+     * Cancel a queued or running job; results processed so far are kept
+     */
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<TranslationJobResponse> cancelJob(@PathVariable String jobId) {
+        log.info("Cancelling translation job {}", jobId);
+        return ResponseEntity.ok(jobService.cancel(jobId));
+    }
+}
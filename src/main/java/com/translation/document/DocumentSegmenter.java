@@ -0,0 +1,161 @@
+package com.translation.document;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Incrementally splits a document into provider-sized chunks without reading it all into memory.
+ * Chunks are cut at the last paragraph break, else sentence end, else whitespace that fits in
+ * {@code maxChunkChars}, and never inside a markup tag. Each chunk keeps its surrounding
+ * whitespace apart from the text to translate, so reassembly reproduces the original layout.
+ */
+public class DocumentSegmenter {
+
+    private static final int READ_SIZE = 8192;
+
+    private final Reader reader;
+    private final int maxChunkChars;
+    private final int minChunkChars;
+    private final char[] readBuffer = new char[READ_SIZE];
+    private final StringBuilder pending = new StringBuilder();
+    private boolean eof;
+
+    public DocumentSegmenter(Reader reader, int maxChunkChars) {
+        if (maxChunkChars < 2) {
+            throw new IllegalArgumentException("maxChunkChars must be at least 2");
+        }
+        this.reader = reader;
+        this.maxChunkChars = maxChunkChars;
+        this.minChunkChars = maxChunkChars / 4;
+    }
+
+    /**
+     * Next chunk of the document, or null at end of input
+     */
+    public Chunk next() throws IOException {
+        while (!eof && pending.length() <= maxChunkChars) {
+            int read = reader.read(readBuffer);
+            if (read < 0) {
+                eof = true;
+            } else {
+                pending.append(readBuffer, 0, read);
+            }
+        }
+        if (pending.length() == 0) {
+            return null;
+        }
+
+        int cut = pending.length() <= maxChunkChars ? pending.length() : findCut();
+        String raw = pending.substring(0, cut);
+        pending.delete(0, cut);
+        return Chunk.of(raw);
+    }
+
+    private int findCut() {
+        int cut = lastParagraphBreak();
+        if (cut < 0) {
+            cut = lastSentenceEnd();
+        }
+        if (cut < 0) {
+            cut = lastWhitespace();
+        }
+        if (cut < 0) {
+            cut = maxChunkChars;
+            if (Character.isLowSurrogate(pending.charAt(cut))) {
+                cut--;
+            }
+        }
+        return outsideTag(cut);
+    }
+
+    /**
+     * Position just after a blank line ("\n" + optional spaces + "\n") within the window
+     */
+    private int lastParagraphBreak() {
+        for (int i = maxChunkChars - 1; i >= minChunkChars; i--) {
+            if (pending.charAt(i) != '\n') {
+                continue;
+            }
+            int j = i - 1;
+            while (j >= 0 && (pending.charAt(j) == ' ' || pending.charAt(j) == '\t' || pending.charAt(j) == '\r')) {
+                j--;
+            }
+            if (j >= minChunkChars && pending.charAt(j) == '\n') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Position just after sentence-ending punctuation that is followed by whitespace
+     */
+    private int lastSentenceEnd() {
+        for (int i = maxChunkChars - 1; i >= Math.max(1, minChunkChars); i--) {
+            if (isSentenceEnd(pending.charAt(i - 1)) && Character.isWhitespace(pending.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Position of whitespace within the window; never 0, which would make an empty chunk
+     */
+    private int lastWhitespace() {
+        for (int i = maxChunkChars; i >= Math.max(1, minChunkChars); i--) {
+            if (Character.isWhitespace(pending.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Move a cut that falls inside {@code <...>} back to just before the tag. Only a {@code <}
+     * followed by a letter, {@code /} or {@code !} opens a tag, so text like "a < b" is cut normally.
+     */
+    private int outsideTag(int cut) {
+        for (int i = cut - 1; i >= 0; i--) {
+            char c = pending.charAt(i);
+            if (c == '>') {
+                return cut;
+            }
+            if (c == '<' && opensTag(pending.charAt(i + 1))) {
+                return i > 0 ? i : cut;
+            }
+        }
+        return cut;
+    }
+
+    private static boolean opensTag(char c) {
+        return Character.isLetter(c) || c == '/' || c == '!';
+    }
+
+    private static boolean isSentenceEnd(char c) {
+        return c == '.' || c == '!' || c == '?' || c == ';'
+            || c == '。' || c == '！' || c == '？';
+    }
+
+    /**
+     * A piece of the document: only {@code text} is translated, the whitespace around it is kept verbatim
+     */
+    public record Chunk(String leadingWhitespace, String text, String trailingWhitespace) {
+
+        static Chunk of(String raw) {
+            int start = 0;
+            while (start < raw.length() && Character.isWhitespace(raw.charAt(start))) {
+                start++;
+            }
+            int end = raw.length();
+            while (end > start && Character.isWhitespace(raw.charAt(end - 1))) {
+                end--;
+            }
+            return new Chunk(raw.substring(0, start), raw.substring(start, end), raw.substring(end));
+        }
+
+        public boolean isBlank() {
+            return text.isEmpty();
+        }
+    }
+}
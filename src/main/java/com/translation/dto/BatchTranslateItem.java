@@ -0,0 +1,20 @@
+package com.translation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One line of a streamed batch translation, emitted as soon as the item completes
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTranslateItem {
+    private Integer index;
+    private String originalText;
+    private String translatedText;
+    private String error;
+}
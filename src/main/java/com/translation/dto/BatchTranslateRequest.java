@@ -24,4 +24,14 @@ public class BatchTranslateRequest {
     
     @NotBlank(message = "Target language is required")
     private String targetLanguage;
+    
+    /**
+     * Skip the translation cache for this request
+     */
+    private Boolean bypassCache;
+    
+    /**
+     * Echo each original text in streamed results
+     */
+    private Boolean includeOriginal;
 }
@@ -19,5 +19,6 @@ public class BatchTranslateResponse {
     private String targetLanguage;
     private String engine;
     private Integer count;
+    private List<BatchItemFailure> failures;
     private LocalDateTime timestamp;
 }
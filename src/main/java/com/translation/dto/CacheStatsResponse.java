@@ -0,0 +1,30 @@
+package com.translation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+    private Boolean enabled;
+    private Long size;
+    private Long hitCount;
+    private Long missCount;
+    private Double hitRate;
+    private Long evictionCount;
+    private Long evictionWeight;
+    private Long upstreamCalls;
+    private Long coalescedRequests;
+    private Long memoryEntries;
+    private Long memoryExactHits;
+    private Long memoryFuzzyHits;
+    private Long memoryMisses;
+    private Map<String, RateLimitStatsResponse> rateLimits;
+    private InferenceStatsResponse localInference;
+}
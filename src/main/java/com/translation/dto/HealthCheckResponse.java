@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Data
 @Builder
@@ -16,4 +17,6 @@ public class HealthCheckResponse {
     private String engine;
     private LocalDateTime timestamp;
     private Double responseTimeMs;
+    private Map<String, String> circuitBreakers;
+    private Map<String, ProviderHealthResponse> providers;
 }
@@ -0,0 +1,19 @@
+package com.translation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InferenceStatsResponse {
+    private Boolean modelLoaded;
+    private Integer queueDepth;
+    private Long batches;
+    private Double avgFillRatio;
+    private Double p50BatchLatencyMs;
+    private Double p99BatchLatencyMs;
+}
@@ -0,0 +1,28 @@
+package com.translation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProviderHealthResponse {
+    private String engine;
+    /**
+     * UP, DOWN or UNKNOWN (not evaluated yet)
+     */
+    private String status;
+    /**
+     * What decided the status: traffic, probe or circuit-breaker
+     */
+    private String source;
+    private Long liveCalls;
+    private Double failureRate;
+    private Double lastProbeMs;
+    private LocalDateTime checkedAt;
+}
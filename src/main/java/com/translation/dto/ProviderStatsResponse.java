@@ -0,0 +1,20 @@
+package com.translation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProviderStatsResponse {
+    private Long requests;
+    private Long errors;
+    private Integer inFlight;
+    private Double latencyEwmaMs;
+    private Double p50LatencyMs;
+    private Double p99LatencyMs;
+    private Double errorRate;
+}
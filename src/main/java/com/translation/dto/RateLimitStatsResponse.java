@@ -0,0 +1,19 @@
+package com.translation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitStatsResponse {
+    private Long calls;
+    private Long queuedCalls;
+    private Double avgQueueWaitMs;
+    private Double maxQueueWaitMs;
+    private Long rejectedCalls;
+    private Long retries;
+}
@@ -0,0 +1,26 @@
+package com.translation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoutingRule {
+    /**
+     * Source language code, or "*" for any
+     */
+    private String sourceLanguage;
+    
+    /**
+     * Target language code, or "*" for any
+     */
+    private String targetLanguage;
+    
+    private Map<String, Integer> weights;
+}
@@ -0,0 +1,23 @@
+package com.translation.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoutingTableRequest {
+    private Boolean enabled;
+    
+    @NotEmpty(message = "Default weights are required")
+    private Map<String, Integer> weights;
+    
+    private List<RoutingRule> routes;
+}
@@ -0,0 +1,20 @@
+package com.translation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoutingTableResponse {
+    private Boolean enabled;
+    private Map<String, Integer> weights;
+    private List<RoutingRule> routes;
+    private Map<String, ProviderStatsResponse> providers;
+}
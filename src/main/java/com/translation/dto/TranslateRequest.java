@@ -21,4 +21,9 @@ public class TranslateRequest {
     
     @NotBlank(message = "Target language is required")
     private String targetLanguage;
+    
+    /**
+     * Skip the translation cache for this request
+     */
+    private Boolean bypassCache;
 }
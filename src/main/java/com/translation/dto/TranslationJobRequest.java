@@ -0,0 +1,31 @@
+package com.translation.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranslationJobRequest {
+    /**
+     * Inline texts; either this or {@code inputFile} is required
+     */
+    private List<@NotBlank(message = "Text cannot be blank") String> texts;
+    
+    /**
+     * File name inside {@code translation.jobs.import-dir}, one text per line (UTF-8)
+     */
+    private String inputFile;
+    
+    @NotBlank(message = "Source language is required")
+    private String sourceLanguage;
+    
+    @NotBlank(message = "Target language is required")
+    private String targetLanguage;
+}
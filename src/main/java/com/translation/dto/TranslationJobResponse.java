@@ -0,0 +1,26 @@
+package com.translation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranslationJobResponse {
+    private String jobId;
+    private String status;
+    private String sourceLanguage;
+    private String targetLanguage;
+    private Integer totalItems;
+    private Integer processedItems;
+    private Integer failedItems;
+    private Double progress;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -7,8 +7,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @RestControllerAdvice
@@ -49,6 +51,34 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
     
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecution(RejectedExecutionException ex) {
+        log.warn("Translation request rejected: {}", ex.getMessage());
+        
+        ErrorResponse error = ErrorResponse.builder()
+            .error("ServiceOverloaded")
+            .message("Too many translation requests in progress, retry later")
+            .errorCode("SERVICE_OVERLOADED")
+            .timestamp(LocalDateTime.now())
+            .build();
+        
+        return new ResponseEntity<>(error, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+    
+    @ExceptionHandler(AsyncRequestTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleAsyncTimeout(AsyncRequestTimeoutException ex) {
+        log.warn("Translation request timed out");
+        
+        ErrorResponse error = ErrorResponse.builder()
+            .error("RequestTimeout")
+            .message("Translation did not complete in time")
+            .errorCode("REQUEST_TIMEOUT")
+            .timestamp(LocalDateTime.now())
+            .build();
+        
+        return new ResponseEntity<>(error, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+    
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
         log.error("Unexpected error: {}", ex.getMessage(), ex);
@@ -0,0 +1,32 @@
+package com.translation.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thrown when some, but not all, items of a batch failed.
+ * Carries the successful translations (null at failed positions) and the failure message per index.
+ */
+public class PartialBatchTranslationException extends TranslationException {
+    
+    private final List<String> translations;
+    private final Map<Integer, String> failures;
+    
+    public PartialBatchTranslationException(List<String> translations, Map<Integer, String> failures) {
+        super(failures.size() + " of " + translations.size() + " batch items failed",
+            HttpStatus.SERVICE_UNAVAILABLE, "PARTIAL_BATCH_FAILURE");
+        this.translations = Collections.unmodifiableList(translations);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+    
+    public List<String> getTranslations() {
+        return translations;
+    }
+    
+    public Map<Integer, String> getFailures() {
+        return failures;
+    }
+}
@@ -4,6 +4,8 @@ import org.springframework.http.HttpStatus;
 
 public class TranslationException extends RuntimeException {
     
+    public static final String UPSTREAM_AUTH_FAILED = "UPSTREAM_AUTH_FAILED";
+    
     private final HttpStatus status;
     private final String errorCode;
     
@@ -24,4 +26,31 @@ public class TranslationException extends RuntimeException {
     public String getErrorCode() {
         return errorCode;
     }
+    
+    /**
+     * Whether the request itself was at fault. Rate limiting (429) is not a client error here:
+     * it is worth retrying later or on another provider.
+     */
+    public boolean isClientError() {
+        return status.is4xxClientError() && status != HttpStatus.TOO_MANY_REQUESTS;
+    }
+    
+    /**
+     * Map an upstream provider's HTTP status: 429 stays 429 so it can be retried,
+     * 400 is the caller's fault, 401 and 403 mean our credentials were refused (the provider is
+     * unavailable, but retrying will not help), and everything else means the provider is unavailable.
+     * Providers map quota rejections reported as 403 to 429 before calling this.
+     */
+    public static TranslationException upstream(String message, int upstreamStatus) {
+        if (upstreamStatus == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            return new TranslationException(message, HttpStatus.TOO_MANY_REQUESTS, "UPSTREAM_RATE_LIMITED");
+        }
+        if (upstreamStatus == HttpStatus.BAD_REQUEST.value()) {
+            return new TranslationException(message, HttpStatus.BAD_REQUEST);
+        }
+        if (upstreamStatus == HttpStatus.UNAUTHORIZED.value() || upstreamStatus == HttpStatus.FORBIDDEN.value()) {
+            return new TranslationException(message, HttpStatus.SERVICE_UNAVAILABLE, UPSTREAM_AUTH_FAILED);
+        }
+        return new TranslationException(message, HttpStatus.SERVICE_UNAVAILABLE);
+    }
 }
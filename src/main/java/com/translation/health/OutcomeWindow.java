@@ -0,0 +1,62 @@
+package com.translation.health;
+
+import java.util.Arrays;
+
+/**
+ * Successes and failures over a trailing time window, counted in a ring of fixed-width buckets
+ */
+class OutcomeWindow {
+
+    private static final int BUCKETS = 12;
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final long bucketNanos;
+
+    // Guarded by this
+    private final long[] epochs = new long[BUCKETS];
+    private final long[] successes = new long[BUCKETS];
+    private final long[] failures = new long[BUCKETS];
+
+    OutcomeWindow(long windowNanos) {
+        this.bucketNanos = Math.max(1, windowNanos / BUCKETS);
+        Arrays.fill(epochs, EMPTY);
+    }
+
+    synchronized void record(boolean success, long nowNanos) {
+        long epoch = Math.floorDiv(nowNanos, bucketNanos);
+        int bucket = (int) Math.floorMod(epoch, BUCKETS);
+        if (epochs[bucket] != epoch) {
+            epochs[bucket] = epoch;
+            successes[bucket] = 0;
+            failures[bucket] = 0;
+        }
+        if (success) {
+            successes[bucket]++;
+        } else {
+            failures[bucket]++;
+        }
+    }
+
+    /**
+     * Calls and failures recorded in the window ending at {@code nowNanos}
+     */
+    synchronized Totals totals(long nowNanos) {
+        long epoch = Math.floorDiv(nowNanos, bucketNanos);
+        long calls = 0;
+        long failed = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            if (epochs[bucket] != EMPTY && epoch - epochs[bucket] < BUCKETS) {
+                calls += successes[bucket] + failures[bucket];
+                failed += failures[bucket];
+            }
+        }
+        return new Totals(calls, failed);
+    }
+
+    record Totals(long calls, long failures) {
+
+        double failureRate() {
+            return calls == 0 ? 0.0 : (double) failures / calls;
+        }
+    }
+}
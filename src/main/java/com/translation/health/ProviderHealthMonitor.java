@@ -0,0 +1,292 @@
+package com.translation.health;
+
+import com.translation.config.TranslationEngine;
+import com.translation.config.TranslationProperties;
+import com.translation.dto.ProviderHealthResponse;
+import com.translation.exception.PartialBatchTranslationException;
+import com.translation.exception.TranslationException;
+import com.translation.integration.GoogleTranslationProvider;
+import com.translation.integration.LocalTranslationProvider;
+import com.translation.integration.OpenAITranslationProvider;
+import com.translation.integration.TranslationProvider;
+import com.translation.resilience.ProviderGuard;
+import com.translation.routing.ProviderRouter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the health of the engine providers in memory so that health endpoints never call upstream.
+ * <p>
+ * Every engine call is reported through {@link #record}. Every {@code refresh-interval-ms} the engines
+ * that can currently serve traffic (the configured engine, or the routed engines, plus the fallback
+ * chain) are re-evaluated: an engine with at least {@code minimum-calls} live calls in the last
+ * {@code window-ms} is up while its failure rate stays under {@code failure-rate-threshold}; an engine
+ * with less traffic than that is probed through its provider's {@link TranslationProvider#healthCheck()}
+ * at most every {@code probe-interval-ms}. An open circuit breaker marks its engine down.
+ * Caller mistakes, rate limiting and local load shedding do not count against an engine.
+ */
+@Slf4j
+@Component
+public class ProviderHealthMonitor {
+
+    public static final String UP = "UP";
+    public static final String DOWN = "DOWN";
+    public static final String UNKNOWN = "UNKNOWN";
+
+    private final Map<String, TranslationProvider> providers;
+    private final TranslationProperties properties;
+    private final ProviderRouter providerRouter;
+    private final ProviderGuard providerGuard;
+    private final long refreshIntervalMs;
+    private final long probeIntervalNanos;
+    private final long probeTimeoutMs;
+    private final long windowNanos;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+
+    private final Map<String, EngineHealth> engines = new ConcurrentHashMap<>();
+    private final ExecutorService prober = Executors.newCachedThreadPool(daemonThreads("provider-health-probe"));
+    private ScheduledExecutorService refresher;
+    private volatile Map<String, ProviderHealthResponse> snapshot = Map.of();
+    private volatile long lastRefreshNanos;
+
+    public ProviderHealthMonitor(GoogleTranslationProvider googleProvider, OpenAITranslationProvider openaiProvider,
+                                 LocalTranslationProvider localProvider, TranslationProperties properties,
+                                 ProviderRouter providerRouter, ProviderGuard providerGuard) {
+        this.providers = Map.of(
+            TranslationEngine.GOOGLE.getValue(), googleProvider,
+            TranslationEngine.OPENAI.getValue(), openaiProvider,
+            TranslationEngine.LOCAL.getValue(), localProvider
+        );
+        this.properties = properties;
+        this.providerRouter = providerRouter;
+        this.providerGuard = providerGuard;
+        TranslationProperties.HealthConfig config = properties.getHealth();
+        this.refreshIntervalMs = config.getRefreshIntervalMs();
+        this.probeIntervalNanos = TimeUnit.MILLISECONDS.toNanos(config.getProbeIntervalMs());
+        this.probeTimeoutMs = config.getProbeTimeoutMs();
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(config.getWindowMs());
+        this.minimumCalls = config.getMinimumCalls();
+        this.failureRateThreshold = config.getFailureRateThreshold();
+    }
+
+    /**
+     * Evaluate once before the application starts serving, then keep refreshing in the background
+     */
+    @PostConstruct
+    public void start() {
+        lastRefreshNanos = System.nanoTime();
+        refreshQuietly();
+        refresher = Executors.newSingleThreadScheduledExecutor(daemonThreads("provider-health-refresh"));
+        refresher.scheduleWithFixedDelay(this::refreshQuietly, refreshIntervalMs, refreshIntervalMs,
+            TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+        prober.shutdownNow();
+    }
+
+    /**
+     * Record the outcome of a live call to {@code engine}; {@code error} is null on success
+     */
+    public void record(String engine, Throwable error) {
+        if (error != null && !countsAgainstEngine(error)) {
+            return;
+        }
+        health(engine).window.record(error == null || error instanceof PartialBatchTranslationException,
+            System.nanoTime());
+    }
+
+    /**
+     * Health per serving engine as of the last refresh
+     */
+    public Map<String, ProviderHealthResponse> snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Ready to take traffic: at least one serving engine is up
+     */
+    public boolean isReady() {
+        return snapshot.values().stream().anyMatch(health -> UP.equals(health.getStatus()));
+    }
+
+    /**
+     * Alive unless the refresh loop has stalled; does not depend on any upstream provider
+     */
+    public boolean isLive() {
+        long stallNanos = TimeUnit.MILLISECONDS.toNanos(3 * refreshIntervalMs + 2 * probeTimeoutMs);
+        return System.nanoTime() - lastRefreshNanos < stallNanos;
+    }
+
+    /**
+     * Probe the serving engines that lack live traffic, then recompute the snapshot
+     */
+    void refresh() {
+        long now = System.nanoTime();
+        Map<String, String> circuitStates = providerGuard.isEnabled() ? providerGuard.states() : Map.of();
+        Set<String> serving = servingEngines();
+
+        Map<String, Future<Boolean>> probes = new LinkedHashMap<>();
+        for (String engine : serving) {
+            EngineHealth health = health(engine);
+            if (!isOpen(circuitStates.get(engine)) && health.window.totals(now).calls() < minimumCalls
+                    && (health.probeHealthy == null || now - health.probedAtNanos >= probeIntervalNanos)) {
+                TranslationProvider provider = providers.get(engine);
+                probes.put(engine, prober.submit(provider::healthCheck));
+            }
+        }
+        long deadline = now + TimeUnit.MILLISECONDS.toNanos(probeTimeoutMs);
+        probes.forEach((engine, probe) -> awaitProbe(engine, probe, now, deadline));
+
+        Map<String, ProviderHealthResponse> next = new TreeMap<>();
+        for (String engine : serving) {
+            next.put(engine, evaluate(engine, circuitStates.get(engine), System.nanoTime()));
+        }
+        snapshot = Collections.unmodifiableMap(next);
+        lastRefreshNanos = System.nanoTime();
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Provider health refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private void awaitProbe(String engine, Future<Boolean> probe, long startNanos, long deadlineNanos) {
+        EngineHealth health = health(engine);
+        boolean healthy;
+        try {
+            healthy = probe.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            probe.cancel(true);
+            healthy = false;
+            log.warn("Health probe of {} timed out after {}ms", engine, probeTimeoutMs);
+        } catch (ExecutionException e) {
+            healthy = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (health.probeHealthy != null && health.probeHealthy != healthy) {
+            log.info("Health probe of {}: {}", engine, healthy ? UP : DOWN);
+        }
+        health.probeHealthy = healthy;
+        health.probeMs = (System.nanoTime() - startNanos) / 1_000_000.0;
+        health.probedAtNanos = System.nanoTime();
+    }
+
+    private ProviderHealthResponse evaluate(String engine, String circuitState, long now) {
+        EngineHealth health = health(engine);
+        OutcomeWindow.Totals traffic = health.window.totals(now);
+        String status;
+        String source;
+        if (isOpen(circuitState)) {
+            status = DOWN;
+            source = "circuit-breaker";
+        } else if (traffic.calls() >= minimumCalls) {
+            status = traffic.failureRate() * 100 < failureRateThreshold ? UP : DOWN;
+            source = "traffic";
+        } else if (health.probeHealthy != null) {
+            status = health.probeHealthy ? UP : DOWN;
+            source = "probe";
+        } else {
+            status = UNKNOWN;
+            source = null;
+        }
+        return ProviderHealthResponse.builder()
+            .engine(engine)
+            .status(status)
+            .source(source)
+            .liveCalls(traffic.calls())
+            .failureRate(traffic.failureRate())
+            .lastProbeMs(health.probeMs)
+            .checkedAt(LocalDateTime.now())
+            .build();
+    }
+
+    /**
+     * Engines the provider factory can currently send traffic to
+     */
+    private Set<String> servingEngines() {
+        Set<String> serving = new LinkedHashSet<>();
+        if (providerRouter.isEnabled()) {
+            serving.addAll(providerRouter.engines());
+        } else {
+            serving.add(TranslationEngine.fromValue(properties.getEngine()).getValue());
+        }
+        List<String> fallbackChain = properties.getResilience().getFallbackChain();
+        if (fallbackChain != null) {
+            fallbackChain.forEach(name -> serving.add(TranslationEngine.fromValue(name).getValue()));
+        }
+        return serving;
+    }
+
+    private EngineHealth health(String engine) {
+        return engines.computeIfAbsent(engine, name -> new EngineHealth(new OutcomeWindow(windowNanos)));
+    }
+
+    private static boolean isOpen(String circuitState) {
+        return "OPEN".equals(circuitState) || "FORCED_OPEN".equals(circuitState);
+    }
+
+    private static boolean countsAgainstEngine(Throwable error) {
+        if (!(error instanceof TranslationException translationError)) {
+            return true;
+        }
+        String code = translationError.getErrorCode();
+        return !translationError.isClientError()
+            && translationError.getStatus() != HttpStatus.TOO_MANY_REQUESTS
+            && !ProviderGuard.CIRCUIT_OPEN.equals(code)
+            && !ProviderGuard.BULKHEAD_FULL.equals(code);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static class EngineHealth {
+        private final OutcomeWindow window;
+        // Written by the refresh thread only
+        private volatile Boolean probeHealthy;
+        private volatile Double probeMs;
+        private volatile long probedAtNanos;
+
+        EngineHealth(OutcomeWindow window) {
+            this.window = window;
+        }
+    }
+}
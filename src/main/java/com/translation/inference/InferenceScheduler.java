@@ -0,0 +1,251 @@
+package com.translation.inference;
+
+import com.translation.config.TranslationProperties;
+import com.translation.dto.InferenceStatsResponse;
+import com.translation.exception.TranslationException;
+import com.translation.routing.ProviderStats;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Dynamic batching in front of {@link LocalInferenceEngine}. Segments are queued per language pair
+ * and length bucket (lengths within a bucket differ by at most 2x, which keeps padding low), and
+ * a group is run once it holds {@code batch-size} segments or its oldest segment has waited
+ * {@code max-batch-delay-ms}. One worker thread runs per engine worker, oldest ready group first.
+ */
+@Slf4j
+@Component
+public class InferenceScheduler {
+
+    /**
+     * Texts shorter than this share the first length bucket
+     */
+    private static final int MIN_BUCKET_CHARS = 32;
+
+    private final LocalInferenceEngine engine;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final List<Thread> workers = new ArrayList<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Map<GroupKey, ArrayDeque<Segment>> groups = new HashMap<>();
+    private int queueDepth;
+    private volatile boolean running = true;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedSegments = new LongAdder();
+    private final ProviderStats batchLatency = new ProviderStats(0.2);
+
+    public InferenceScheduler(LocalInferenceEngine engine, TranslationProperties properties) {
+        this.engine = engine;
+        this.batchSize = engine.getBatchSize();
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(properties.getLocal().getMaxBatchDelayMs());
+        if (engine.isAvailable()) {
+            for (int i = 1; i <= engine.getWorkers(); i++) {
+                Thread worker = new Thread(this::work, "inference-worker-" + i);
+                worker.setDaemon(true);
+                worker.start();
+                workers.add(worker);
+            }
+            log.info("Inference scheduler started ({} workers, batch size: {}, max delay: {}ms)",
+                workers.size(), batchSize, properties.getLocal().getMaxBatchDelayMs());
+        }
+    }
+
+    /**
+     * Queue a segment; the future completes when its batch has been translated
+     */
+    public CompletableFuture<String> submit(String text, String sourceLanguage, String targetLanguage) {
+        Segment segment = new Segment(text, new CompletableFuture<>(), System.nanoTime());
+        if (!running) {
+            segment.future().completeExceptionally(
+                new TranslationException("Inference scheduler is shut down", HttpStatus.SERVICE_UNAVAILABLE));
+            return segment.future();
+        }
+        GroupKey key = new GroupKey(sourceLanguage, targetLanguage, lengthBucket(text));
+        lock.lock();
+        try {
+            groups.computeIfAbsent(key, k -> new ArrayDeque<>()).addLast(segment);
+            queueDepth++;
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+        return segment.future();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return queueDepth;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * Average share of {@code batch-size} filled by the batches run so far
+     */
+    public double getAverageFillRatio() {
+        long count = batches.sum();
+        return count == 0 ? 0.0 : (double) batchedSegments.sum() / count / batchSize;
+    }
+
+    public ProviderStats getBatchLatency() {
+        return batchLatency;
+    }
+
+    public InferenceStatsResponse describe() {
+        return InferenceStatsResponse.builder()
+            .modelLoaded(engine.isAvailable())
+            .queueDepth(getQueueDepth())
+            .batches(getBatches())
+            .avgFillRatio(getAverageFillRatio())
+            .p50BatchLatencyMs(batchLatency.percentileMs(50))
+            .p99BatchLatencyMs(batchLatency.percentileMs(99))
+            .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        lock.lock();
+        try {
+            TranslationException stopped =
+                new TranslationException("Inference scheduler is shut down", HttpStatus.SERVICE_UNAVAILABLE);
+            groups.values().forEach(group -> group.forEach(segment -> segment.future().completeExceptionally(stopped)));
+            groups.clear();
+            queueDepth = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    static int lengthBucket(String text) {
+        return 32 - Integer.numberOfLeadingZeros(text.length() / MIN_BUCKET_CHARS);
+    }
+
+    private void work() {
+        while (running) {
+            Batch batch;
+            try {
+                batch = nextBatch();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (batch != null) {
+                run(batch);
+            }
+        }
+    }
+
+    /**
+     * Wait for a group that is full or past its deadline and take up to {@code batch-size} segments from it
+     */
+    private Batch nextBatch() throws InterruptedException {
+        lock.lock();
+        try {
+            while (running) {
+                long now = System.nanoTime();
+                GroupKey ready = null;
+                long oldestReady = Long.MAX_VALUE;
+                long nextDeadline = Long.MAX_VALUE;
+                for (Map.Entry<GroupKey, ArrayDeque<Segment>> group : groups.entrySet()) {
+                    long enqueued = group.getValue().peekFirst().enqueuedNanos();
+                    if (group.getValue().size() >= batchSize || now - enqueued >= maxDelayNanos) {
+                        if (enqueued < oldestReady) {
+                            oldestReady = enqueued;
+                            ready = group.getKey();
+                        }
+                    } else {
+                        nextDeadline = Math.min(nextDeadline, enqueued + maxDelayNanos);
+                    }
+                }
+
+                if (ready != null) {
+                    ArrayDeque<Segment> group = groups.get(ready);
+                    List<Segment> segments = new ArrayList<>(Math.min(batchSize, group.size()));
+                    while (segments.size() < batchSize && !group.isEmpty()) {
+                        segments.add(group.pollFirst());
+                    }
+                    if (group.isEmpty()) {
+                        groups.remove(ready);
+                    }
+                    queueDepth -= segments.size();
+                    // Another group may be ready too; let an idle worker look
+                    changed.signal();
+                    return new Batch(ready, segments);
+                }
+                if (nextDeadline == Long.MAX_VALUE) {
+                    changed.await();
+                } else {
+                    changed.awaitNanos(nextDeadline - now);
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run(Batch batch) {
+        // Callers stop waiting after item-timeout-ms; their segments are not worth a model run
+        batch.segments().removeIf(segment -> segment.future().isDone());
+        if (batch.segments().isEmpty()) {
+            return;
+        }
+        List<String> texts = new ArrayList<>(batch.segments().size());
+        batch.segments().forEach(segment -> texts.add(segment.text()));
+        batches.increment();
+        batchedSegments.add(texts.size());
+        long start = batchLatency.begin();
+        double errorRate = 1.0;
+        try {
+            List<String> results = engine.translate(texts, batch.key().sourceLanguage(), batch.key().targetLanguage());
+            Iterator<String> result = results.iterator();
+            batch.segments().forEach(segment -> segment.future().complete(result.next()));
+            errorRate = 0.0;
+        } catch (RuntimeException e) {
+            batch.segments().forEach(segment -> segment.future().completeExceptionally(e));
+        } finally {
+            batchLatency.end(start, 1, errorRate);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Ran inference batch of {}/{} segments: {} -> {}",
+                texts.size(), batchSize, batch.key().sourceLanguage(), batch.key().targetLanguage());
+        }
+    }
+
+    private record GroupKey(String sourceLanguage, String targetLanguage, int lengthBucket) {
+    }
+
+    private record Segment(String text, CompletableFuture<String> future, long enqueuedNanos) {
+    }
+
+    private record Batch(GroupKey key, List<Segment> segments) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.translation.inference;
+
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+import com.translation.config.TranslationProperties;
+import com.translation.exception.TranslationException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * On-box translation with an ONNX model, loaded once at startup from {@code translation.local.model-path}.
+ * The model's sessions are shared; {@code workers} batches run at a time, each using
+ * {@code intra-op-threads} threads, so by default every core runs one batch. When no model
+ * is installed the engine reports itself unavailable and the local provider simulates translations.
+ * {@code precision} picks the float32, float16 or int8 model files, and {@code memory-map} loads
+ * ORT-format models from mapped files so several processes on a host share one copy of the weights.
+ */
+@Slf4j
+@Component
+public class LocalInferenceEngine {
+
+    /**
+     * NLLB language code tokens for the supported languages
+     */
+    private static final Map<String, String> LANGUAGE_TOKENS = Map.ofEntries(
+        Map.entry("en", "eng_Latn"),
+        Map.entry("es", "spa_Latn"),
+        Map.entry("fr", "fra_Latn"),
+        Map.entry("de", "deu_Latn"),
+        Map.entry("zh", "zho_Hans"),
+        Map.entry("ja", "jpn_Jpan"),
+        Map.entry("ko", "kor_Hang"),
+        Map.entry("ru", "rus_Cyrl"),
+        Map.entry("pt", "por_Latn"),
+        Map.entry("hi", "hin_Deva"),
+        Map.entry("ar", "arb_Arab"),
+        Map.entry("it", "ita_Latn")
+    );
+
+    private final OnnxTranslationModel model;
+    private final Semaphore workers;
+    private final int workerCount;
+    private final int batchSize;
+    private final int maxLength;
+
+    public LocalInferenceEngine(TranslationProperties properties) {
+        TranslationProperties.LocalConfig config = properties.getLocal();
+        this.batchSize = config.getBatchSize();
+        this.maxLength = config.getMaxLength();
+        int intraOpThreads = Math.max(1, config.getIntraOpThreads());
+        this.workerCount = config.getWorkers() != null
+            ? config.getWorkers()
+            : Math.max(1, Runtime.getRuntime().availableProcessors() / intraOpThreads);
+        this.workers = new Semaphore(workerCount, true);
+        this.model = loadModel(config, intraOpThreads);
+        if (model != null) {
+            log.info("Local ONNX model ready ({} workers x {} threads, batch size: {}, max length: {})",
+                workerCount, intraOpThreads, batchSize, maxLength);
+        }
+    }
+
+    public boolean isAvailable() {
+        return model != null;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Tokenizer of the loaded model, or null when no model is loaded
+     */
+    public SentencePieceTokenizer getTokenizer() {
+        return model == null ? null : model.getTokenizer();
+    }
+
+    /**
+     * Number of batches that may run at once
+     */
+    public int getWorkers() {
+        return workerCount;
+    }
+
+    /**
+     * Translate up to {@code batch-size} texts as one padded batch, waiting for a free worker
+     */
+    public List<String> translate(List<String> texts, String sourceLanguage, String targetLanguage) {
+        if (model == null) {
+            throw new TranslationException("Local model is not loaded", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        try {
+            workers.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TranslationException("Translation interrupted", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        try {
+            return model.translate(texts, LANGUAGE_TOKENS.get(sourceLanguage), LANGUAGE_TOKENS.get(targetLanguage),
+                maxLength);
+        } catch (OrtException | RuntimeException e) {
+            log.error("Local inference failed: {}", e.getMessage());
+            throw new TranslationException(
+                "Local translation failed: " + e.getMessage(),
+                HttpStatus.SERVICE_UNAVAILABLE
+            );
+        } finally {
+            workers.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (model != null) {
+            try {
+                model.close();
+            } catch (OrtException e) {
+                log.warn("Failed to close local model: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static OnnxTranslationModel loadModel(TranslationProperties.LocalConfig config, int intraOpThreads) {
+        Path modelDir = Path.of(config.getModelPath());
+        if (!Files.isDirectory(modelDir)) {
+            log.warn("No local model at {}; local translations will be simulated", modelDir);
+            return null;
+        }
+        try (OrtSession.SessionOptions options = new OrtSession.SessionOptions()) {
+            options.setOptimizationLevel(OrtSession.SessionOptions.OptLevel.ALL_OPT);
+            options.setIntraOpNumThreads(intraOpThreads);
+            options.setInterOpNumThreads(1);
+            if ("cuda".equalsIgnoreCase(config.getDevice())) {
+                try {
+                    options.addCUDA(0);
+                } catch (OrtException e) {
+                    log.warn("CUDA is not available to ONNX Runtime, using CPU: {}", e.getMessage());
+                }
+            }
+            long start = System.nanoTime();
+            OnnxTranslationModel model = OnnxTranslationModel.load(modelDir, config.getPrecision(),
+                Boolean.TRUE.equals(config.getMemoryMap()), options);
+            log.info("Loaded {} model from {} in {}ms ({})", config.getPrecision(), modelDir,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                model.isMemoryMapped() ? "memory-mapped" : "read into memory");
+            return model;
+        } catch (Exception | UnsatisfiedLinkError e) {
+            log.error("Failed to load local model from {}; local translations will be simulated: {}",
+                modelDir, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package com.translation.inference;
+
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OnnxValue;
+import ai.onnxruntime.OrtEnvironment;
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * NLLB-style encoder-decoder exported to ONNX (Hugging Face Optimum layout: {@code encoder_model.onnx},
+ * {@code decoder_model.onnx}, {@code decoder_with_past_model.onnx} and {@code tokenizer.json}).
+ * Translates a batch with greedy decoding, reusing the attention key/value cache between steps.
+ * ORT sessions are thread-safe, so one instance is shared by all inference workers.
+ * <p>
+ * Reduced-precision exports sit next to the float32 files with a suffix ({@code _fp16}, or
+ * {@code _quantized} as written by {@code optimum-cli onnxruntime quantize}). When memory mapping
+ * is on and an ORT-format conversion ({@code .ort}) of a model exists, it is mapped read-only and
+ * the session uses the mapped weights in place, so processes loading the same file share its pages.
+ */
+public class OnnxTranslationModel implements AutoCloseable {
+
+    private static final String INPUT_IDS = "input_ids";
+    private static final String ATTENTION_MASK = "attention_mask";
+    private static final String ENCODER_ATTENTION_MASK = "encoder_attention_mask";
+    private static final String ENCODER_HIDDEN_STATES = "encoder_hidden_states";
+    private static final String PRESENT = "present.";
+    private static final String PAST_KEY_VALUES = "past_key_values.";
+    private static final List<String> MODEL_FILES =
+        List.of("encoder_model", "decoder_model", "decoder_with_past_model");
+
+    private final OrtEnvironment environment;
+    private final OrtSession encoder;
+    private final OrtSession decoder;
+    private final OrtSession decoderWithPast;
+    private final SentencePieceTokenizer tokenizer;
+    private final int padId;
+    private final int eosId;
+    /**
+     * Mappings backing the sessions' weights; they must stay reachable while the sessions are open
+     */
+    private final List<MappedByteBuffer> mappedModels;
+
+    OnnxTranslationModel(OrtEnvironment environment, OrtSession encoder, OrtSession decoder,
+                         OrtSession decoderWithPast, SentencePieceTokenizer tokenizer,
+                         List<MappedByteBuffer> mappedModels) {
+        this.environment = environment;
+        this.encoder = encoder;
+        this.decoder = decoder;
+        this.decoderWithPast = decoderWithPast;
+        this.tokenizer = tokenizer;
+        this.mappedModels = mappedModels;
+        this.padId = tokenizer.tokenId("<pad>");
+        this.eosId = tokenizer.tokenId("</s>");
+    }
+
+    /**
+     * @param precision {@code float32}, {@code float16} or {@code int8}; selects which model files are loaded
+     * @param memoryMap map ORT-format models instead of reading them onto the native heap
+     */
+    public static OnnxTranslationModel load(Path modelDir, String precision, boolean memoryMap,
+                                            OrtSession.SessionOptions options) throws IOException, OrtException {
+        List<Path> files = modelFiles(modelDir, precision, memoryMap);
+        if (!Files.isRegularFile(modelDir.resolve("tokenizer.json"))) {
+            throw new IOException("Missing tokenizer.json in " + modelDir);
+        }
+
+        if (memoryMap) {
+            // Initializers point into the model bytes instead of being copied (ORT-format models only)
+            options.addConfigEntry("session.use_ort_model_bytes_directly", "1");
+            options.addConfigEntry("session.use_ort_model_bytes_for_initializers", "1");
+        }
+        SentencePieceTokenizer tokenizer = SentencePieceTokenizer.load(modelDir.resolve("tokenizer.json"));
+        OrtEnvironment environment = OrtEnvironment.getEnvironment();
+        List<MappedByteBuffer> mapped = new ArrayList<>();
+        List<OrtSession> sessions = new ArrayList<>();
+        try {
+            for (Path file : files) {
+                if (file.getFileName().toString().endsWith(".ort")) {
+                    MappedByteBuffer bytes = map(file);
+                    mapped.add(bytes);
+                    sessions.add(environment.createSession(bytes, options));
+                } else {
+                    sessions.add(environment.createSession(file.toString(), options));
+                }
+            }
+        } catch (OrtException | RuntimeException e) {
+            for (OrtSession session : sessions) {
+                session.close();
+            }
+            throw e;
+        }
+        return new OnnxTranslationModel(environment, sessions.get(0), sessions.get(1), sessions.get(2),
+            tokenizer, mapped);
+    }
+
+    /**
+     * Whether the sessions run from memory-mapped ORT-format files
+     */
+    public boolean isMemoryMapped() {
+        return !mappedModels.isEmpty();
+    }
+
+    public SentencePieceTokenizer getTokenizer() {
+        return tokenizer;
+    }
+
+    /**
+     * Translate a batch. Inputs are padded to the longest text in the batch, not to {@code maxLength};
+     * texts longer than {@code maxLength} tokens are truncated.
+     *
+     * @param sourceToken language code token of the source, e.g. {@code eng_Latn}
+     * @param targetToken language code token of the target, forced as the first generated token
+     */
+    public List<String> translate(List<String> texts, String sourceToken, String targetToken, int maxLength)
+            throws OrtException {
+        int sourceId = languageId(sourceToken);
+        int targetId = languageId(targetToken);
+        int batchSize = texts.size();
+
+        // NLLB source layout: [lang] tokens... </s>
+        int[][] sources = new int[batchSize][];
+        int sourceLength = 0;
+        for (int row = 0; row < batchSize; row++) {
+            int[] ids = tokenizer.encode(texts.get(row));
+            int length = Math.min(ids.length, maxLength - 2);
+            int[] source = new int[length + 2];
+            source[0] = sourceId;
+            System.arraycopy(ids, 0, source, 1, length);
+            source[length + 1] = eosId;
+            sources[row] = source;
+            sourceLength = Math.max(sourceLength, source.length);
+        }
+
+        long[] inputIds = new long[batchSize * sourceLength];
+        long[] attentionMask = new long[batchSize * sourceLength];
+        for (int row = 0; row < batchSize; row++) {
+            for (int i = 0; i < sourceLength; i++) {
+                boolean present = i < sources[row].length;
+                inputIds[row * sourceLength + i] = present ? sources[row][i] : padId;
+                attentionMask[row * sourceLength + i] = present ? 1 : 0;
+            }
+        }
+        long[] shape = {batchSize, sourceLength};
+        int maxNewTokens = Math.min(maxLength, sourceLength * 2 + 10);
+
+        try (OnnxTensor inputTensor = OnnxTensor.createTensor(environment, LongBuffer.wrap(inputIds), shape);
+             OnnxTensor maskTensor = OnnxTensor.createTensor(environment, LongBuffer.wrap(attentionMask), shape);
+             OrtSession.Result encoded = encoder.run(Map.of(INPUT_IDS, inputTensor, ATTENTION_MASK, maskTensor))) {
+            int[][] outputs = decode((OnnxTensor) encoded.get(0), maskTensor, batchSize, targetId, maxNewTokens);
+            List<String> translations = new ArrayList<>(batchSize);
+            for (int[] output : outputs) {
+                translations.add(tokenizer.decode(output, output.length));
+            }
+            return translations;
+        }
+    }
+
+    /**
+     * Greedy decoding. The first step runs the full decoder on {@code </s> [target]} and yields the
+     * cross-attention cache; later steps feed one token each through the decoder with past.
+     */
+    private int[][] decode(OnnxTensor hiddenStates, OnnxTensor encoderMask, int batchSize, int targetId,
+                           int maxNewTokens) throws OrtException {
+        int[][] generated = new int[batchSize][maxNewTokens];
+        int[] lengths = new int[batchSize];
+        boolean[] finished = new boolean[batchSize];
+
+        long[] start = new long[batchSize * 2];
+        for (int row = 0; row < batchSize; row++) {
+            start[row * 2] = eosId;
+            start[row * 2 + 1] = targetId;
+        }
+
+        Map<String, OnnxTensor> encoderCache = new HashMap<>();
+        OrtSession.Result previous = null;
+        OrtSession.Result first = null;
+        try (OnnxTensor startTensor = OnnxTensor.createTensor(environment, LongBuffer.wrap(start),
+                new long[]{batchSize, 2})) {
+            first = decoder.run(Map.of(
+                INPUT_IDS, startTensor,
+                ENCODER_ATTENTION_MASK, encoderMask,
+                ENCODER_HIDDEN_STATES, hiddenStates
+            ));
+            for (Map.Entry<String, OnnxValue> output : first) {
+                if (output.getKey().startsWith(PRESENT) && output.getKey().contains(".encoder.")) {
+                    encoderCache.put(pastName(output.getKey()), (OnnxTensor) output.getValue());
+                }
+            }
+
+            OrtSession.Result current = first;
+            long[] next = new long[batchSize];
+            int[] best = new int[batchSize];
+            for (int step = 0; step < maxNewTokens; step++) {
+                argmaxLastPosition(current.get(0), best);
+                boolean allFinished = true;
+                for (int row = 0; row < batchSize; row++) {
+                    int token = finished[row] ? padId : best[row];
+                    if (!finished[row]) {
+                        if (token == eosId) {
+                            finished[row] = true;
+                        } else {
+                            generated[row][lengths[row]++] = token;
+                        }
+                    }
+                    allFinished &= finished[row];
+                    next[row] = token;
+                }
+                if (allFinished || step == maxNewTokens - 1) {
+                    break;
+                }
+
+                Map<String, OnnxTensor> inputs = new HashMap<>(encoderCache);
+                for (Map.Entry<String, OnnxValue> output : current) {
+                    if (output.getKey().startsWith(PRESENT) && output.getKey().contains(".decoder.")) {
+                        inputs.put(pastName(output.getKey()), (OnnxTensor) output.getValue());
+                    }
+                }
+                inputs.put(ENCODER_ATTENTION_MASK, encoderMask);
+                try (OnnxTensor nextTensor = OnnxTensor.createTensor(environment, LongBuffer.wrap(next),
+                        new long[]{batchSize, 1})) {
+                    inputs.put(INPUT_IDS, nextTensor);
+                    OrtSession.Result result = decoderWithPast.run(inputs);
+                    // The first result holds the encoder cache, so it stays open until the end
+                    if (previous != null) {
+                        previous.close();
+                    }
+                    previous = result;
+                    current = result;
+                }
+            }
+        } finally {
+            if (previous != null) {
+                previous.close();
+            }
+            if (first != null) {
+                first.close();
+            }
+        }
+
+        int[][] outputs = new int[batchSize][];
+        for (int row = 0; row < batchSize; row++) {
+            outputs[row] = Arrays.copyOf(generated[row], lengths[row]);
+        }
+        return outputs;
+    }
+
+    /**
+     * Highest-scoring token at the last position of each row of {@code [batch, positions, vocabulary]} logits.
+     * {@link OnnxTensor#getFloatBuffer()} returns a heap copy of the whole tensor (float16 widened to
+     * float), so each decode step copies batch x positions x ~256k floats before the scan;
+     * {@code LogitsArgmaxBenchmark} measures that copy against the scan alone.
+     */
+    private static void argmaxLastPosition(OnnxValue value, int[] best) {
+        OnnxTensor tensor = (OnnxTensor) value;
+        long[] shape = tensor.getInfo().getShape();
+        argmaxLastPosition(tensor.getFloatBuffer(), (int) shape[1], (int) shape[2], best);
+    }
+
+    static void argmaxLastPosition(FloatBuffer logits, int positions, int vocabulary, int[] best) {
+        for (int row = 0; row < best.length; row++) {
+            int offset = (row * positions + positions - 1) * vocabulary;
+            int bestToken = 0;
+            float bestLogit = logits.get(offset);
+            for (int token = 1; token < vocabulary; token++) {
+                float logit = logits.get(offset + token);
+                if (logit > bestLogit) {
+                    bestLogit = logit;
+                    bestToken = token;
+                }
+            }
+            best[row] = bestToken;
+        }
+    }
+
+    /**
+     * Encoder, decoder and decoder-with-past files for {@code precision}, preferring an ORT-format
+     * conversion of each when {@code memoryMap} is on
+     */
+    static List<Path> modelFiles(Path modelDir, String precision, boolean memoryMap) throws IOException {
+        String suffix = fileSuffix(precision);
+        List<Path> files = new ArrayList<>();
+        for (String name : MODEL_FILES) {
+            Path ort = modelDir.resolve(name + suffix + ".ort");
+            Path onnx = modelDir.resolve(name + suffix + ".onnx");
+            files.add(memoryMap && Files.isRegularFile(ort) ? ort : onnx);
+        }
+        for (Path file : files) {
+            if (!Files.isRegularFile(file)) {
+                throw new IOException("Missing " + file.getFileName() + " in " + modelDir);
+            }
+        }
+        return files;
+    }
+
+    static String fileSuffix(String precision) {
+        return switch (precision == null ? "float32" : precision.toLowerCase()) {
+            case "float32", "fp32" -> "";
+            case "float16", "fp16" -> "_fp16";
+            case "int8", "quantized" -> "_quantized";
+            default -> throw new IllegalArgumentException("Unsupported precision: " + precision);
+        };
+    }
+
+    static MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static String pastName(String presentName) {
+        return PAST_KEY_VALUES + presentName.substring(PRESENT.length());
+    }
+
+    private int languageId(String languageToken) {
+        int id = tokenizer.tokenId(languageToken);
+        if (id < 0) {
+            throw new IllegalArgumentException("Model has no language token " + languageToken);
+        }
+        return id;
+    }
+
+    @Override
+    public void close() throws OrtException {
+        decoderWithPast.close();
+        decoder.close();
+        encoder.close();
+    }
+}
@@ -0,0 +1,361 @@
+package com.translation.inference;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SentencePiece unigram tokenizer read from a Hugging Face {@code tokenizer.json}, as shipped
+ * with NLLB and Marian models. Text is NFKC-normalized, spaces become {@code ▁}, and the
+ * segmentation with the highest total piece score is chosen (Viterbi). Characters not covered
+ * by any piece map to the unknown token.
+ * <p>
+ * Pieces are matched by walking a trie from each position, and the lattice lives in a reusable
+ * {@link Workspace}, so encoding already-normalized text allocates nothing.
+ */
+public class SentencePieceTokenizer {
+
+    static final char SPACE = '▁';
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Map<String, Integer> pieceIds;
+    private final String[] pieces;
+    private final float[] scores;
+    private final boolean[] special;
+    private final PieceTrie trie;
+    private final int unkId;
+    private final float unkScore;
+    private final ThreadLocal<Workspace> workspaces = ThreadLocal.withInitial(Workspace::new);
+
+    SentencePieceTokenizer(Map<String, Integer> pieceIds, String[] pieces, float[] scores,
+                           boolean[] special, int unkId) {
+        this.pieceIds = pieceIds;
+        this.pieces = pieces;
+        this.scores = scores;
+        this.special = special;
+        this.unkId = unkId;
+        this.trie = new PieceTrie(pieces, special);
+        float lowest = 0.0f;
+        for (int id = 0; id < pieces.length; id++) {
+            if (pieces[id] != null && !special[id]) {
+                lowest = Math.min(lowest, scores[id]);
+            }
+        }
+        this.unkScore = lowest - 10.0f;
+    }
+
+    public static SentencePieceTokenizer load(Path tokenizerJson) throws IOException {
+        JsonNode root = MAPPER.readTree(tokenizerJson.toFile());
+        JsonNode model = root.path("model");
+        if (!"Unigram".equals(model.path("type").asText())) {
+            throw new IOException("Unsupported tokenizer model type: " + model.path("type").asText());
+        }
+
+        JsonNode vocab = model.path("vocab");
+        JsonNode addedTokens = root.path("added_tokens");
+        int size = vocab.size();
+        for (JsonNode token : addedTokens) {
+            size = Math.max(size, token.path("id").asInt() + 1);
+        }
+
+        String[] pieces = new String[size];
+        float[] scores = new float[size];
+        boolean[] special = new boolean[size];
+        Map<String, Integer> pieceIds = new HashMap<>(size * 2);
+        for (int id = 0; id < vocab.size(); id++) {
+            pieces[id] = vocab.get(id).get(0).asText();
+            scores[id] = (float) vocab.get(id).get(1).asDouble();
+            pieceIds.putIfAbsent(pieces[id], id);
+        }
+        for (JsonNode token : addedTokens) {
+            int id = token.path("id").asInt();
+            pieces[id] = token.path("content").asText();
+            special[id] = true;
+            pieceIds.put(pieces[id], id);
+        }
+        return new SentencePieceTokenizer(pieceIds, pieces, scores, special, model.path("unk_id").asInt(0));
+    }
+
+    /**
+     * Token ids of {@code text}, without special tokens
+     */
+    public int[] encode(String text) {
+        Workspace workspace = workspaces.get();
+        return Arrays.copyOf(workspace.ids, encode(text, workspace));
+    }
+
+    /**
+     * Number of tokens in {@code text}, without special tokens
+     */
+    public int countTokens(String text) {
+        return encode(text, workspaces.get());
+    }
+
+    /**
+     * Encode into {@code workspace.ids()} and return the token count. The workspace is grown
+     * when needed and can be reused for the next call from the same thread.
+     */
+    public int encode(String text, Workspace workspace) {
+        int length = normalize(text, workspace);
+        if (length == 0) {
+            return 0;
+        }
+        char[] chars = workspace.chars;
+        float[] best = workspace.best;
+        int[] from = workspace.from;
+        int[] piece = workspace.piece;
+
+        // best[i]: highest score of a segmentation of chars[0, i); from[i]/piece[i]: its last piece
+        best[0] = 0.0f;
+        Arrays.fill(best, 1, length + 1, Float.NEGATIVE_INFINITY);
+        for (int start = 0; start < length; start++) {
+            if (best[start] == Float.NEGATIVE_INFINITY) {
+                // No piece ends here; every earlier position is final, so fall back to an unknown character
+                best[start] = best[start - 1] + unkScore;
+                from[start] = start - 1;
+                piece[start] = unkId;
+            }
+            int node = PieceTrie.ROOT;
+            for (int end = start; end < length; end++) {
+                node = trie.child(node, chars[end]);
+                if (node < 0) {
+                    break;
+                }
+                int id = trie.piece(node);
+                if (id >= 0 && best[start] + scores[id] > best[end + 1]) {
+                    best[end + 1] = best[start] + scores[id];
+                    from[end + 1] = start;
+                    piece[end + 1] = id;
+                }
+            }
+        }
+        if (best[length] == Float.NEGATIVE_INFINITY) {
+            from[length] = length - 1;
+            piece[length] = unkId;
+        }
+
+        // Walk back into the tail of ids, then shift forward, merging runs of unknowns
+        // (SentencePiece emits one unknown token for a run of uncovered characters)
+        int[] ids = workspace.ids;
+        int tail = ids.length;
+        for (int end = length; end > 0; end = from[end]) {
+            ids[--tail] = piece[end];
+        }
+        int count = 0;
+        for (int i = tail; i < ids.length; i++) {
+            if (ids[i] != unkId || count == 0 || ids[count - 1] != unkId) {
+                ids[count++] = ids[i];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Text of the first {@code length} ids, skipping special tokens
+     */
+    public String decode(int[] ids, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            int id = ids[i];
+            if (id >= 0 && id < pieces.length && pieces[id] != null && !special[id]) {
+                text.append(pieces[id]);
+            }
+        }
+        return text.toString().replace(SPACE, ' ').trim();
+    }
+
+    /**
+     * Id of a piece or special token (e.g. a language code), or -1 if the vocabulary lacks it
+     */
+    public int tokenId(String piece) {
+        Integer id = pieceIds.get(piece);
+        return id == null ? -1 : id;
+    }
+
+    public int vocabularySize() {
+        return pieces.length;
+    }
+
+    /**
+     * Normalize {@code text} into {@code workspace.chars} and return its length. ASCII and
+     * already-normalized text skip the NFKC pass, which is the only step that allocates.
+     */
+    private static int normalize(String text, Workspace workspace) {
+        String source = isAscii(text) || Normalizer.isNormalized(text, Normalizer.Form.NFKC)
+            ? text : Normalizer.normalize(text, Normalizer.Form.NFKC);
+        workspace.ensureCapacity(source.length() + 1);
+        char[] chars = workspace.chars;
+        int length = 0;
+        chars[length++] = SPACE;
+        boolean previousSpace = true;
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (!previousSpace) {
+                    chars[length++] = SPACE;
+                }
+                previousSpace = true;
+            } else {
+                chars[length++] = c;
+                previousSpace = false;
+            }
+        }
+        // Drop the trailing separator; for blank text that leaves nothing
+        return previousSpace ? length - 1 : length;
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    String piece(int id) {
+        return pieces[id];
+    }
+
+    float score(int id) {
+        return scores[id];
+    }
+
+    boolean isSpecial(int id) {
+        return special[id];
+    }
+
+    int unkId() {
+        return unkId;
+    }
+
+    /**
+     * Per-thread buffers for {@link #encode(String, Workspace)}
+     */
+    public static final class Workspace {
+
+        private char[] chars = new char[0];
+        private float[] best = new float[1];
+        private int[] from = new int[1];
+        private int[] piece = new int[1];
+        private int[] ids = new int[0];
+
+        public Workspace() {
+            ensureCapacity(256);
+        }
+
+        /**
+         * Token ids written by the last encode; only the returned count is valid
+         */
+        public int[] ids() {
+            return ids;
+        }
+
+        void ensureCapacity(int length) {
+            if (chars.length >= length) {
+                return;
+            }
+            int capacity = Math.max(length, chars.length * 2);
+            chars = new char[capacity];
+            best = new float[capacity + 1];
+            from = new int[capacity + 1];
+            piece = new int[capacity + 1];
+            ids = new int[capacity];
+        }
+    }
+
+    /**
+     * Character trie of the non-special pieces. Edges live in one open-addressing table keyed by
+     * (node, char), so a lookup is a few array reads.
+     */
+    static final class PieceTrie {
+
+        static final int ROOT = 0;
+
+        private static final long EMPTY = -1L;
+
+        private final long[] keys;
+        private final int[] children;
+        private final int[] nodePieces;
+        private final int mask;
+
+        PieceTrie(String[] pieces, boolean[] special) {
+            Map<Long, Integer> edges = new HashMap<>();
+            List<Integer> ids = new ArrayList<>();
+            ids.add(-1);
+            for (int id = 0; id < pieces.length; id++) {
+                if (pieces[id] == null || pieces[id].isEmpty() || special[id]) {
+                    continue;
+                }
+                int node = ROOT;
+                for (int i = 0; i < pieces[id].length(); i++) {
+                    long key = edge(node, pieces[id].charAt(i));
+                    Integer child = edges.get(key);
+                    if (child == null) {
+                        child = ids.size();
+                        ids.add(-1);
+                        edges.put(key, child);
+                    }
+                    node = child;
+                }
+                if (ids.get(node) < 0) {
+                    ids.set(node, id);
+                }
+            }
+
+            int capacity = Integer.highestOneBit(Math.max(1, edges.size()) * 2 - 1) << 1;
+            this.keys = new long[capacity];
+            this.children = new int[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(keys, EMPTY);
+            edges.forEach((key, child) -> {
+                int slot = slot(key);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                children[slot] = child;
+            });
+            this.nodePieces = ids.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        /**
+         * Node reached from {@code node} by {@code c}, or -1
+         */
+        int child(int node, char c) {
+            long key = edge(node, c);
+            for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return children[slot];
+                }
+                if (keys[slot] == EMPTY) {
+                    return -1;
+                }
+            }
+        }
+
+        /**
+         * Piece spelled by the path to {@code node}, or -1
+         */
+        int piece(int node) {
+            return nodePieces[node];
+        }
+
+        private int slot(long key) {
+            return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        }
+
+        private static long edge(int node, char c) {
+            return ((long) node << 16) | c;
+        }
+    }
+}
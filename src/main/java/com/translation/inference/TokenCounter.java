@@ -0,0 +1,94 @@
+package com.translation.inference;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.translation.config.TranslationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Token counts for request sizing, batch packing and rate-limit accounting. Counts come from the
+ * SentencePiece vocabulary at {@code translation.tokenizer.path}, or the local model's when unset,
+ * and are cached per text. Without a vocabulary they are estimated at four characters per token.
+ */
+@Slf4j
+@Component
+public class TokenCounter {
+
+    private static final int CHARS_PER_TOKEN = 4;
+
+    private final SentencePieceTokenizer tokenizer;
+    private final Cache<String, Integer> counts;
+
+    @Autowired
+    public TokenCounter(TranslationProperties properties, LocalInferenceEngine inferenceEngine) {
+        this(loadTokenizer(properties, inferenceEngine), properties.getTokenizer().getCacheMaxWeight());
+    }
+
+    TokenCounter(SentencePieceTokenizer tokenizer, long cacheMaxWeight) {
+        this.tokenizer = tokenizer;
+        this.counts = Caffeine.newBuilder()
+            .maximumWeight(cacheMaxWeight)
+            .weigher((String text, Integer count) -> text.length())
+            .recordStats()
+            .build();
+        if (tokenizer == null) {
+            log.info("No tokenizer vocabulary found; token counts are estimated at {} chars/token", CHARS_PER_TOKEN);
+        }
+    }
+
+    /**
+     * Tokens in {@code text}, without special tokens
+     */
+    public int count(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        if (tokenizer == null) {
+            return (text.length() + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN;
+        }
+        return counts.get(text, tokenizer::countTokens);
+    }
+
+    /**
+     * Whether counts come from a vocabulary rather than the character estimate
+     */
+    public boolean hasVocabulary() {
+        return tokenizer != null;
+    }
+
+    public CacheStats stats() {
+        return counts.stats();
+    }
+
+    private static SentencePieceTokenizer loadTokenizer(TranslationProperties properties,
+                                                        LocalInferenceEngine inferenceEngine) {
+        String configured = properties.getTokenizer().getPath();
+        if (configured == null && inferenceEngine.getTokenizer() != null) {
+            return inferenceEngine.getTokenizer();
+        }
+        Path path = configured != null
+            ? Path.of(configured)
+            : Path.of(properties.getLocal().getModelPath(), "tokenizer.json");
+        if (!Files.isRegularFile(path)) {
+            if (configured != null) {
+                log.warn("Tokenizer {} not found", path);
+            }
+            return null;
+        }
+        try {
+            SentencePieceTokenizer tokenizer = SentencePieceTokenizer.load(path);
+            log.info("Token counts use {} ({} pieces)", path, tokenizer.vocabularySize());
+            return tokenizer;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to load tokenizer {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+}
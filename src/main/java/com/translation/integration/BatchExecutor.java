@@ -0,0 +1,273 @@
+package com.translation.integration;
+
+import com.translation.config.TranslationProperties;
+import com.translation.exception.PartialBatchTranslationException;
+import com.translation.exception.TranslationException;
+import com.translation.tracing.TraceContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs batch items concurrently with a bounded number of in-flight calls per provider.
+ * Output order always matches input order; each item has its own timeout and a failed
+ * item is reported on its own instead of failing the whole batch.
+ */
+@Slf4j
+@Component
+public class BatchExecutor {
+
+    private final ExecutorService executor;
+    private final int maxInFlight;
+    private final long itemTimeoutMs;
+    private final Map<String, Semaphore> inFlightLimits = new ConcurrentHashMap<>();
+
+    public BatchExecutor(TranslationProperties properties) {
+        TranslationProperties.BatchConfig batch = properties.getBatch();
+        this.maxInFlight = batch.getMaxInFlight();
+        this.itemTimeoutMs = batch.getItemTimeoutMs();
+        this.executor = Executors.newCachedThreadPool(new BatchThreadFactory());
+        log.info("Batch executor initialized (max in-flight per provider: {}, item timeout: {}ms)",
+            maxInFlight, itemTimeoutMs);
+    }
+
+    /**
+     * Translate every text with {@code translateOne}, at most {@code max-in-flight} at a time for this provider.
+     *
+     * @throws PartialBatchTranslationException when some items failed
+     * @throws TranslationException when every item failed (the first item's failure)
+     */
+    public List<String> translateAll(String providerName, List<String> texts, Function<String, String> translateOne) {
+        return collect(submitAll(providerName, texts, translateOne));
+    }
+
+    /**
+     * Submit one task per item. Blocks the caller while the provider is at its in-flight cap,
+     * so a large batch never holds more than {@code max-in-flight} upstream calls at once.
+     * Each returned future times out {@code item-timeout-ms} after its task was submitted.
+     */
+    public <T, R> List<CompletableFuture<R>> submitAll(String providerName, List<T> items, Function<T, R> task) {
+        List<CompletableFuture<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(submit(providerName, item, task));
+        }
+        return futures;
+    }
+
+    /**
+     * Submit a single task under the provider's in-flight cap, blocking while the cap is reached.
+     * When the item times out, its worker is interrupted and its slot is freed right away,
+     * so a hung upstream call cannot hold in-flight capacity.
+     */
+    public <T, R> CompletableFuture<R> submit(String providerName, T item, Function<T, R> task) {
+        Semaphore limit = inFlightLimits.computeIfAbsent(providerName, name -> new Semaphore(maxInFlight));
+        acquire(limit);
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                limit.release();
+            }
+        };
+        CompletableFuture<R> future = new CompletableFuture<>();
+        Future<?> worker;
+        try {
+            worker = executor.submit(TraceContext.wrap(() -> {
+                try {
+                    future.complete(task.apply(item));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    release.run();
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            release.run();
+            throw new TranslationException(
+                "Batch executor rejected task: " + e.getMessage(),
+                HttpStatus.SERVICE_UNAVAILABLE
+            );
+        }
+        future.orTimeout(itemTimeoutMs, TimeUnit.MILLISECONDS).whenComplete((result, error) -> {
+            if (error instanceof TimeoutException) {
+                worker.cancel(true);
+                release.run();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Wait for futures completed elsewhere (e.g. by the inference scheduler), failing any that
+     * has not completed within {@code item-timeout-ms}, and assemble the results in order
+     *
+     * @throws PartialBatchTranslationException when some items failed
+     * @throws TranslationException when every item failed (the first item's failure)
+     */
+    public List<String> collectWithinTimeout(List<CompletableFuture<String>> futures) {
+        futures.forEach(future -> future.orTimeout(itemTimeoutMs, TimeUnit.MILLISECONDS));
+        return collect(futures);
+    }
+
+    /**
+     * Wait for all futures and assemble the results in order
+     *
+     * @throws PartialBatchTranslationException when some items failed
+     * @throws TranslationException when every item failed (the first item's failure)
+     */
+    public static List<String> collect(List<CompletableFuture<String>> futures) {
+        List<String> results = new ArrayList<>(futures.size());
+        Map<Integer, String> failures = new TreeMap<>();
+        TranslationException firstFailure = null;
+
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TranslationException("Batch translation interrupted", HttpStatus.SERVICE_UNAVAILABLE);
+            } catch (ExecutionException e) {
+                TranslationException failure = toTranslationException(e.getCause());
+                if (firstFailure == null) {
+                    firstFailure = failure;
+                }
+                results.add(null);
+                failures.put(i, failure.getMessage());
+            }
+        }
+
+        if (failures.isEmpty()) {
+            return results;
+        }
+        if (failures.size() == futures.size()) {
+            throw firstFailure;
+        }
+        log.warn("Batch completed with {} of {} items failed", failures.size(), futures.size());
+        throw new PartialBatchTranslationException(results, failures);
+    }
+
+    /**
+     * Wait for chunked futures (one per multi-item upstream call) and flatten them in order.
+     * A failed chunk marks every item it covered as failed.
+     *
+     * @param chunkSizes number of items covered by each future
+     * @throws PartialBatchTranslationException when some items failed
+     * @throws TranslationException when every item failed (the first chunk's failure)
+     */
+    public static List<String> collectChunks(List<CompletableFuture<List<String>>> futures, List<Integer> chunkSizes) {
+        int total = chunkSizes.stream().mapToInt(Integer::intValue).sum();
+        List<String> results = new ArrayList<>(total);
+        Map<Integer, String> failures = new TreeMap<>();
+        TranslationException firstFailure = null;
+
+        for (int i = 0; i < futures.size(); i++) {
+            int size = chunkSizes.get(i);
+            TranslationException failure;
+            try {
+                List<String> chunk = futures.get(i).get();
+                if (chunk.size() == size) {
+                    results.addAll(chunk);
+                    continue;
+                }
+                failure = new TranslationException(
+                    "Upstream returned " + chunk.size() + " translations for " + size + " texts",
+                    HttpStatus.BAD_GATEWAY
+                );
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TranslationException("Batch translation interrupted", HttpStatus.SERVICE_UNAVAILABLE);
+            } catch (ExecutionException e) {
+                failure = toTranslationException(e.getCause());
+            }
+
+            if (firstFailure == null) {
+                firstFailure = failure;
+            }
+            for (int j = 0; j < size; j++) {
+                failures.put(results.size(), failure.getMessage());
+                results.add(null);
+            }
+        }
+
+        if (failures.isEmpty()) {
+            return results;
+        }
+        if (failures.size() == total) {
+            throw firstFailure;
+        }
+        log.warn("Batch completed with {} of {} items failed", failures.size(), total);
+        throw new PartialBatchTranslationException(results, failures);
+    }
+
+    /**
+     * Map a task failure to the {@link TranslationException} reported for that item
+     */
+    public static TranslationException toTranslationException(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof TranslationException translationException) {
+            return translationException;
+        }
+        if (cause instanceof TimeoutException) {
+            return new TranslationException(
+                "Translation timed out", HttpStatus.GATEWAY_TIMEOUT, "TRANSLATION_TIMEOUT");
+        }
+        return new TranslationException(
+            "Translation failed: " + cause.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public long getItemTimeoutMs() {
+        return itemTimeoutMs;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static void acquire(Semaphore limit) {
+        try {
+            limit.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TranslationException("Batch translation interrupted", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    private static class BatchThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "batch-translate-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
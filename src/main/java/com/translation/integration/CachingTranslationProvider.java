@@ -0,0 +1,139 @@
+package com.translation.integration;
+
+import com.translation.cache.TranslationCache;
+import com.translation.cache.TranslationKey;
+import com.translation.exception.PartialBatchTranslationException;
+import com.translation.exception.TranslationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Decorator that serves repeated translations from {@link TranslationCache}
+ * and only forwards cache misses to the wrapped provider. Entries are stored stripped,
+ * and every hit gets the whitespace around the caller's own text.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CachingTranslationProvider implements TranslationProvider {
+
+    private final TranslationProvider delegate;
+    private final TranslationCache cache;
+
+    @Override
+    public String translate(String text, String sourceLanguage, String targetLanguage) {
+        TranslationKey key = TranslationKey.of(delegate.getProviderName(), sourceLanguage, targetLanguage, text);
+        String cached = cache.get(key);
+        if (cached != null) {
+            log.debug("Cache hit: {} -> {}", sourceLanguage, targetLanguage);
+            return TranslationKey.withWhitespaceOf(text, cached);
+        }
+
+        String translatedText = delegate.translate(text, sourceLanguage, targetLanguage);
+        cache.put(key, strip(translatedText));
+        return translatedText;
+    }
+
+    @Override
+    public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
+        String engine = delegate.getProviderName();
+        List<String> results = new ArrayList<>(texts.size());
+        // Distinct misses in first-seen order, each mapped to the positions it fills
+        Map<TranslationKey, List<Integer>> misses = new LinkedHashMap<>();
+        Map<TranslationKey, String> missTexts = new LinkedHashMap<>();
+        int hits = 0;
+
+        for (int i = 0; i < texts.size(); i++) {
+            TranslationKey key = TranslationKey.of(engine, sourceLanguage, targetLanguage, texts.get(i));
+            String cached = cache.get(key);
+            results.add(TranslationKey.withWhitespaceOf(texts.get(i), cached));
+            if (cached != null) {
+                hits++;
+            } else {
+                misses.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+                missTexts.putIfAbsent(key, texts.get(i));
+            }
+        }
+
+        if (misses.isEmpty()) {
+            log.debug("Batch served entirely from cache: {} texts", texts.size());
+            return results;
+        }
+
+        List<TranslationKey> keys = new ArrayList<>(misses.keySet());
+        log.debug("Batch cache lookup: {} distinct misses out of {} texts", keys.size(), texts.size());
+        List<String> translated;
+        Map<Integer, String> missFailures = Map.of();
+        try {
+            translated = delegate.batchTranslate(
+                new ArrayList<>(missTexts.values()), sourceLanguage, targetLanguage);
+        } catch (PartialBatchTranslationException e) {
+            translated = e.getTranslations();
+            missFailures = e.getFailures();
+        } catch (TranslationException e) {
+            if (hits == 0) {
+                throw e;
+            }
+            // Cached items still succeed, so report the misses as per-item failures
+            translated = new ArrayList<>(Collections.nCopies(keys.size(), null));
+            missFailures = new TreeMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                missFailures.put(i, e.getMessage());
+            }
+        }
+
+        Map<Integer, String> failures = new TreeMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            TranslationKey key = keys.get(i);
+            String translatedText = translated.get(i);
+            String failure = missFailures.get(i);
+            if (failure == null) {
+                cache.put(key, strip(translatedText));
+            }
+            for (Integer position : misses.get(key)) {
+                // Positions sharing a key may differ in surrounding whitespace
+                results.set(position, failure == null
+                    ? TranslationKey.withWhitespaceOf(texts.get(position), translatedText)
+                    : translatedText);
+                if (failure != null) {
+                    failures.put(position, failure);
+                }
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new PartialBatchTranslationException(results, failures);
+        }
+        return results;
+    }
+
+    private static String strip(String translatedText) {
+        return translatedText == null ? null : translatedText.strip();
+    }
+
+    @Override
+    public Map<String, String> getSupportedLanguages() {
+        return delegate.getSupportedLanguages();
+    }
+
+    @Override
+    public boolean validateLanguagePair(String sourceLanguage, String targetLanguage) {
+        return delegate.validateLanguagePair(sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public boolean healthCheck() {
+        return delegate.healthCheck();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+}
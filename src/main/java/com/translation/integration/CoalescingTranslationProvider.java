@@ -0,0 +1,53 @@
+package com.translation.integration;
+
+import com.translation.cache.RequestCoalescer;
+import com.translation.cache.TranslationKey;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decorator that lets concurrent identical translations share one upstream call
+ * through {@link RequestCoalescer}. Callers whose texts differ only in surrounding whitespace
+ * share a call too, so each gets the shared translation with its own whitespace.
+ * Batches are passed through unchanged.
+ */
+@RequiredArgsConstructor
+public class CoalescingTranslationProvider implements TranslationProvider {
+
+    private final TranslationProvider delegate;
+    private final RequestCoalescer coalescer;
+
+    @Override
+    public String translate(String text, String sourceLanguage, String targetLanguage) {
+        TranslationKey key = TranslationKey.of(delegate.getProviderName(), sourceLanguage, targetLanguage, text);
+        String translated = coalescer.execute(key, () -> delegate.translate(text, sourceLanguage, targetLanguage));
+        return TranslationKey.withWhitespaceOf(text, translated);
+    }
+
+    @Override
+    public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
+        return delegate.batchTranslate(texts, sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public Map<String, String> getSupportedLanguages() {
+        return delegate.getSupportedLanguages();
+    }
+
+    @Override
+    public boolean validateLanguagePair(String sourceLanguage, String targetLanguage) {
+        return delegate.validateLanguagePair(sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public boolean healthCheck() {
+        return delegate.healthCheck();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+}
@@ -0,0 +1,137 @@
+package com.translation.integration;
+
+import com.translation.exception.PartialBatchTranslationException;
+import com.translation.exception.TranslationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tries a chain of providers in order until one succeeds. Providers that do not support
+ * the language pair are skipped, and client errors (4xx other than 429) are returned without falling back.
+ * For batches, only the items that failed are sent on to the next provider.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class FallbackTranslationProvider implements TranslationProvider {
+
+    private final List<TranslationProvider> chain;
+
+    @Override
+    public String translate(String text, String sourceLanguage, String targetLanguage) {
+        TranslationException lastError = null;
+        for (TranslationProvider provider : supporting(sourceLanguage, targetLanguage)) {
+            try {
+                return provider.translate(text, sourceLanguage, targetLanguage);
+            } catch (TranslationException e) {
+                if (e.isClientError()) {
+                    throw e;
+                }
+                log.warn("{} failed, falling back: {}", provider.getProviderName(), e.getMessage());
+                lastError = e;
+            }
+        }
+        throw lastError;
+    }
+
+    @Override
+    public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
+        List<String> translations = new ArrayList<>(Collections.nCopies(texts.size(), null));
+        Map<Integer, String> failures = new LinkedHashMap<>();
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < texts.size(); i++) {
+            pending.add(i);
+        }
+
+        TranslationException lastError = null;
+        for (TranslationProvider provider : supporting(sourceLanguage, targetLanguage)) {
+            if (pending.isEmpty()) {
+                break;
+            }
+            List<String> pendingTexts = pending.stream().map(texts::get).toList();
+            try {
+                List<String> results = provider.batchTranslate(pendingTexts, sourceLanguage, targetLanguage);
+                for (int i = 0; i < pending.size(); i++) {
+                    translations.set(pending.get(i), results.get(i));
+                }
+                pending.clear();
+                failures.clear();
+            } catch (PartialBatchTranslationException e) {
+                List<Integer> stillPending = new ArrayList<>();
+                for (int i = 0; i < pending.size(); i++) {
+                    String failure = e.getFailures().get(i);
+                    if (failure == null) {
+                        translations.set(pending.get(i), e.getTranslations().get(i));
+                        failures.remove(pending.get(i));
+                    } else {
+                        stillPending.add(pending.get(i));
+                        failures.put(pending.get(i), failure);
+                    }
+                }
+                log.warn("{} failed {} of {} batch items, falling back",
+                    provider.getProviderName(), stillPending.size(), pending.size());
+                pending = stillPending;
+                lastError = e;
+            } catch (TranslationException e) {
+                if (e.isClientError()) {
+                    throw e;
+                }
+                log.warn("{} batch failed, falling back: {}", provider.getProviderName(), e.getMessage());
+                pending.forEach(index -> failures.put(index, e.getMessage()));
+                lastError = e;
+            }
+        }
+
+        if (pending.isEmpty()) {
+            return translations;
+        }
+        if (pending.size() < texts.size()) {
+            throw new PartialBatchTranslationException(translations, new HashMap<>(failures));
+        }
+        throw lastError;
+    }
+
+    @Override
+    public Map<String, String> getSupportedLanguages() {
+        Map<String, String> languages = new LinkedHashMap<>();
+        for (TranslationProvider provider : chain) {
+            languages.putAll(provider.getSupportedLanguages());
+        }
+        return languages;
+    }
+
+    @Override
+    public boolean validateLanguagePair(String sourceLanguage, String targetLanguage) {
+        return chain.stream().anyMatch(provider -> provider.validateLanguagePair(sourceLanguage, targetLanguage));
+    }
+
+    @Override
+    public boolean healthCheck() {
+        return chain.stream().anyMatch(TranslationProvider::healthCheck);
+    }
+
+    @Override
+    public String getProviderName() {
+        return chain.get(0).getProviderName();
+    }
+
+    private List<TranslationProvider> supporting(String sourceLanguage, String targetLanguage) {
+        List<TranslationProvider> providers = chain.stream()
+            .filter(provider -> provider.validateLanguagePair(sourceLanguage, targetLanguage))
+            .toList();
+        if (providers.isEmpty()) {
+            throw new TranslationException(
+                "Invalid language pair: " + sourceLanguage + " -> " + targetLanguage,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+        return providers;
+    }
+}
@@ -1,27 +1,44 @@
 package com.translation.integration;
 
+import com.google.cloud.BaseServiceException;
 import com.google.cloud.translate.Translate;
 import com.google.cloud.translate.TranslateOptions;
 import com.google.cloud.translate.Translate.TranslateOption;
+import com.translation.config.TranslationEngine;
+import com.translation.config.TranslationProperties;
 import com.translation.exception.TranslationException;
+import com.translation.ratelimit.UpstreamRateLimiter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class GoogleTranslationProvider implements TranslationProvider {
     
+    private static final String ENGINE = TranslationEngine.GOOGLE.getValue();
+    
     private final Translate translate;
+    private final BatchExecutor batchExecutor;
+    private final UpstreamRateLimiter rateLimiter;
+    private final int maxSegmentsPerRequest;
+    private final int maxCharsPerRequest;
     
-    public GoogleTranslationProvider() {
+    public GoogleTranslationProvider(BatchExecutor batchExecutor, UpstreamRateLimiter rateLimiter,
+                                     TranslationProperties properties) {
+        this.batchExecutor = batchExecutor;
+        this.rateLimiter = rateLimiter;
+        this.maxSegmentsPerRequest = properties.getGoogle().getMaxSegmentsPerRequest();
+        this.maxCharsPerRequest = properties.getGoogle().getMaxCharsPerRequest();
         try {
-            this.translate = TranslateOptions.getDefaultInstance().getService();
+            this.translate = translateOptions(properties.getGoogle()).getService();
             log.info("Google Cloud Translate provider initialized");
         } catch (Exception e) {
             log.error("Failed to initialize Google Cloud Translate: {}", e.getMessage());
@@ -32,6 +49,17 @@ public class GoogleTranslationProvider implements TranslationProvider {
         }
     }
     
+    private static TranslateOptions translateOptions(TranslationProperties.GoogleConfig config) {
+        TranslateOptions.Builder options = TranslateOptions.newBuilder();
+        if (config.getBaseUrl() != null && !config.getBaseUrl().isBlank()) {
+            options.setHost(config.getBaseUrl());
+        }
+        if (config.getApiKey() != null && !config.getApiKey().isBlank()) {
+            options.setApiKey(config.getApiKey());
+        }
+        return options.build();
+    }
+    
     @Override
     public String translate(String text, String sourceLanguage, String targetLanguage) {
         try {
@@ -41,15 +69,23 @@ public class GoogleTranslationProvider implements TranslationProvider {
                     HttpStatus.BAD_REQUEST
                 );
             }
+            checkLength(text);
             
             Translate.TranslateOption srcLang = TranslateOption.sourceLanguage(sourceLanguage);
             Translate.TranslateOption targetLang = TranslateOption.targetLanguage(targetLanguage);
             
-            com.google.cloud.translate.Translation result = 
-                translate.translate(text, srcLang, targetLang);
+            com.google.cloud.translate.Translation result = rateLimiter.call(ENGINE, text.length(), () -> {
+                try {
+                    return translate.translate(text, srcLang, targetLang);
+                } catch (RuntimeException e) {
+                    throw upstreamError(e);
+                }
+            });
             
             log.debug("Translation completed: {} -> {}", sourceLanguage, targetLanguage);
             return result.getTranslatedText();
+        } catch (TranslationException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Google translation error: {}", e.getMessage());
             throw new TranslationException(
@@ -61,9 +97,106 @@ public class GoogleTranslationProvider implements TranslationProvider {
     
     @Override
     public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
-        return texts.stream()
-            .map(text -> translate(text, sourceLanguage, targetLanguage))
-            .collect(Collectors.toList());
+        if (!validateLanguagePair(sourceLanguage, targetLanguage)) {
+            throw new TranslationException(
+                "Invalid language pair: " + sourceLanguage + " -> " + targetLanguage,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+        texts.forEach(this::checkLength);
+        
+        List<List<String>> requests = partition(texts, maxSegmentsPerRequest, maxCharsPerRequest);
+        List<CompletableFuture<List<String>>> futures = batchExecutor.submitAll(getProviderName(), requests,
+            segments -> translateSegments(segments, sourceLanguage, targetLanguage));
+        log.debug("Batch of {} texts packed into {} Google requests", texts.size(), requests.size());
+        
+        return BatchExecutor.collectChunks(futures, requests.stream().map(List::size).collect(Collectors.toList()));
+    }
+    
+    /**
+     * Translate several segments in a single Google RPC
+     */
+    private List<String> translateSegments(List<String> segments, String sourceLanguage, String targetLanguage) {
+        long chars = segments.stream().mapToLong(String::length).sum();
+        try {
+            List<com.google.cloud.translate.Translation> results = rateLimiter.call(ENGINE, chars, () -> {
+                try {
+                    return translate.translate(
+                        segments,
+                        TranslateOption.sourceLanguage(sourceLanguage),
+                        TranslateOption.targetLanguage(targetLanguage)
+                    );
+                } catch (RuntimeException e) {
+                    throw upstreamError(e);
+                }
+            });
+            return results.stream()
+                .map(com.google.cloud.translate.Translation::getTranslatedText)
+                .collect(Collectors.toList());
+        } catch (TranslationException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Google batch translation error: {}", e.getMessage());
+            throw new TranslationException(
+                "Google translation failed: " + e.getMessage(),
+                HttpStatus.SERVICE_UNAVAILABLE
+            );
+        }
+    }
+    
+    /**
+     * Map a Google client error to a TranslationException carrying the upstream status.
+     * Google reports per-user rate limiting as 403 rateLimitExceeded, which is treated as 429.
+     */
+    private static TranslationException upstreamError(RuntimeException e) {
+        int status = 0;
+        if (e instanceof BaseServiceException serviceError) {
+            status = serviceError.getCode();
+            String reason = serviceError.getReason();
+            if (reason != null && reason.toLowerCase().endsWith("ratelimitexceeded")) {
+                status = HttpStatus.TOO_MANY_REQUESTS.value();
+            }
+        }
+        log.warn("Google translation error (status {}): {}", status, e.getMessage());
+        return TranslationException.upstream("Google translation failed: " + e.getMessage(), status);
+    }
+    
+    /**
+     * Reject a text that could not fit in one Google request
+     */
+    private void checkLength(String text) {
+        if (text.length() > maxCharsPerRequest) {
+            throw new TranslationException(
+                "Text of " + text.length() + " characters exceeds Google's limit of "
+                    + maxCharsPerRequest + " characters per request",
+                HttpStatus.BAD_REQUEST, "VALIDATION_ERROR");
+        }
+    }
+    
+    /**
+     * Split texts into consecutive request groups that respect Google's per-request
+     * segment and character limits. Texts must each fit within {@code maxCharsPerRequest}.
+     */
+    static List<List<String>> partition(List<String> texts, int maxSegmentsPerRequest, int maxCharsPerRequest) {
+        List<List<String>> requests = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int currentChars = 0;
+        
+        for (String text : texts) {
+            boolean full = current.size() >= maxSegmentsPerRequest
+                || currentChars + text.length() > maxCharsPerRequest;
+            if (full && !current.isEmpty()) {
+                requests.add(current);
+                current = new ArrayList<>();
+                currentChars = 0;
+            }
+            current.add(text);
+            currentChars += text.length();
+        }
+        if (!current.isEmpty()) {
+            requests.add(current);
+        }
+        return requests;
     }
     
     @Override
@@ -105,13 +238,16 @@ public class GoogleTranslationProvider implements TranslationProvider {
                !sourceLanguage.equals(targetLanguage);
     }
     
+    /**
+     * Lists the supported languages, which reaches the API without being billed as a translation
+     */
     @Override
     public boolean healthCheck() {
         try {
-            translate("hello", "en", "es");
+            translate.listSupportedLanguages();
             return true;
         } catch (Exception e) {
-            log.error("Health check failed: {}", e.getMessage());
+            log.warn("Health check failed: {}", e.getMessage());
             return false;
         }
     }
@@ -0,0 +1,49 @@
+package com.translation.integration;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decorator that hedges slow single-text translations through {@link RequestHedger},
+ * sending the duplicate to {@code alternate} (which may be the same provider).
+ * Batches are passed through unchanged, since duplicating them would be costly.
+ */
+@RequiredArgsConstructor
+public class HedgingTranslationProvider implements TranslationProvider {
+
+    private final TranslationProvider delegate;
+    private final TranslationProvider alternate;
+    private final RequestHedger hedger;
+
+    @Override
+    public String translate(String text, String sourceLanguage, String targetLanguage) {
+        return hedger.translate(delegate, alternate, text, sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
+        return delegate.batchTranslate(texts, sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public Map<String, String> getSupportedLanguages() {
+        return delegate.getSupportedLanguages();
+    }
+
+    @Override
+    public boolean validateLanguagePair(String sourceLanguage, String targetLanguage) {
+        return delegate.validateLanguagePair(sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public boolean healthCheck() {
+        return delegate.healthCheck();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+}
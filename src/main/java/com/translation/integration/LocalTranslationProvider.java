@@ -4,10 +4,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import com.translation.exception.TranslationException;
+import com.translation.inference.InferenceScheduler;
+import com.translation.inference.LocalInferenceEngine;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -31,13 +36,20 @@ public class LocalTranslationProvider implements TranslationProvider {
         SUPPORTED_LANGUAGES.put("it", "Italian");
     }
     
-    // Note: In a real implementation, you would load the actual transformer models here
-    // using DJL (Deep Java Library) or similar
+    private final BatchExecutor batchExecutor;
+    private final LocalInferenceEngine inferenceEngine;
+    private final InferenceScheduler inferenceScheduler;
     
-    public LocalTranslationProvider() {
+    public LocalTranslationProvider(BatchExecutor batchExecutor, LocalInferenceEngine inferenceEngine,
+                                    InferenceScheduler inferenceScheduler) {
+        this.batchExecutor = batchExecutor;
+        this.inferenceEngine = inferenceEngine;
+        this.inferenceScheduler = inferenceScheduler;
         log.info("Local Translation provider initialized");
-        log.warn("Note: Local GPU translation requires DJL setup. " +
-                "For production, implement actual model loading.");
+        if (!inferenceEngine.isAvailable()) {
+            log.warn("Note: no local model is installed (translation.local.model-path); " +
+                    "local translations are simulated.");
+        }
     }
     
     @Override
@@ -50,12 +62,17 @@ public class LocalTranslationProvider implements TranslationProvider {
                 );
             }
             
-            // In production, this would call the actual transformer model
-            // For now, we provide a placeholder implementation
             log.debug("Local translation: {} -> {}", sourceLanguage, targetLanguage);
-            
-            // TODO: Implement actual DJL model inference here
+            if (inferenceEngine.isAvailable()) {
+                return inferenceScheduler.submit(text, sourceLanguage, targetLanguage)
+                    .orTimeout(batchExecutor.getItemTimeoutMs(), TimeUnit.MILLISECONDS)
+                    .join();
+            }
             return simulateTranslation(text, sourceLanguage, targetLanguage);
+        } catch (CompletionException e) {
+            throw BatchExecutor.toTranslationException(e.getCause());
+        } catch (TranslationException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Local translation error: {}", e.getMessage());
             throw new TranslationException(
@@ -67,9 +84,22 @@ public class LocalTranslationProvider implements TranslationProvider {
     
     @Override
     public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
-        return texts.stream()
-            .map(text -> translate(text, sourceLanguage, targetLanguage))
+        if (!validateLanguagePair(sourceLanguage, targetLanguage)) {
+            throw new TranslationException(
+                "Invalid language pair: " + sourceLanguage + " -> " + targetLanguage,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+        if (!inferenceEngine.isAvailable()) {
+            return batchExecutor.translateAll(getProviderName(), texts,
+                text -> translate(text, sourceLanguage, targetLanguage));
+        }
+        
+        // The scheduler groups these with concurrent requests into length-bucketed model batches
+        List<CompletableFuture<String>> futures = texts.stream()
+            .map(text -> inferenceScheduler.submit(text, sourceLanguage, targetLanguage))
             .collect(Collectors.toList());
+        return batchExecutor.collectWithinTimeout(futures);
     }
     
     @Override
@@ -86,15 +116,13 @@ public class LocalTranslationProvider implements TranslationProvider {
                !sourceLanguage.equals(targetLanguage);
     }
     
+    /**
+     * Healthy while the inference scheduler accepts work; failures of the model itself show up
+     * in live traffic
+     */
     @Override
     public boolean healthCheck() {
-        try {
-            translate("hello", "en", "es");
-            return true;
-        } catch (Exception e) {
-            log.error("Health check failed: {}", e.getMessage());
-            return false;
-        }
+        return inferenceScheduler.isRunning();
     }
     
     @Override
@@ -103,12 +131,11 @@ public class LocalTranslationProvider implements TranslationProvider {
     }
     
     /**
-     * Placeholder for actual translation
-     * Replace with real model inference
+     * Placeholder used when no local model is installed
      */
     private String simulateTranslation(String text, String sourceLanguage, String targetLanguage) {
         // This is a placeholder - in production, use actual model
-        log.info("Simulating translation: {} ({}) -> ({})", text, sourceLanguage, targetLanguage);
+        log.trace("Simulating translation of {} chars: {} -> {}", text.length(), sourceLanguage, targetLanguage);
         return "[Translated: " + text + "]";
     }
 }
@@ -0,0 +1,151 @@
+package com.translation.integration;
+
+import com.translation.exception.PartialBatchTranslationException;
+import com.translation.exception.TranslationException;
+import com.translation.masking.MaskedText;
+import com.translation.masking.PlaceholderMasker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Decorator that masks placeholders, numbers, URLs and tags with {@link PlaceholderMasker}
+ * before translating, so the wrapped provider (and its cache) sees one template for a whole
+ * family of strings. If a translation comes back with its tokens lost or duplicated,
+ * the original text is translated unmasked instead.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MaskingTranslationProvider implements TranslationProvider {
+
+    private final TranslationProvider delegate;
+
+    @Override
+    public String translate(String text, String sourceLanguage, String targetLanguage) {
+        MaskedText masked = PlaceholderMasker.mask(text);
+        if (!masked.isMasked()) {
+            return delegate.translate(text, sourceLanguage, targetLanguage);
+        }
+        if (!masked.hasTranslatableText()) {
+            requireLanguagePair(sourceLanguage, targetLanguage);
+            return text;
+        }
+
+        String restored = masked.restore(delegate.translate(masked.template(), sourceLanguage, targetLanguage));
+        if (restored == null) {
+            log.debug("Placeholder tokens lost in translation, retrying unmasked: {} -> {}",
+                sourceLanguage, targetLanguage);
+            return delegate.translate(text, sourceLanguage, targetLanguage);
+        }
+        return restored;
+    }
+
+    @Override
+    public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
+        List<MaskedText> masked = new ArrayList<>(texts.size());
+        List<String> results = new ArrayList<>(Collections.nCopies(texts.size(), null));
+        List<Integer> positions = new ArrayList<>(texts.size());
+        List<String> templates = new ArrayList<>(texts.size());
+
+        for (int i = 0; i < texts.size(); i++) {
+            MaskedText maskedText = PlaceholderMasker.mask(texts.get(i));
+            masked.add(maskedText);
+            if (maskedText.isMasked() && !maskedText.hasTranslatableText()) {
+                results.set(i, texts.get(i));
+            } else {
+                positions.add(i);
+                templates.add(maskedText.template());
+            }
+        }
+        if (positions.size() < texts.size()) {
+            // Some items skip the delegate, so it cannot be left to reject the pair
+            requireLanguagePair(sourceLanguage, targetLanguage);
+        }
+        if (templates.isEmpty()) {
+            return results;
+        }
+
+        List<String> translated;
+        Map<Integer, String> upstreamFailures = Map.of();
+        try {
+            translated = delegate.batchTranslate(templates, sourceLanguage, targetLanguage);
+        } catch (PartialBatchTranslationException e) {
+            translated = e.getTranslations();
+            upstreamFailures = e.getFailures();
+        } catch (TranslationException e) {
+            if (positions.size() == texts.size()) {
+                throw e;
+            }
+            // Items that needed no translation still succeed, so report the rest as per-item failures
+            translated = new ArrayList<>(Collections.nCopies(templates.size(), null));
+            upstreamFailures = new TreeMap<>();
+            for (int j = 0; j < templates.size(); j++) {
+                upstreamFailures.put(j, e.getMessage());
+            }
+        }
+
+        Map<Integer, String> failures = new TreeMap<>();
+        for (int j = 0; j < positions.size(); j++) {
+            int position = positions.get(j);
+            String failure = upstreamFailures.get(j);
+            if (failure != null) {
+                failures.put(position, failure);
+                continue;
+            }
+
+            String restored = masked.get(position).restore(translated.get(j));
+            if (restored == null) {
+                // Rare: the engine mangled the tokens, so translate this item unmasked
+                try {
+                    restored = delegate.translate(texts.get(position), sourceLanguage, targetLanguage);
+                } catch (TranslationException e) {
+                    failures.put(position, e.getMessage());
+                }
+            }
+            results.set(position, restored);
+        }
+
+        if (!failures.isEmpty()) {
+            throw new PartialBatchTranslationException(results, failures);
+        }
+        return results;
+    }
+
+    /**
+     * Reject an invalid pair the way the delegate would, for texts that are returned without calling it
+     */
+    private void requireLanguagePair(String sourceLanguage, String targetLanguage) {
+        if (!delegate.validateLanguagePair(sourceLanguage, targetLanguage)) {
+            throw new TranslationException(
+                "Invalid language pair: " + sourceLanguage + " -> " + targetLanguage,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+    }
+
+    @Override
+    public Map<String, String> getSupportedLanguages() {
+        return delegate.getSupportedLanguages();
+    }
+
+    @Override
+    public boolean validateLanguagePair(String sourceLanguage, String targetLanguage) {
+        return delegate.validateLanguagePair(sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public boolean healthCheck() {
+        return delegate.healthCheck();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+}
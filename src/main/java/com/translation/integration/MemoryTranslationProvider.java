@@ -0,0 +1,116 @@
+package com.translation.integration;
+
+import com.translation.exception.PartialBatchTranslationException;
+import com.translation.exception.TranslationException;
+import com.translation.memory.TranslationMemory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Decorator that serves translations from {@link TranslationMemory} and records
+ * the wrapped provider's results back into it.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MemoryTranslationProvider implements TranslationProvider {
+
+    private final TranslationProvider delegate;
+    private final TranslationMemory memory;
+
+    @Override
+    public String translate(String text, String sourceLanguage, String targetLanguage) {
+        String remembered = memory.lookup(delegate.getProviderName(), sourceLanguage, targetLanguage, text);
+        if (remembered != null) {
+            log.debug("Translation memory hit: {} -> {}", sourceLanguage, targetLanguage);
+            return remembered;
+        }
+
+        String translatedText = delegate.translate(text, sourceLanguage, targetLanguage);
+        memory.record(delegate.getProviderName(), sourceLanguage, targetLanguage, text, translatedText);
+        return translatedText;
+    }
+
+    @Override
+    public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
+        String engine = delegate.getProviderName();
+        List<String> results = new ArrayList<>(texts.size());
+        List<Integer> missPositions = new ArrayList<>();
+        List<String> missTexts = new ArrayList<>();
+
+        for (int i = 0; i < texts.size(); i++) {
+            String remembered = memory.lookup(engine, sourceLanguage, targetLanguage, texts.get(i));
+            results.add(remembered);
+            if (remembered == null) {
+                missPositions.add(i);
+                missTexts.add(texts.get(i));
+            }
+        }
+
+        if (missTexts.isEmpty()) {
+            log.debug("Batch served entirely from translation memory: {} texts", texts.size());
+            return results;
+        }
+
+        List<String> translated;
+        Map<Integer, String> missFailures = Map.of();
+        try {
+            translated = delegate.batchTranslate(missTexts, sourceLanguage, targetLanguage);
+        } catch (PartialBatchTranslationException e) {
+            translated = e.getTranslations();
+            missFailures = e.getFailures();
+        } catch (TranslationException e) {
+            if (missTexts.size() == texts.size()) {
+                throw e;
+            }
+            // Remembered items still succeed, so report the misses as per-item failures
+            translated = new ArrayList<>(Collections.nCopies(missTexts.size(), null));
+            missFailures = new TreeMap<>();
+            for (int i = 0; i < missTexts.size(); i++) {
+                missFailures.put(i, e.getMessage());
+            }
+        }
+
+        Map<Integer, String> failures = new TreeMap<>();
+        for (int i = 0; i < missTexts.size(); i++) {
+            int position = missPositions.get(i);
+            String failure = missFailures.get(i);
+            results.set(position, translated.get(i));
+            if (failure != null) {
+                failures.put(position, failure);
+            } else {
+                memory.record(engine, sourceLanguage, targetLanguage, missTexts.get(i), translated.get(i));
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new PartialBatchTranslationException(results, failures);
+        }
+        return results;
+    }
+
+    @Override
+    public Map<String, String> getSupportedLanguages() {
+        return delegate.getSupportedLanguages();
+    }
+
+    @Override
+    public boolean validateLanguagePair(String sourceLanguage, String targetLanguage) {
+        return delegate.validateLanguagePair(sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public boolean healthCheck() {
+        return delegate.healthCheck();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+}
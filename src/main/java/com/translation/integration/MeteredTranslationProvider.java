@@ -0,0 +1,80 @@
+package com.translation.integration;
+
+import com.translation.health.ProviderHealthMonitor;
+import com.translation.metrics.TranslationMetrics;
+import com.translation.tracing.Span;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decorator that records latency, errors, batch sizes and in-flight calls of an engine provider,
+ * reports every outcome to the health monitor, and traces each call as a span of sampled requests
+ */
+@RequiredArgsConstructor
+public class MeteredTranslationProvider implements TranslationProvider {
+
+    private final String engine;
+    private final TranslationProvider delegate;
+    private final TranslationMetrics metrics;
+    private final ProviderHealthMonitor health;
+
+    @Override
+    public String translate(String text, String sourceLanguage, String targetLanguage) {
+        Span span = Span.start("provider.translate").tag("engine", engine)
+            .tag("source", sourceLanguage).tag("target", targetLanguage).tag("segments", 1);
+        long start = metrics.providerCallStarted(engine);
+        try {
+            String translated = delegate.translate(text, sourceLanguage, targetLanguage);
+            metrics.providerCallFinished(engine, "translate", 1, start, null);
+            health.record(engine, null);
+            span.end(null);
+            return translated;
+        } catch (RuntimeException e) {
+            metrics.providerCallFinished(engine, "translate", 1, start, e);
+            health.record(engine, e);
+            span.end(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
+        Span span = Span.start("provider.batch").tag("engine", engine)
+            .tag("source", sourceLanguage).tag("target", targetLanguage).tag("segments", texts.size());
+        long start = metrics.providerCallStarted(engine);
+        try {
+            List<String> translated = delegate.batchTranslate(texts, sourceLanguage, targetLanguage);
+            metrics.providerCallFinished(engine, "batch", texts.size(), start, null);
+            health.record(engine, null);
+            span.end(null);
+            return translated;
+        } catch (RuntimeException e) {
+            metrics.providerCallFinished(engine, "batch", texts.size(), start, e);
+            health.record(engine, e);
+            span.end(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, String> getSupportedLanguages() {
+        return delegate.getSupportedLanguages();
+    }
+
+    @Override
+    public boolean validateLanguagePair(String sourceLanguage, String targetLanguage) {
+        return delegate.validateLanguagePair(sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public boolean healthCheck() {
+        return delegate.healthCheck();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+}
@@ -0,0 +1,204 @@
+package com.translation.integration;
+
+import com.translation.config.TranslationProperties;
+import com.translation.exception.PartialBatchTranslationException;
+import com.translation.exception.TranslationException;
+import com.translation.tracing.TraceContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Merges concurrent single-text translations for the same provider and language pair
+ * into one {@link TranslationProvider#batchTranslate} call. A pending batch is flushed
+ * when it reaches {@code max-batch-size} or {@code max-wait-ms} after its first request,
+ * whichever comes first.
+ */
+@Slf4j
+@Component
+public class MicroBatchDispatcher {
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxWaitMs;
+    private final long timeoutMs;
+    private final Map<BatchKey, PendingBatch> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timer;
+    private final ExecutorService flushExecutor;
+
+    private final LongAdder dispatchedBatches = new LongAdder();
+    private final LongAdder dispatchedTexts = new LongAdder();
+
+    public MicroBatchDispatcher(TranslationProperties properties) {
+        TranslationProperties.MicroBatchConfig config = properties.getMicroBatch();
+        this.enabled = Boolean.TRUE.equals(config.getEnabled());
+        this.maxBatchSize = config.getMaxBatchSize() != null
+            ? config.getMaxBatchSize()
+            : properties.getLocal().getBatchSize();
+        this.maxWaitMs = config.getMaxWaitMs();
+        this.timeoutMs = maxWaitMs + properties.getBatch().getItemTimeoutMs();
+        this.timer = Executors.newSingleThreadScheduledExecutor(daemonThreads("micro-batch-timer"));
+        this.flushExecutor = Executors.newCachedThreadPool(daemonThreads("micro-batch-flush"));
+        if (enabled) {
+            log.info("Micro-batching enabled (max batch size: {}, max wait: {}ms)", maxBatchSize, maxWaitMs);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queue a translation and block until its batch has been translated, for at most
+     * {@code max-wait-ms} plus the batch {@code item-timeout-ms}
+     */
+    public String translate(TranslationProvider provider, String text, String sourceLanguage, String targetLanguage) {
+        try {
+            return submit(provider, text, sourceLanguage, targetLanguage)
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .join();
+        } catch (CompletionException e) {
+            throw BatchExecutor.toTranslationException(e.getCause());
+        }
+    }
+
+    /**
+     * Queue a translation; the future completes when its batch has been translated
+     */
+    public CompletableFuture<String> submit(TranslationProvider provider, String text,
+                                            String sourceLanguage, String targetLanguage) {
+        BatchKey key = new BatchKey(provider.getProviderName(), sourceLanguage, targetLanguage);
+        CompletableFuture<String> future = new CompletableFuture<>();
+        PendingBatch[] full = new PendingBatch[1];
+
+        pending.compute(key, (k, batch) -> {
+            if (batch == null) {
+                batch = new PendingBatch(provider, sourceLanguage, targetLanguage);
+                PendingBatch created = batch;
+                batch.timeout = timer.schedule(() -> flushOnTimeout(k, created), maxWaitMs, TimeUnit.MILLISECONDS);
+            }
+            batch.texts.add(text);
+            batch.futures.add(future);
+            if (batch.texts.size() >= maxBatchSize) {
+                full[0] = batch;
+                return null;
+            }
+            return batch;
+        });
+
+        if (full[0] != null) {
+            full[0].timeout.cancel(false);
+            dispatch(full[0]);
+        }
+        return future;
+    }
+
+    /**
+     * Average number of texts per dispatched upstream call
+     */
+    public double getAverageBatchSize() {
+        long batches = dispatchedBatches.sum();
+        return batches == 0 ? 0.0 : (double) dispatchedTexts.sum() / batches;
+    }
+
+    public long getDispatchedBatches() {
+        return dispatchedBatches.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        flushExecutor.shutdownNow();
+    }
+
+    private void flushOnTimeout(BatchKey key, PendingBatch batch) {
+        if (pending.remove(key, batch)) {
+            dispatch(batch);
+        }
+    }
+
+    private void dispatch(PendingBatch batch) {
+        dispatchedBatches.increment();
+        dispatchedTexts.add(batch.texts.size());
+        flushExecutor.execute(TraceContext.wrap(batch.trace, () -> run(batch)));
+    }
+
+    private void run(PendingBatch batch) {
+        List<CompletableFuture<String>> futures = batch.futures;
+        try {
+            if (batch.texts.size() == 1) {
+                futures.get(0).complete(
+                    batch.provider.translate(batch.texts.get(0), batch.sourceLanguage, batch.targetLanguage));
+                return;
+            }
+
+            if (log.isDebugEnabled()) {
+                log.debug("Dispatching micro-batch of {} texts: {} -> {}",
+                    batch.texts.size(), batch.sourceLanguage, batch.targetLanguage);
+            }
+            List<String> results = batch.provider.batchTranslate(
+                batch.texts, batch.sourceLanguage, batch.targetLanguage);
+            for (int i = 0; i < futures.size(); i++) {
+                futures.get(i).complete(results.get(i));
+            }
+        } catch (PartialBatchTranslationException e) {
+            for (int i = 0; i < futures.size(); i++) {
+                String failure = e.getFailures().get(i);
+                if (failure == null) {
+                    futures.get(i).complete(e.getTranslations().get(i));
+                } else {
+                    futures.get(i).completeExceptionally(
+                        new TranslationException(failure, HttpStatus.SERVICE_UNAVAILABLE));
+                }
+            }
+        } catch (RuntimeException e) {
+            futures.forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record BatchKey(String providerName, String sourceLanguage, String targetLanguage) {
+    }
+
+    private static class PendingBatch {
+
+        private final TranslationProvider provider;
+        private final String sourceLanguage;
+        private final String targetLanguage;
+        private final List<String> texts = new ArrayList<>();
+        private final List<CompletableFuture<String>> futures = new ArrayList<>();
+        // The upstream call is traced as part of the request that opened the batch
+        private final Map<String, String> trace = TraceContext.capture();
+        private ScheduledFuture<?> timeout;
+
+        private PendingBatch(TranslationProvider provider, String sourceLanguage, String targetLanguage) {
+            this.provider = provider;
+            this.sourceLanguage = sourceLanguage;
+            this.targetLanguage = targetLanguage;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.translation.integration;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decorator that routes single-text translations through {@link MicroBatchDispatcher},
+ * so concurrent requests for the same language pair reach the provider as one batch.
+ */
+@RequiredArgsConstructor
+public class MicroBatchingTranslationProvider implements TranslationProvider {
+
+    private final TranslationProvider delegate;
+    private final MicroBatchDispatcher dispatcher;
+
+    @Override
+    public String translate(String text, String sourceLanguage, String targetLanguage) {
+        return dispatcher.translate(delegate, text, sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
+        return delegate.batchTranslate(texts, sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public Map<String, String> getSupportedLanguages() {
+        return delegate.getSupportedLanguages();
+    }
+
+    @Override
+    public boolean validateLanguagePair(String sourceLanguage, String targetLanguage) {
+        return delegate.validateLanguagePair(sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public boolean healthCheck() {
+        return delegate.healthCheck();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+}
@@ -1,18 +1,41 @@
 package com.translation.integration;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.theokanning.openai.OpenAiHttpException;
+import com.theokanning.openai.Usage;
+import com.theokanning.openai.client.OpenAiApi;
 import com.theokanning.openai.service.OpenAiService;
+import com.theokanning.openai.completion.chat.ChatCompletionChoice;
 import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatCompletionResult;
 import com.theokanning.openai.completion.chat.ChatMessage;
+import com.translation.cache.TranslationKey;
+import com.translation.config.TranslationEngine;
+import com.translation.config.TranslationProperties;
+import com.translation.exception.PartialBatchTranslationException;
 import com.translation.exception.TranslationException;
+import com.translation.inference.TokenCounter;
+import com.translation.ratelimit.UpstreamRateLimiter;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import retrofit2.Retrofit;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -21,6 +44,52 @@ public class OpenAITranslationProvider implements TranslationProvider {
     
     private final OpenAiService openAiService;
     private final String model;
+    private final BatchExecutor batchExecutor;
+    private final UpstreamRateLimiter rateLimiter;
+    private final TokenCounter tokenCounter;
+    private final int maxTokens;
+    private final boolean packedBatchEnabled;
+    private final int maxSegmentsPerPack;
+    
+    // Packed batch statistics; packing factor = packedSegments / packedRequests
+    private final LongAdder packedRequests = new LongAdder();
+    private final LongAdder packedSegments = new LongAdder();
+    private final LongAdder fallbackSegments = new LongAdder();
+    
+    // Tokens billed by OpenAI, as reported in each completion's usage
+    private final LongAdder billedPromptTokens = new LongAdder();
+    private final LongAdder billedCompletionTokens = new LongAdder();
+    
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    
+    private static final String ENGINE = TranslationEngine.OPENAI.getValue();
+    
+    /**
+     * Same read timeout as {@code new OpenAiService(apiKey)}
+     */
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+    
+    /**
+     * Tokens added per segment by the JSON envelope ({"id":n,"text":"..."})
+     */
+    private static final int SEGMENT_OVERHEAD_TOKENS = 8;
+    
+    /**
+     * Translations can take up to twice the tokens of their source (e.g. into CJK or Hindi),
+     * so a pack's input is kept under maxTokens / OUTPUT_EXPANSION to leave room for the reply
+     */
+    private static final int OUTPUT_EXPANSION = 2;
+    
+    /**
+     * Reply tokens allowed on top of OUTPUT_EXPANSION x the content, for very short texts
+     */
+    private static final int REPLY_MARGIN_TOKENS = 16;
+    
+    private static final String PACKED_SYSTEM_PROMPT =
+        "You are a professional translator. Translate the \"text\" of every item from %s to %s. " +
+        "The input is a JSON array of objects {\"id\": number, \"text\": string}. " +
+        "Reply with only a JSON array containing one {\"id\": number, \"text\": string} object per input item, " +
+        "keeping each id unchanged. Do not merge, split, skip or explain items.";
     
     private static final Map<String, String> SUPPORTED_LANGUAGES = new HashMap<>();
     
@@ -41,7 +110,11 @@ public class OpenAITranslationProvider implements TranslationProvider {
     
     public OpenAITranslationProvider(
             @Value("${translation.openai.api-key:}") String apiKey,
-            @Value("${translation.openai.model:gpt-3.5-turbo}") String model) {
+            @Value("${translation.openai.model:gpt-3.5-turbo}") String model,
+            BatchExecutor batchExecutor,
+            UpstreamRateLimiter rateLimiter,
+            TokenCounter tokenCounter,
+            TranslationProperties properties) {
         
         if (apiKey == null || apiKey.isBlank()) {
             throw new TranslationException(
@@ -50,11 +123,32 @@ public class OpenAITranslationProvider implements TranslationProvider {
             );
         }
         
-        this.openAiService = new OpenAiService(apiKey);
+        this.openAiService = createService(apiKey, properties.getOpenai().getBaseUrl());
         this.model = model;
+        this.batchExecutor = batchExecutor;
+        this.rateLimiter = rateLimiter;
+        this.tokenCounter = tokenCounter;
+        this.maxTokens = properties.getOpenai().getMaxTokens();
+        this.packedBatchEnabled = Boolean.TRUE.equals(properties.getOpenai().getPackedBatchEnabled());
+        this.maxSegmentsPerPack = properties.getOpenai().getMaxSegmentsPerPack();
         log.info("OpenAI Translation provider initialized with model: {}", model);
     }
     
+    /**
+     * Client for the default endpoint, or for {@code baseUrl} (e.g. a fake upstream in load tests)
+     */
+    private static OpenAiService createService(String apiKey, String baseUrl) {
+        if (baseUrl == null || baseUrl.isBlank()) {
+            return new OpenAiService(apiKey);
+        }
+        OkHttpClient client = OpenAiService.defaultClient(apiKey, DEFAULT_TIMEOUT);
+        Retrofit retrofit = OpenAiService.defaultRetrofit(client, OpenAiService.defaultObjectMapper())
+            .newBuilder()
+            .baseUrl(baseUrl.endsWith("/") ? baseUrl : baseUrl + "/")
+            .build();
+        return new OpenAiService(retrofit.create(OpenAiApi.class));
+    }
+    
     @Override
     public String translate(String text, String sourceLanguage, String targetLanguage) {
         try {
@@ -74,22 +168,12 @@ public class OpenAITranslationProvider implements TranslationProvider {
                 sourceLangName, targetLangName
             );
             
-            List<ChatMessage> messages = new ArrayList<>();
-            messages.add(new ChatMessage("system", systemPrompt));
-            messages.add(new ChatMessage("user", text));
-            
-            ChatCompletionRequest request = ChatCompletionRequest.builder()
-                .model(model)
-                .messages(messages)
-                .temperature(0.3)
-                .maxTokens(2048)
-                .build();
-            
-            var response = openAiService.createChatCompletion(request);
-            String translatedText = response.getChoices().get(0).getMessage().getContent().trim();
+            String translatedText = withSourceWhitespace(text, complete(systemPrompt, text, tokenCounter.count(text)));
             
             log.debug("OpenAI translation completed: {} -> {}", sourceLanguage, targetLanguage);
             return translatedText;
+        } catch (TranslationException e) {
+            throw e;
         } catch (Exception e) {
             log.error("OpenAI translation error: {}", e.getMessage());
             throw new TranslationException(
@@ -101,9 +185,271 @@ public class OpenAITranslationProvider implements TranslationProvider {
     
     @Override
     public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
-        return texts.stream()
-            .map(text -> translate(text, sourceLanguage, targetLanguage))
-            .collect(Collectors.toList());
+        if (!validateLanguagePair(sourceLanguage, targetLanguage)) {
+            throw new TranslationException(
+                "Invalid language pair: " + sourceLanguage + " -> " + targetLanguage,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+        if (!packedBatchEnabled) {
+            return batchExecutor.translateAll(getProviderName(), texts,
+                text -> translate(text, sourceLanguage, targetLanguage));
+        }
+        
+        List<List<String>> packs = pack(texts);
+        List<CompletableFuture<List<String>>> futures = batchExecutor.submitAll(getProviderName(), packs,
+            segments -> segments.size() == 1
+                ? List.of(translate(segments.get(0), sourceLanguage, targetLanguage))
+                : translatePacked(segments, sourceLanguage, targetLanguage));
+        log.debug("Batch of {} texts packed into {} OpenAI requests", texts.size(), packs.size());
+        
+        List<String> results;
+        Map<Integer, String> failures;
+        try {
+            results = BatchExecutor.collectChunks(futures, packs.stream().map(List::size).collect(Collectors.toList()));
+            failures = new TreeMap<>();
+        } catch (PartialBatchTranslationException e) {
+            results = new ArrayList<>(e.getTranslations());
+            failures = new TreeMap<>(e.getFailures());
+        }
+        return retryMissing(texts, results, failures, sourceLanguage, targetLanguage);
+    }
+    
+    /**
+     * Translate individually the segments a packed reply left out (null in {@code results} but not failed).
+     * The retries are fanned out from here rather than run inside the pack's task, which would hold
+     * its in-flight slot while translating them one after another.
+     *
+     * @throws PartialBatchTranslationException when some items failed
+     * @throws TranslationException when every item failed
+     */
+    private List<String> retryMissing(List<String> texts, List<String> results, Map<Integer, String> failures,
+                                      String sourceLanguage, String targetLanguage) {
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) == null && !failures.containsKey(i)) {
+                missing.add(i);
+            }
+        }
+        TranslationException firstFailure = null;
+        if (!missing.isEmpty()) {
+            fallbackSegments.add(missing.size());
+            List<CompletableFuture<String>> retries = batchExecutor.submitAll(getProviderName(), missing,
+                index -> translate(texts.get(index), sourceLanguage, targetLanguage));
+            for (int i = 0; i < missing.size(); i++) {
+                try {
+                    results.set(missing.get(i), retries.get(i).get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new TranslationException("Batch translation interrupted", HttpStatus.SERVICE_UNAVAILABLE);
+                } catch (ExecutionException e) {
+                    TranslationException failure = BatchExecutor.toTranslationException(e.getCause());
+                    if (firstFailure == null) {
+                        firstFailure = failure;
+                    }
+                    failures.put(missing.get(i), failure.getMessage());
+                }
+            }
+        }
+        
+        if (failures.isEmpty()) {
+            return results;
+        }
+        if (failures.size() == results.size() && firstFailure != null) {
+            throw firstFailure;
+        }
+        throw new PartialBatchTranslationException(results, failures);
+    }
+    
+    /**
+     * Translate several segments with one chat completion, sending the system prompt once.
+     * Segments missing from (or unparseable in) the reply are left null for {@link #retryMissing}.
+     */
+    private List<String> translatePacked(List<String> segments, String sourceLanguage, String targetLanguage) {
+        String systemPrompt = String.format(PACKED_SYSTEM_PROMPT,
+            SUPPORTED_LANGUAGES.getOrDefault(sourceLanguage, sourceLanguage),
+            SUPPORTED_LANGUAGES.getOrDefault(targetLanguage, targetLanguage));
+        
+        ArrayNode items = MAPPER.createArrayNode();
+        int contentTokens = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            items.addObject().put("id", i).put("text", segments.get(i));
+            contentTokens += segmentTokens(segments.get(i));
+        }
+        
+        String content;
+        try {
+            content = complete(systemPrompt, MAPPER.writeValueAsString(items), contentTokens);
+        } catch (TranslationException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("OpenAI packed translation error: {}", e.getMessage());
+            throw new TranslationException(
+                "OpenAI translation failed: " + e.getMessage(),
+                HttpStatus.SERVICE_UNAVAILABLE
+            );
+        }
+        
+        String[] translated = parsePacked(content, segments.size());
+        packedRequests.increment();
+        packedSegments.add(segments.size());
+        
+        for (int i = 0; i < segments.size(); i++) {
+            if (translated[i] != null) {
+                translated[i] = withSourceWhitespace(segments.get(i), translated[i]);
+            }
+        }
+        return Arrays.asList(translated);
+    }
+    
+    /**
+     * The translation, stripped, with the source's leading and trailing whitespace (such as the line
+     * breaks around document chunks), which the model does not reliably reproduce
+     */
+    static String withSourceWhitespace(String source, String translation) {
+        return TranslationKey.withWhitespaceOf(source, translation);
+    }
+    
+    /**
+     * Run a chat completion through the rate limiter. The reply is capped at OUTPUT_EXPANSION times
+     * the content's tokens (within max-tokens), and the limiter is charged the prompt plus that cap,
+     * which is what OpenAI counts against its token limits. A reply cut off by the cap is requested
+     * again with the full max-tokens, since counts from our vocabulary only approximate the model's.
+     */
+    private String complete(String systemPrompt, String userContent, int contentTokens) {
+        int promptTokens = tokenCounter.count(systemPrompt) + contentTokens;
+        int replyTokens = Math.min(maxTokens, OUTPUT_EXPANSION * contentTokens + REPLY_MARGIN_TOKENS);
+        ChatCompletionChoice choice = complete(systemPrompt, userContent, promptTokens, replyTokens);
+        if ("length".equals(choice.getFinishReason()) && replyTokens < maxTokens) {
+            log.debug("OpenAI reply reached its {} token cap, retrying with {}", replyTokens, maxTokens);
+            choice = complete(systemPrompt, userContent, promptTokens, maxTokens);
+        }
+        return choice.getMessage().getContent();
+    }
+    
+    private ChatCompletionChoice complete(String systemPrompt, String userContent, int promptTokens,
+                                          int replyTokens) {
+        List<ChatMessage> messages = new ArrayList<>();
+        messages.add(new ChatMessage("system", systemPrompt));
+        messages.add(new ChatMessage("user", userContent));
+        
+        ChatCompletionRequest request = ChatCompletionRequest.builder()
+            .model(model)
+            .messages(messages)
+            .temperature(0.3)
+            .maxTokens(replyTokens)
+            .build();
+        
+        return rateLimiter.call(ENGINE, (long) promptTokens + replyTokens, () -> {
+            try {
+                ChatCompletionResult result = openAiService.createChatCompletion(request);
+                Usage usage = result.getUsage();
+                if (usage != null) {
+                    billedPromptTokens.add(usage.getPromptTokens());
+                    billedCompletionTokens.add(usage.getCompletionTokens());
+                }
+                return result.getChoices().get(0);
+            } catch (OpenAiHttpException e) {
+                log.warn("OpenAI error (status {}): {}", e.statusCode, e.getMessage());
+                throw TranslationException.upstream("OpenAI translation failed: " + e.getMessage(), e.statusCode);
+            } catch (RuntimeException e) {
+                log.warn("OpenAI error: {}", e.getMessage());
+                throw TranslationException.upstream("OpenAI translation failed: " + e.getMessage(), 0);
+            }
+        });
+    }
+    
+    /**
+     * Extract translations by id from a packed reply; unmatched ids stay null
+     */
+    private static String[] parsePacked(String content, int expected) {
+        String[] results = new String[expected];
+        if (content == null) {
+            return results;
+        }
+        // Tolerate code fences or stray prose around the array
+        int start = content.indexOf('[');
+        int end = content.lastIndexOf(']');
+        if (start < 0 || end <= start) {
+            log.warn("OpenAI packed reply contained no JSON array");
+            return results;
+        }
+        
+        try {
+            for (JsonNode item : MAPPER.readTree(content.substring(start, end + 1))) {
+                JsonNode id = item.get("id");
+                JsonNode text = item.get("text");
+                if (id == null || !id.canConvertToInt() || text == null || !text.isTextual()) {
+                    continue;
+                }
+                int index = id.asInt();
+                if (index >= 0 && index < expected && results[index] == null) {
+                    results[index] = text.asText();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to parse OpenAI packed reply: {}", e.getOriginalMessage());
+        }
+        return results;
+    }
+    
+    /**
+     * Group consecutive texts into packs whose token count fits the token budget.
+     * A text that alone exceeds the budget forms its own (unpacked) group.
+     */
+    private List<List<String>> pack(List<String> texts) {
+        int tokenBudget = maxTokens / OUTPUT_EXPANSION;
+        List<List<String>> packs = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int currentTokens = 0;
+        
+        for (String text : texts) {
+            int tokens = segmentTokens(text);
+            boolean full = current.size() >= maxSegmentsPerPack || currentTokens + tokens > tokenBudget;
+            if (full && !current.isEmpty()) {
+                packs.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+            current.add(text);
+            currentTokens += tokens;
+        }
+        if (!current.isEmpty()) {
+            packs.add(current);
+        }
+        return packs;
+    }
+    
+    private int segmentTokens(String text) {
+        return tokenCounter.count(text) + SEGMENT_OVERHEAD_TOKENS;
+    }
+    
+    /**
+     * Average number of segments sent per packed chat completion
+     */
+    public double getPackingFactor() {
+        long requests = packedRequests.sum();
+        return requests == 0 ? 0.0 : (double) packedSegments.sum() / requests;
+    }
+    
+    public long getPackedRequests() {
+        return packedRequests.sum();
+    }
+    
+    public long getPackedSegments() {
+        return packedSegments.sum();
+    }
+    
+    public long getFallbackSegments() {
+        return fallbackSegments.sum();
+    }
+    
+    public long getPromptTokens() {
+        return billedPromptTokens.sum();
+    }
+    
+    public long getCompletionTokens() {
+        return billedCompletionTokens.sum();
     }
     
     @Override
@@ -120,13 +466,16 @@ public class OpenAITranslationProvider implements TranslationProvider {
                !sourceLanguage.equals(targetLanguage);
     }
     
+    /**
+     * Looks up the configured model, which checks the key and reachability without spending tokens
+     */
     @Override
     public boolean healthCheck() {
         try {
-            translate("hello", "en", "es");
+            openAiService.getModel(model);
             return true;
         } catch (Exception e) {
-            log.error("Health check failed: {}", e.getMessage());
+            log.warn("Health check failed: {}", e.getMessage());
             return false;
         }
     }
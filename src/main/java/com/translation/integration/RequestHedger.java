@@ -0,0 +1,294 @@
+package com.translation.integration;
+
+import com.translation.config.TranslationProperties;
+import com.translation.exception.TranslationException;
+import com.translation.routing.ProviderStats;
+import com.translation.tracing.TraceContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends a duplicate ("hedge") of a single-text translation when the original has not returned
+ * within the provider's {@code percentile} latency, and returns whichever finishes first.
+ * The original runs on the caller's thread; only the hedge is handed to another thread, when
+ * the delay expires. The loser is cancelled by interrupting its thread, so a call that ignores
+ * interrupts still holds the caller until it returns. Only attempts that finish on their own
+ * feed the latency percentiles. Hedges are paid from a budget that earns {@code max-hedge-ratio}
+ * per request, so at most that share of extra upstream calls is made. Batches are never hedged,
+ * and with micro-batching enabled single texts reach the engine as batches, so nothing is.
+ */
+@Slf4j
+@Component
+public class RequestHedger {
+
+    private static final long DELAY_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final double MAX_BUDGET = 10.0;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayMs;
+    private final long initialDelayMs;
+    private final int minSamples;
+    private final double maxHedgeRatio;
+    private final String alternateEngine;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService timer;
+
+    private final Map<String, ProviderStats> latencies = new ConcurrentHashMap<>();
+    private final Map<String, HedgeDelay> delays = new ConcurrentHashMap<>();
+    private double budget = MAX_BUDGET;
+
+    private final LongAdder hedgedRequests = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
+
+    public RequestHedger(TranslationProperties properties) {
+        TranslationProperties.HedgingConfig config = properties.getHedging();
+        this.enabled = Boolean.TRUE.equals(config.getEnabled());
+        this.percentile = config.getPercentile();
+        this.minDelayMs = config.getMinDelayMs();
+        this.initialDelayMs = config.getInitialDelayMs();
+        this.minSamples = config.getMinSamples();
+        this.maxHedgeRatio = config.getMaxHedgeRatio();
+        this.alternateEngine = config.getAlternateEngine();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "hedge-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hedge-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (enabled) {
+            log.info("Request hedging enabled (p{} delay, max hedge ratio: {}, alternate engine: {})",
+                percentile, maxHedgeRatio, alternateEngine != null ? alternateEngine : "same provider");
+            if (Boolean.TRUE.equals(properties.getMicroBatch().getEnabled())) {
+                log.warn("Request hedging has no effect while micro-batching is enabled: "
+                    + "single texts are sent to the engine as batches, which are not hedged");
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Engine that should receive hedges, or {@code null} for the primary provider itself
+     */
+    public String getAlternateEngine() {
+        return alternateEngine;
+    }
+
+    public String translate(TranslationProvider primary, TranslationProvider alternate,
+                            String text, String sourceLanguage, String targetLanguage) {
+        ProviderStats stats = stats(primary.getProviderName());
+        earnBudget();
+
+        HedgedCall call = new HedgedCall(alternate, text, sourceLanguage, targetLanguage);
+        ScheduledFuture<?> trigger = timer.schedule(TraceContext.wrap(call::hedge),
+            delayMs(primary.getProviderName(), stats), TimeUnit.MILLISECONDS);
+        try {
+            call.runPrimary(primary, stats);
+            return call.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TranslationException("Translation interrupted", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            throw BatchExecutor.toTranslationException(e.getCause());
+        } finally {
+            trigger.cancel(false);
+            call.cancelHedge();
+        }
+    }
+
+    public long getHedgedRequests() {
+        return hedgedRequests.sum();
+    }
+
+    public long getHedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    public long getBudgetExhausted() {
+        return budgetExhausted.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Complete {@code result} with the first success; fail it only once every attempt has failed.
+     * Returns whether this attempt supplied the result.
+     */
+    private static boolean attempt(TranslationProvider provider, String text, String sourceLanguage,
+                                   String targetLanguage, CompletableFuture<String> result, AtomicInteger remaining) {
+        try {
+            return result.complete(provider.translate(text, sourceLanguage, targetLanguage));
+        } catch (RuntimeException e) {
+            if (remaining.decrementAndGet() == 0) {
+                result.completeExceptionally(e);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Latency samples of a provider's completed attempts
+     */
+    ProviderStats stats(String providerName) {
+        return latencies.computeIfAbsent(providerName, name -> new ProviderStats(0.2));
+    }
+
+    /**
+     * Hedge delay for a provider; the percentile is recomputed at most once a second
+     */
+    private long delayMs(String providerName, ProviderStats stats) {
+        long now = System.nanoTime();
+        HedgeDelay delay = delays.get(providerName);
+        if (delay != null && now - delay.computedAtNanos() < DELAY_REFRESH_NANOS) {
+            return delay.delayMs();
+        }
+        long delayMs = stats.getRequests() < minSamples
+            ? initialDelayMs
+            : Math.max(minDelayMs, (long) stats.percentileMs(percentile));
+        delays.put(providerName, new HedgeDelay(delayMs, now));
+        return delayMs;
+    }
+
+    private synchronized void earnBudget() {
+        budget = Math.min(MAX_BUDGET, budget + maxHedgeRatio);
+    }
+
+    private synchronized boolean spendBudget() {
+        if (budget < 1.0) {
+            return false;
+        }
+        budget -= 1.0;
+        return true;
+    }
+
+    private record HedgeDelay(long delayMs, long computedAtNanos) {
+    }
+
+    /**
+     * One hedged translation: the original on the caller's thread and at most one hedge
+     */
+    private final class HedgedCall {
+
+        private final Thread caller = Thread.currentThread();
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+        private final AtomicInteger remaining = new AtomicInteger(1);
+        private final TranslationProvider alternate;
+        private final String text;
+        private final String sourceLanguage;
+        private final String targetLanguage;
+
+        // Guarded by this
+        private boolean primaryRunning = true;
+        private boolean primaryCancelled;
+
+        private volatile Future<?> hedge;
+        private volatile boolean hedgeCancelled;
+
+        HedgedCall(TranslationProvider alternate, String text, String sourceLanguage, String targetLanguage) {
+            this.alternate = alternate;
+            this.text = text;
+            this.sourceLanguage = sourceLanguage;
+            this.targetLanguage = targetLanguage;
+        }
+
+        void runPrimary(TranslationProvider primary, ProviderStats stats) {
+            long start = stats.begin();
+            try {
+                attempt(primary, text, sourceLanguage, targetLanguage, result, remaining);
+            } finally {
+                boolean cancelled;
+                synchronized (this) {
+                    primaryRunning = false;
+                    cancelled = primaryCancelled;
+                }
+                if (cancelled) {
+                    // Clear the interrupt that stopped the call; the caller goes on with the hedge's result
+                    Thread.interrupted();
+                    stats.abandon();
+                } else {
+                    stats.end(start, 1, 0.0);
+                }
+            }
+        }
+
+        /**
+         * Runs on the timer once the delay expires: start the hedge unless the original has finished
+         */
+        void hedge() {
+            if (result.isDone()) {
+                return;
+            }
+            if (!spendBudget()) {
+                budgetExhausted.increment();
+                return;
+            }
+            if (remaining.getAndUpdate(count -> count == 0 ? 0 : count + 1) == 0) {
+                return;
+            }
+            hedgedRequests.increment();
+            log.debug("Hedging slow translation on {}: {} -> {}",
+                alternate.getProviderName(), sourceLanguage, targetLanguage);
+            hedge = executor.submit(TraceContext.wrap(() -> {
+                ProviderStats stats = stats(alternate.getProviderName());
+                long start = stats.begin();
+                boolean won = attempt(alternate, text, sourceLanguage, targetLanguage, result, remaining);
+                if (hedgeCancelled) {
+                    stats.abandon();
+                } else {
+                    stats.end(start, 1, 0.0);
+                }
+                if (won) {
+                    hedgeWins.increment();
+                    cancelPrimary();
+                }
+            }));
+            if (result.isDone()) {
+                // The original finished while the hedge was being handed off
+                cancelHedge();
+            }
+        }
+
+        private synchronized void cancelPrimary() {
+            if (primaryRunning) {
+                primaryCancelled = true;
+                caller.interrupt();
+            }
+        }
+
+        void cancelHedge() {
+            Future<?> running = hedge;
+            if (running != null && !running.isDone()) {
+                hedgeCancelled = true;
+                running.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.translation.integration;
+
+import com.translation.resilience.ProviderGuard;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decorator that runs an engine provider's translations through its circuit breaker and bulkhead
+ */
+@RequiredArgsConstructor
+public class ResilientTranslationProvider implements TranslationProvider {
+
+    private final String engine;
+    private final TranslationProvider delegate;
+    private final ProviderGuard guard;
+
+    @Override
+    public String translate(String text, String sourceLanguage, String targetLanguage) {
+        return guard.call(engine, () -> delegate.translate(text, sourceLanguage, targetLanguage));
+    }
+
+    @Override
+    public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
+        return guard.call(engine, () -> delegate.batchTranslate(texts, sourceLanguage, targetLanguage));
+    }
+
+    @Override
+    public Map<String, String> getSupportedLanguages() {
+        return delegate.getSupportedLanguages();
+    }
+
+    @Override
+    public boolean validateLanguagePair(String sourceLanguage, String targetLanguage) {
+        return delegate.validateLanguagePair(sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public boolean healthCheck() {
+        return delegate.healthCheck();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+}
@@ -0,0 +1,75 @@
+package com.translation.integration;
+
+import com.translation.exception.PartialBatchTranslationException;
+import com.translation.exception.TranslationException;
+import com.translation.routing.ProviderRouter;
+import com.translation.routing.ProviderStats;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Decorator that records each call's latency and outcome in {@link ProviderRouter}'s stats for
+ * its engine, so routing adapts to what it observes. Batches are recorded per item.
+ */
+@RequiredArgsConstructor
+public class RouterStatsTranslationProvider implements TranslationProvider {
+
+    private final String engine;
+    private final TranslationProvider delegate;
+    private final ProviderRouter router;
+
+    @Override
+    public String translate(String text, String sourceLanguage, String targetLanguage) {
+        return call(1, () -> delegate.translate(text, sourceLanguage, targetLanguage));
+    }
+
+    @Override
+    public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
+        return call(texts.size(), () -> delegate.batchTranslate(texts, sourceLanguage, targetLanguage));
+    }
+
+    @Override
+    public Map<String, String> getSupportedLanguages() {
+        return delegate.getSupportedLanguages();
+    }
+
+    @Override
+    public boolean validateLanguagePair(String sourceLanguage, String targetLanguage) {
+        return delegate.validateLanguagePair(sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public boolean healthCheck() {
+        return delegate.healthCheck();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    private <T> T call(int items, Supplier<T> translation) {
+        ProviderStats stats = router.stats(engine);
+        long start = stats.begin();
+        double errorRate = 1.0;
+        try {
+            T result = translation.get();
+            errorRate = 0.0;
+            return result;
+        } catch (PartialBatchTranslationException e) {
+            errorRate = (double) e.getFailures().size() / items;
+            throw e;
+        } catch (TranslationException e) {
+            // Client errors say nothing about the provider's health
+            if (e.isClientError()) {
+                errorRate = 0.0;
+            }
+            throw e;
+        } finally {
+            stats.end(start, items, errorRate);
+        }
+    }
+}
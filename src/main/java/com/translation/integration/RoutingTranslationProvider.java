@@ -0,0 +1,85 @@
+package com.translation.integration;
+
+import com.translation.exception.TranslationException;
+import com.translation.routing.ProviderRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spreads requests over per-engine provider chains as decided by {@link ProviderRouter}.
+ * Each chain keys its cache and memory by its own engine and reports under that engine's name;
+ * {@link RouterStatsTranslationProvider} feeds the engine calls back to the router.
+ * Engines that do not support the requested language pair are never chosen.
+ */
+@RequiredArgsConstructor
+public class RoutingTranslationProvider implements TranslationProvider {
+
+    public static final String PROVIDER_NAME = "RoutingTranslationProvider";
+
+    private final Map<String, TranslationProvider> providers;
+    private final ProviderRouter router;
+
+    /**
+     * Chain of the engine chosen for one request; the whole request goes to that engine
+     */
+    public TranslationProvider route(String sourceLanguage, String targetLanguage) {
+        return providers.get(router.choose(candidates(sourceLanguage, targetLanguage)));
+    }
+
+    @Override
+    public String translate(String text, String sourceLanguage, String targetLanguage) {
+        return route(sourceLanguage, targetLanguage).translate(text, sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
+        return route(sourceLanguage, targetLanguage).batchTranslate(texts, sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public Map<String, String> getSupportedLanguages() {
+        Map<String, String> languages = new LinkedHashMap<>();
+        for (String engine : router.engines()) {
+            languages.putAll(providers.get(engine).getSupportedLanguages());
+        }
+        return languages;
+    }
+
+    @Override
+    public boolean validateLanguagePair(String sourceLanguage, String targetLanguage) {
+        return router.weightsFor(sourceLanguage, targetLanguage).keySet().stream()
+            .anyMatch(engine -> providers.get(engine).validateLanguagePair(sourceLanguage, targetLanguage));
+    }
+
+    @Override
+    public boolean healthCheck() {
+        return router.engines().stream()
+            .anyMatch(engine -> providers.get(engine).healthCheck());
+    }
+
+    @Override
+    public String getProviderName() {
+        return PROVIDER_NAME;
+    }
+
+    private Map<String, Integer> candidates(String sourceLanguage, String targetLanguage) {
+        Map<String, Integer> candidates = new HashMap<>();
+        router.weightsFor(sourceLanguage, targetLanguage).forEach((engine, weight) -> {
+            if (providers.get(engine).validateLanguagePair(sourceLanguage, targetLanguage)) {
+                candidates.put(engine, weight);
+            }
+        });
+        if (candidates.isEmpty()) {
+            throw new TranslationException(
+                "No routed provider supports " + sourceLanguage + " -> " + targetLanguage,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+        return candidates;
+    }
+}
@@ -1,13 +1,26 @@
 package com.translation.integration;
 
+import com.translation.cache.RequestCoalescer;
+import com.translation.cache.TranslationCache;
 import com.translation.config.TranslationEngine;
 import com.translation.config.TranslationProperties;
 import com.translation.exception.TranslationException;
+import com.translation.health.ProviderHealthMonitor;
+import com.translation.memory.TranslationMemory;
+import com.translation.metrics.TranslationMetrics;
+import com.translation.resilience.ProviderGuard;
+import com.translation.routing.ProviderRouter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -17,21 +30,202 @@ public class TranslationProviderFactory {
     private final OpenAITranslationProvider openaiProvider;
     private final LocalTranslationProvider localProvider;
     private final TranslationProperties properties;
+    private final TranslationCache translationCache;
+    private final RequestCoalescer requestCoalescer;
+    private final MicroBatchDispatcher microBatchDispatcher;
+    private final TranslationMemory translationMemory;
+    private final ProviderRouter providerRouter;
+    private final RequestHedger requestHedger;
+    private final ProviderGuard providerGuard;
+    private final TranslationMetrics translationMetrics;
+    private final ProviderHealthMonitor providerHealthMonitor;
+    
+    // Built on first use; the chains are rebuilt only when the engine or the routing switch changes
+    private volatile Map<String, TranslationProvider> engineProviders;
+    private volatile ProviderChains chains;
     
+    /**
+     * Get the configured provider, fronted by the translation cache when it is enabled
+     */
     public TranslationProvider getProvider() {
+        return getProvider(true);
+    }
+    
+    /**
+     * Get the configured provider; {@code useCache = false} bypasses the translation cache and
+     * translation memory. Identical concurrent translations are coalesced into one upstream call
+     * either way, and single texts are merged into micro-batches when that dispatcher is enabled.
+     * Placeholder masking runs outermost so the cache and memory see masked templates.
+     * With routing enabled, each engine gets a chain of its own, with its own cache and memory
+     * entries, and calls are spread across those chains instead of using {@code translation.engine}.
+     * Hedging wraps the engine call itself, below micro-batching and coalescing. It only hedges
+     * single-text calls, so it does nothing while micro-batching turns those into batches.
+     * Each engine sits behind its own circuit breaker and bulkhead, and failed calls move on
+     * to the engines of {@code resilience.fallback-chain}. Engine calls are metered per provider.
+     * The chains are built once and reused until the engine is switched or routing is turned on or off.
+     */
+    public TranslationProvider getProvider(boolean useCache) {
+        String engine = properties.getEngine();
+        boolean routing = providerRouter.isEnabled();
+        ProviderChains current = chains;
+        if (current == null || !current.matches(engine, routing)) {
+            current = buildChains(engine, routing);
+        }
+        return useCache ? current.cached() : current.uncached();
+    }
+    
+    /**
+     * Get the provider for one request. With routing enabled this is the chain of the engine the
+     * router picks for the language pair, so the response can name the engine that served it.
+     */
+    public TranslationProvider getProvider(boolean useCache, String sourceLanguage, String targetLanguage) {
+        TranslationProvider provider = getProvider(useCache);
+        return provider instanceof RoutingTranslationProvider routing
+            ? routing.route(sourceLanguage, targetLanguage)
+            : provider;
+    }
+    
+    private synchronized ProviderChains buildChains(String engine, boolean routing) {
+        ProviderChains current = chains;
+        if (current != null && current.matches(engine, routing)) {
+            return current;
+        }
+        log.debug("Building provider chain (engine: {}, routing: {})", engine, routing);
+        if (routing) {
+            // Every engine's chain falls back to the other engines, never to itself
+            Map<String, TranslationProvider> engines = new LinkedHashMap<>();
+            getEngineProviders().forEach((name, provider) ->
+                engines.put(name, new RouterStatsTranslationProvider(name, provider, providerRouter)));
+            Map<String, TranslationProvider> cached = new LinkedHashMap<>();
+            Map<String, TranslationProvider> uncached = new LinkedHashMap<>();
+            engines.forEach((name, provider) -> {
+                Chain chain = decorate(withFallbacks(provider, name, engines), engines);
+                cached.put(name, chain.cached());
+                uncached.put(name, chain.uncached());
+            });
+            current = new ProviderChains(engine, true,
+                new RoutingTranslationProvider(cached, providerRouter),
+                new RoutingTranslationProvider(uncached, providerRouter));
+        } else {
+            Map<String, TranslationProvider> engines = getEngineProviders();
+            Chain chain = decorate(withFallbacks(getEngineProvider(engine), engine, engines), engines);
+            current = new ProviderChains(engine, false, chain.cached(), chain.uncached());
+        }
+        chains = current;
+        return current;
+    }
+    
+    /**
+     * Wrap an engine call (with its fallbacks) in the hedging, batching, coalescing, memory, cache
+     * and masking layers, once with and once without the cache and memory
+     */
+    private Chain decorate(TranslationProvider provider, Map<String, TranslationProvider> engines) {
+        if (requestHedger.isEnabled()) {
+            provider = new HedgingTranslationProvider(provider, getHedgeProvider(provider, engines), requestHedger);
+        }
+        if (microBatchDispatcher.isEnabled()) {
+            provider = new MicroBatchingTranslationProvider(provider, microBatchDispatcher);
+        }
+        if (Boolean.TRUE.equals(properties.getApi().getCoalescingEnabled())) {
+            provider = new CoalescingTranslationProvider(provider, requestCoalescer);
+        }
+        TranslationProvider cached = provider;
+        if (translationMemory.isEnabled()) {
+            cached = new MemoryTranslationProvider(cached, translationMemory);
+        }
+        if (translationCache.isEnabled()) {
+            cached = new CachingTranslationProvider(cached, translationCache);
+        }
+        return new Chain(masked(cached), masked(provider));
+    }
+    
+    private TranslationProvider masked(TranslationProvider provider) {
+        return Boolean.TRUE.equals(properties.getApi().getMaskingEnabled())
+            ? new MaskingTranslationProvider(provider)
+            : provider;
+    }
+    
+    /**
+     * Guarded provider of every engine, built once so each engine keeps a single decorator stack
+     */
+    private Map<String, TranslationProvider> getEngineProviders() {
+        Map<String, TranslationProvider> providers = engineProviders;
+        if (providers == null) {
+            synchronized (this) {
+                providers = engineProviders;
+                if (providers == null) {
+                    providers = Map.of(
+                        TranslationEngine.GOOGLE.getValue(), guard(TranslationEngine.GOOGLE, googleProvider),
+                        TranslationEngine.OPENAI.getValue(), guard(TranslationEngine.OPENAI, openaiProvider),
+                        TranslationEngine.LOCAL.getValue(), guard(TranslationEngine.LOCAL, localProvider)
+                    );
+                    engineProviders = providers;
+                }
+            }
+        }
+        return providers;
+    }
+    
+    /**
+     * Put an engine provider behind its circuit breaker; every call, including rejected ones, is metered
+     * and reported to the health monitor. Google and OpenAI are guarded per upstream attempt inside
+     * {@code UpstreamRateLimiter} instead, so pacing and backoff stay outside the breaker's timing.
+     */
+    private TranslationProvider guard(TranslationEngine engine, TranslationProvider provider) {
+        boolean pacedUpstream = engine == TranslationEngine.GOOGLE || engine == TranslationEngine.OPENAI;
+        TranslationProvider guarded = providerGuard.isEnabled() && !pacedUpstream
+            ? new ResilientTranslationProvider(engine.getValue(), provider, providerGuard)
+            : provider;
+        return new MeteredTranslationProvider(engine.getValue(), guarded, translationMetrics,
+            providerHealthMonitor);
+    }
+    
+    /**
+     * Chain the primary with the fallback engines, skipping the primary engine itself
+     */
+    private TranslationProvider withFallbacks(TranslationProvider primary, String primaryEngine,
+                                              Map<String, TranslationProvider> engineProviders) {
+        List<String> fallbackChain = properties.getResilience().getFallbackChain();
+        if (fallbackChain == null || fallbackChain.isEmpty()) {
+            return primary;
+        }
+        List<TranslationProvider> chain = new ArrayList<>();
+        chain.add(primary);
+        for (String name : fallbackChain) {
+            String engine = TranslationEngine.fromValue(name).getValue();
+            if (!engine.equalsIgnoreCase(primaryEngine)) {
+                chain.add(engineProviders.get(engine));
+            }
+        }
+        return chain.size() == 1 ? primary : new FallbackTranslationProvider(chain);
+    }
+    
+    /**
+     * Provider that receives hedges: the configured alternate engine, or the primary itself
+     */
+    private TranslationProvider getHedgeProvider(TranslationProvider primary,
+                                                 Map<String, TranslationProvider> engineProviders) {
+        String alternateEngine = requestHedger.getAlternateEngine();
+        if (alternateEngine == null || alternateEngine.isBlank()) {
+            return primary;
+        }
+        return engineProviders.get(TranslationEngine.fromValue(alternateEngine).getValue());
+    }
+    
+    private TranslationProvider getEngineProvider(String engineName) {
         try {
-            TranslationEngine engine = TranslationEngine.fromValue(properties.getEngine());
+            TranslationEngine engine = TranslationEngine.fromValue(engineName);
             
             switch (engine) {
                 case GOOGLE:
                     log.debug("Using Google Cloud Translate provider");
-                    return googleProvider;
+                    return getEngineProviders().get(engine.getValue());
                 case OPENAI:
                     log.debug("Using OpenAI provider");
-                    return openaiProvider;
+                    return getEngineProviders().get(engine.getValue());
                 case LOCAL:
                     log.debug("Using Local GPU provider");
-                    return localProvider;
+                    return getEngineProviders().get(engine.getValue());
                 default:
                     throw new TranslationException(
                         "Unknown translation engine: " + engine,
@@ -52,4 +246,15 @@ public class TranslationProviderFactory {
         properties.setEngine(engine.getValue());
         return getProvider();
     }
+    
+    private record Chain(TranslationProvider cached, TranslationProvider uncached) {
+    }
+    
+    private record ProviderChains(String engine, boolean routing,
+                                  TranslationProvider cached, TranslationProvider uncached) {
+        
+        boolean matches(String engine, boolean routing) {
+            return this.routing == routing && Objects.equals(this.engine, engine);
+        }
+    }
 }
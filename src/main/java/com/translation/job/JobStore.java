@@ -0,0 +1,185 @@
+package com.translation.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translation.config.TranslationProperties;
+import com.translation.dto.BatchTranslateItem;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * File-backed job store. Each job lives in its own directory under {@code translation.jobs.store-path}:
+ * <ul>
+ *   <li>{@code job.json} - job state, replaced atomically on every update</li>
+ *   <li>{@code input.ndjson} - one JSON-encoded text per line</li>
+ *   <li>{@code results.ndjson} - one result line per processed item, appended in input order</li>
+ * </ul>
+ * Because results are appended in order, the number of complete result lines is the resume position.
+ */
+@Slf4j
+@Component
+public class JobStore {
+
+    private static final String JOB_FILE = "job.json";
+    private static final String INPUT_FILE = "input.ndjson";
+    private static final String RESULTS_FILE = "results.ndjson";
+
+    private final Path root;
+    private final ObjectMapper objectMapper;
+
+    public JobStore(TranslationProperties properties, ObjectMapper objectMapper) {
+        this.root = Paths.get(properties.getJobs().getStorePath());
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Create the job directory and write its input; returns the number of items written
+     */
+    public int createInput(String jobId, Iterator<String> texts) throws IOException {
+        Path dir = root.resolve(jobId);
+        Files.createDirectories(dir);
+        int count = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(dir.resolve(INPUT_FILE), StandardCharsets.UTF_8)) {
+            while (texts.hasNext()) {
+                writer.write(objectMapper.writeValueAsString(texts.next()));
+                writer.newLine();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public synchronized void save(TranslationJob job) {
+        Path dir = root.resolve(job.getId());
+        try {
+            Path temp = dir.resolve(JOB_FILE + ".tmp");
+            objectMapper.writeValue(temp.toFile(), job);
+            Files.move(temp, dir.resolve(JOB_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save job " + job.getId(), e);
+        }
+    }
+
+    public List<TranslationJob> loadAll() throws IOException {
+        List<TranslationJob> jobs = new ArrayList<>();
+        if (!Files.isDirectory(root)) {
+            return jobs;
+        }
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(root, Files::isDirectory)) {
+            for (Path dir : dirs) {
+                Path jobFile = dir.resolve(JOB_FILE);
+                if (!Files.exists(jobFile)) {
+                    continue;
+                }
+                try {
+                    jobs.add(objectMapper.readValue(jobFile.toFile(), TranslationJob.class));
+                } catch (IOException e) {
+                    log.error("Skipping unreadable job {}: {}", dir.getFileName(), e.getMessage());
+                }
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * Reader positioned at the first input line; each line is a JSON-encoded text
+     */
+    public BufferedReader openInput(String jobId) throws IOException {
+        return Files.newBufferedReader(root.resolve(jobId).resolve(INPUT_FILE), StandardCharsets.UTF_8);
+    }
+
+    public String decodeText(String line) throws IOException {
+        return objectMapper.readValue(line, String.class);
+    }
+
+    /**
+     * Count complete result lines, dropping a partially written last line left by a crash
+     */
+    public int recoverResults(String jobId) throws IOException {
+        Path results = resultsPath(jobId);
+        if (!Files.exists(results)) {
+            return 0;
+        }
+
+        int lines = 0;
+        long lastNewline = -1;
+        long position = 0;
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(results)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        lines++;
+                        lastNewline = position + i;
+                    }
+                }
+                position += read;
+            }
+        }
+
+        if (position > lastNewline + 1) {
+            log.warn("Truncating partial result line of job {}", jobId);
+            try (FileChannel channel = FileChannel.open(results, StandardOpenOption.WRITE)) {
+                channel.truncate(lastNewline + 1);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Append result lines and force them to disk before the job state advances
+     */
+    public void appendResults(String jobId, List<BatchTranslateItem> items) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (BatchTranslateItem item : items) {
+            lines.append(objectMapper.writeValueAsString(item)).append('\n');
+        }
+        try (FileChannel channel = FileChannel.open(resultsPath(jobId),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Delete the job directory and everything in it
+     */
+    public void delete(String jobId) throws IOException {
+        Path dir = root.resolve(jobId);
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    public Path resultsPath(String jobId) {
+        return root.resolve(jobId).resolve(RESULTS_FILE);
+    }
+}
@@ -0,0 +1,28 @@
+package com.translation.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persistent state of a bulk translation job; stored as {@code job.json} in the job directory
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranslationJob {
+    private String id;
+    private JobStatus status;
+    private String sourceLanguage;
+    private String targetLanguage;
+    private Integer totalItems;
+    private Integer processedItems;
+    private Integer failedItems;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,434 @@
+package com.translation.job;
+
+import com.translation.config.TranslationProperties;
+import com.translation.dto.BatchItemFailure;
+import com.translation.dto.BatchTranslateItem;
+import com.translation.dto.BatchTranslateRequest;
+import com.translation.dto.BatchTranslateResponse;
+import com.translation.dto.TranslationJobRequest;
+import com.translation.dto.TranslationJobResponse;
+import com.translation.exception.TranslationException;
+import com.translation.integration.TranslationProviderFactory;
+import com.translation.service.TranslationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs bulk translation jobs in the background. Items are read from the job's stored input,
+ * translated in batches through {@link TranslationService#batchTranslate} at a combined rate of
+ * {@code translation.jobs.items-per-second}, and appended to the job's results. Jobs that were
+ * queued or running when the service stopped are resumed from their last persisted result.
+ * Finished jobs are deleted {@code translation.jobs.retention-hours} after their last update.
+ */
+@Slf4j
+@Service
+public class TranslationJobService {
+
+    private static final long CLEANUP_INTERVAL_MINUTES = 60;
+
+    private final TranslationService translationService;
+    private final TranslationProviderFactory providerFactory;
+    private final JobStore jobStore;
+    private final TranslationProperties.JobsConfig config;
+    private final int batchSize;
+    private final int maxTextLength;
+    private final Map<String, TranslationJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService workers;
+    private final ScheduledExecutorService cleaner;
+
+    // Rate pacing shared by all workers: next instant (nanos) at which items may be sent
+    private final long nanosPerItem;
+    private long nextSendNanos = System.nanoTime();
+
+    public TranslationJobService(TranslationService translationService,
+                                 TranslationProviderFactory providerFactory,
+                                 JobStore jobStore,
+                                 TranslationProperties properties) {
+        this.translationService = translationService;
+        this.providerFactory = providerFactory;
+        this.jobStore = jobStore;
+        this.config = properties.getJobs();
+        this.batchSize = Math.min(config.getBatchSize(), properties.getApi().getMaxBatchSize());
+        this.maxTextLength = properties.getApi().getMaxTextLength();
+        this.nanosPerItem = (long) (TimeUnit.SECONDS.toNanos(1) / config.getItemsPerSecond());
+
+        AtomicInteger counter = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(config.getMaxConcurrentJobs(), runnable -> {
+            Thread thread = new Thread(runnable, "translation-job-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.cleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "translation-job-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Reload persisted jobs and resume the unfinished ones
+     */
+    @PostConstruct
+    public void resumeJobs() throws IOException {
+        for (TranslationJob job : jobStore.loadAll()) {
+            jobs.put(job.getId(), job);
+            if (!job.getStatus().isFinished()) {
+                log.info("Resuming translation job {} at item {}/{}",
+                    job.getId(), job.getProcessedItems(), job.getTotalItems());
+                workers.execute(() -> run(job));
+            }
+        }
+        if (config.getRetentionHours() > 0) {
+            cleaner.scheduleWithFixedDelay(this::removeExpiredJobs, 0, CLEANUP_INTERVAL_MINUTES, TimeUnit.MINUTES);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        cleaner.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    public TranslationJobResponse submit(TranslationJobRequest request) {
+        boolean inline = request.getTexts() != null && !request.getTexts().isEmpty();
+        boolean file = request.getInputFile() != null && !request.getInputFile().isBlank();
+        if (inline == file) {
+            throw new TranslationException(
+                "Provide either texts or inputFile", HttpStatus.BAD_REQUEST, "VALIDATION_ERROR");
+        }
+        if (!providerFactory.getProvider().validateLanguagePair(request.getSourceLanguage(), request.getTargetLanguage())) {
+            throw new TranslationException(
+                "Invalid language pair: " + request.getSourceLanguage() + " -> " + request.getTargetLanguage(),
+                HttpStatus.BAD_REQUEST
+            );
+        }
+
+        Path importFile = inline ? null : resolveImport(request.getInputFile());
+        String jobId = UUID.randomUUID().toString();
+        int total;
+        try {
+            if (inline) {
+                total = jobStore.createInput(jobId, validated(request.getTexts().iterator()));
+            } else {
+                try (Stream<String> lines = Files.lines(importFile, StandardCharsets.UTF_8)) {
+                    Iterator<String> texts = lines.filter(line -> !line.isBlank()).iterator();
+                    total = jobStore.createInput(jobId, validated(texts));
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.error("Failed to store input of job {}: {}", jobId, e.getMessage());
+            deleteQuietly(jobId);
+            throw new TranslationException(
+                "Failed to store job input: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+        } catch (TranslationException e) {
+            deleteQuietly(jobId);
+            throw e;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        TranslationJob job = TranslationJob.builder()
+            .id(jobId)
+            .status(JobStatus.QUEUED)
+            .sourceLanguage(request.getSourceLanguage())
+            .targetLanguage(request.getTargetLanguage())
+            .totalItems(total)
+            .processedItems(0)
+            .failedItems(0)
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+        jobStore.save(job);
+        jobs.put(jobId, job);
+        workers.execute(() -> run(job));
+
+        log.info("Translation job {} submitted: {} items, {} -> {}",
+            jobId, total, request.getSourceLanguage(), request.getTargetLanguage());
+        return toResponse(job);
+    }
+
+    public TranslationJobResponse getJob(String jobId) {
+        return toResponse(findJob(jobId));
+    }
+
+    public TranslationJobResponse cancel(String jobId) {
+        TranslationJob job = findJob(jobId);
+        synchronized (job) {
+            if (!job.getStatus().isFinished()) {
+                job.setStatus(JobStatus.CANCELLED);
+                job.setUpdatedAt(LocalDateTime.now());
+                jobStore.save(job);
+            }
+        }
+        return toResponse(job);
+    }
+
+    /**
+     * Results file of the job, one {@link BatchTranslateItem} JSON line per processed item
+     */
+    public Path getResultsPath(String jobId) {
+        findJob(jobId);
+        return jobStore.resultsPath(jobId);
+    }
+
+    private void run(TranslationJob job) {
+        String jobId = job.getId();
+        try (BufferedReader input = jobStore.openInput(jobId)) {
+            int processed = jobStore.recoverResults(jobId);
+            synchronized (job) {
+                if (job.getStatus().isFinished()) {
+                    return;
+                }
+                job.setStatus(JobStatus.RUNNING);
+                job.setProcessedItems(processed);
+                job.setUpdatedAt(LocalDateTime.now());
+                jobStore.save(job);
+            }
+            for (int i = 0; i < processed; i++) {
+                input.readLine();
+            }
+
+            List<String> batch;
+            while (!(batch = readBatch(input)).isEmpty()) {
+                if (isCancelled(job)) {
+                    log.info("Translation job {} cancelled at item {}", jobId, processed);
+                    return;
+                }
+                pace(batch.size());
+                List<BatchTranslateItem> results = translateBatch(job, batch, processed);
+                jobStore.appendResults(jobId, results);
+
+                int failed = (int) results.stream().filter(item -> item.getError() != null).count();
+                processed += batch.size();
+                synchronized (job) {
+                    job.setProcessedItems(processed);
+                    job.setFailedItems(job.getFailedItems() + failed);
+                    job.setUpdatedAt(LocalDateTime.now());
+                    jobStore.save(job);
+                }
+            }
+
+            finish(job, JobStatus.COMPLETED, null);
+            log.info("Translation job {} completed: {} items, {} failed",
+                jobId, job.getTotalItems(), job.getFailedItems());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("Translation job {} interrupted; it will resume on restart", jobId);
+        } catch (Exception e) {
+            log.error("Translation job {} failed: {}", jobId, e.getMessage());
+            finish(job, JobStatus.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * Translate one batch, retrying whole-batch failures (e.g. provider outages) with a fixed delay.
+     * Per-item failures are recorded in the results instead of retried.
+     */
+    private List<BatchTranslateItem> translateBatch(TranslationJob job, List<String> texts, int offset)
+            throws InterruptedException {
+        BatchTranslateRequest request = BatchTranslateRequest.builder()
+            .texts(texts)
+            .sourceLanguage(job.getSourceLanguage())
+            .targetLanguage(job.getTargetLanguage())
+            .build();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                BatchTranslateResponse response = translationService.batchTranslate(request);
+                Map<Integer, String> failures = response.getFailures() == null
+                    ? Map.of()
+                    : response.getFailures().stream()
+                        .collect(Collectors.toMap(BatchItemFailure::getIndex, BatchItemFailure::getError));
+
+                List<BatchTranslateItem> items = new ArrayList<>(texts.size());
+                for (int i = 0; i < texts.size(); i++) {
+                    items.add(BatchTranslateItem.builder()
+                        .index(offset + i)
+                        .translatedText(response.getTranslatedTexts().get(i))
+                        .error(failures.get(i))
+                        .build());
+                }
+                return items;
+            } catch (TranslationException e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    // Providers report a shutdown interrupt as a 503; keep the job resumable instead of failing it
+                    throw new InterruptedException("Interrupted while translating: " + e.getMessage());
+                }
+                if (e.isClientError() || attempt >= config.getMaxAttempts()) {
+                    throw e;
+                }
+                log.warn("Translation job {} batch at item {} failed (attempt {}/{}): {}",
+                    job.getId(), offset, attempt, config.getMaxAttempts(), e.getMessage());
+                Thread.sleep(config.getRetryDelayMs());
+            }
+        }
+    }
+
+    /**
+     * Applies the {@code /batch} limits to job input as it is stored: no blank texts, none longer than
+     * {@code translation.api.max-text-length}, and at most {@code translation.jobs.max-items} items
+     */
+    private Iterator<String> validated(Iterator<String> texts) {
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return texts.hasNext();
+            }
+
+            @Override
+            public String next() {
+                String text = texts.next();
+                if (index >= config.getMaxItems()) {
+                    throw validationError("Job exceeds the limit of " + config.getMaxItems() + " items");
+                }
+                if (text == null || text.isBlank()) {
+                    throw validationError("Text " + index + " is blank");
+                }
+                if (text.length() > maxTextLength) {
+                    throw validationError("Text " + index + " has " + text.length()
+                        + " characters, more than the limit of " + maxTextLength);
+                }
+                index++;
+                return text;
+            }
+        };
+    }
+
+    private static TranslationException validationError(String message) {
+        return new TranslationException(message, HttpStatus.BAD_REQUEST, "VALIDATION_ERROR");
+    }
+
+    /**
+     * Forget finished jobs not updated within {@code translation.jobs.retention-hours} and delete their files
+     */
+    private void removeExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(config.getRetentionHours());
+        for (TranslationJob job : jobs.values()) {
+            boolean expired;
+            synchronized (job) {
+                expired = job.getStatus().isFinished() && job.getUpdatedAt() != null
+                    && job.getUpdatedAt().isBefore(cutoff);
+            }
+            if (expired && jobs.remove(job.getId(), job)) {
+                log.info("Removing translation job {} ({}, last updated {})",
+                    job.getId(), job.getStatus(), job.getUpdatedAt());
+                deleteQuietly(job.getId());
+            }
+        }
+    }
+
+    private void deleteQuietly(String jobId) {
+        try {
+            jobStore.delete(jobId);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to delete files of job {}: {}", jobId, e.getMessage());
+        }
+    }
+
+    private static boolean isCancelled(TranslationJob job) {
+        synchronized (job) {
+            return job.getStatus() == JobStatus.CANCELLED;
+        }
+    }
+
+    private List<String> readBatch(BufferedReader input) throws IOException {
+        List<String> batch = new ArrayList<>(batchSize);
+        String line;
+        while (batch.size() < batchSize && (line = input.readLine()) != null) {
+            batch.add(jobStore.decodeText(line));
+        }
+        return batch;
+    }
+
+    /**
+     * Block until {@code items} may be sent without exceeding the configured combined rate
+     */
+    private void pace(int items) throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long start = Math.max(now, nextSendNanos);
+            nextSendNanos = start + items * nanosPerItem;
+            waitNanos = start - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private void finish(TranslationJob job, JobStatus status, String error) {
+        synchronized (job) {
+            if (job.getStatus() == JobStatus.CANCELLED) {
+                return;
+            }
+            job.setStatus(status);
+            job.setError(error);
+            job.setUpdatedAt(LocalDateTime.now());
+            jobStore.save(job);
+        }
+    }
+
+    private Path resolveImport(String inputFile) {
+        Path importDir = Paths.get(config.getImportDir()).toAbsolutePath().normalize();
+        Path path = importDir.resolve(inputFile).normalize();
+        if (!path.startsWith(importDir) || !Files.isRegularFile(path)) {
+            throw new TranslationException(
+                "Input file not found in import directory: " + inputFile,
+                HttpStatus.BAD_REQUEST, "VALIDATION_ERROR");
+        }
+        return path;
+    }
+
+    private TranslationJob findJob(String jobId) {
+        TranslationJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new TranslationException("Job not found: " + jobId, HttpStatus.NOT_FOUND, "JOB_NOT_FOUND");
+        }
+        return job;
+    }
+
+    private static TranslationJobResponse toResponse(TranslationJob job) {
+        synchronized (job) {
+            int total = job.getTotalItems();
+            return TranslationJobResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus().name())
+                .sourceLanguage(job.getSourceLanguage())
+                .targetLanguage(job.getTargetLanguage())
+                .totalItems(total)
+                .processedItems(job.getProcessedItems())
+                .failedItems(job.getFailedItems())
+                .progress(total == 0 ? 1.0 : (double) job.getProcessedItems() / total)
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+        }
+    }
+}
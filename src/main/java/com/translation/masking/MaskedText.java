@@ -0,0 +1,33 @@
+package com.translation.masking;
+
+import java.util.List;
+
+/**
+ * Text with its placeholders replaced by {@code {{n}}} tokens; {@code values.get(n)} is the
+ * original content of token {@code n}. Unmasked text keeps the original string instance.
+ */
+public record MaskedText(String template, List<String> values) {
+
+    public static MaskedText unmasked(String text) {
+        return new MaskedText(text, List.of());
+    }
+
+    public boolean isMasked() {
+        return !values.isEmpty();
+    }
+
+    /**
+     * Whether anything besides tokens is left to translate; "42" or a bare URL is not
+     */
+    public boolean hasTranslatableText() {
+        return template.codePoints().anyMatch(Character::isLetter);
+    }
+
+    /**
+     * Put the original values back into a translation of {@link #template()};
+     * returns {@code null} if the translation lost, duplicated or invented a token
+     */
+    public String restore(String translatedTemplate) {
+        return PlaceholderMasker.restore(translatedTemplate, values);
+    }
+}
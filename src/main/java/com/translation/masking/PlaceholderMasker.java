@@ -0,0 +1,374 @@
+package com.translation.masking;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass scanner that replaces untranslatable spans with stable {@code {{n}}} tokens:
+ * HTML/XML tags, URLs, e-mail addresses, ICU ({@code {name}}, {@code {count, number}}),
+ * mustache ({@code {{name}}}), shell-style ({@code ${name}}) and printf ({@code %s},
+ * {@code %1$d}, {@code %(name)s}) placeholders, and standalone numbers.
+ * <p>
+ * "You have 3 new messages" and "You have 17 new messages" both mask to
+ * "You have {{0}} new messages", so one translation of the template serves both.
+ * Text without placeholders is returned as-is without copying. Complex ICU messages
+ * with nested braces (plural/select) are left untouched, since their branches need translating.
+ */
+public final class PlaceholderMasker {
+
+    private static final int MAX_TAG_LENGTH = 512;
+    private static final int MAX_PLACEHOLDER_LENGTH = 64;
+    private static final String PRINTF_FLAGS = "-+0#,";
+    private static final String PRINTF_CONVERSIONS = "sdfiuxXoceEgGaAbBhHnp@";
+    private static final String URL_TRAILING_PUNCTUATION = ".,;:!?'\")]";
+
+    private PlaceholderMasker() {
+    }
+
+    public static MaskedText mask(String text) {
+        StringBuilder template = null;
+        List<String> values = null;
+        int length = text.length();
+        int copied = 0;
+        int i = 0;
+
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c == '{' && isComplexIcu(text, i)) {
+                i = skipBalanced(text, i);
+                continue;
+            }
+            int end = matchAt(text, i, c);
+            if (end <= i) {
+                i++;
+                continue;
+            }
+            if (template == null) {
+                template = new StringBuilder(length + 16);
+                values = new ArrayList<>(4);
+            }
+            template.append(text, copied, i).append("{{").append(values.size()).append("}}");
+            values.add(text.substring(i, end));
+            copied = end;
+            i = end;
+        }
+
+        if (template == null) {
+            return MaskedText.unmasked(text);
+        }
+        template.append(text, copied, length);
+        return new MaskedText(template.toString(), values);
+    }
+
+    /**
+     * Replace each {@code {{n}}} token (tolerating spaces inside the braces, which some engines add)
+     * with {@code values.get(n)}. Every token must appear exactly once, in any order.
+     */
+    public static String restore(String translated, List<String> values) {
+        if (values.isEmpty()) {
+            return translated;
+        }
+        if (translated == null) {
+            return null;
+        }
+
+        StringBuilder restored = new StringBuilder(translated.length() + 32);
+        boolean[] used = new boolean[values.size()];
+        int count = 0;
+        int copied = 0;
+        int start = translated.indexOf("{{");
+        while (start >= 0) {
+            int i = skipSpaces(translated, start + 2);
+            int digitsStart = i;
+            int index = 0;
+            while (i < translated.length() && isAsciiDigit(translated.charAt(i)) && i - digitsStart < 6) {
+                index = index * 10 + (translated.charAt(i) - '0');
+                i++;
+            }
+            i = skipSpaces(translated, i);
+            if (i == digitsStart || !translated.startsWith("}}", i)) {
+                start = translated.indexOf("{{", start + 1);
+                continue;
+            }
+            if (index >= values.size() || used[index]) {
+                return null;
+            }
+            used[index] = true;
+            count++;
+            restored.append(translated, copied, start).append(values.get(index));
+            copied = i + 2;
+            start = translated.indexOf("{{", copied);
+        }
+
+        if (count != values.size()) {
+            return null;
+        }
+        restored.append(translated, copied, translated.length());
+        return restored.toString();
+    }
+
+    /**
+     * End (exclusive) of the placeholder starting at {@code i}, or -1 if none starts there
+     */
+    private static int matchAt(String text, int i, char c) {
+        switch (c) {
+            case '<':
+                return matchTag(text, i);
+            case '{':
+                return matchBrace(text, i);
+            case '$':
+                return i + 1 < text.length() && text.charAt(i + 1) == '{' ? matchBrace(text, i + 1) : -1;
+            case '%':
+                return matchPrintf(text, i);
+            default:
+                break;
+        }
+
+        if (i > 0 && Character.isLetterOrDigit(text.charAt(i - 1))) {
+            return -1;
+        }
+        if (c == 'h' || c == 'H' || c == 'w' || c == 'W') {
+            int end = matchUrl(text, i);
+            if (end > 0) {
+                return end;
+            }
+        }
+        if (isEmailLocalChar(c)) {
+            int end = matchEmail(text, i);
+            if (end > 0) {
+                return end;
+            }
+        }
+        return isAsciiDigit(c) ? matchNumber(text, i) : -1;
+    }
+
+    private static int matchTag(String text, int i) {
+        if (i + 1 >= text.length()) {
+            return -1;
+        }
+        char next = text.charAt(i + 1);
+        if (!Character.isLetter(next) && next != '/' && next != '!') {
+            return -1;
+        }
+        int limit = Math.min(text.length(), i + MAX_TAG_LENGTH);
+        for (int j = i + 1; j < limit; j++) {
+            char c = text.charAt(j);
+            if (c == '>') {
+                return j + 1;
+            }
+            if (c == '<') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@code {{name}}} or a simple ICU argument {@code {name}} / {@code {count, number}}
+     */
+    private static int matchBrace(String text, int i) {
+        boolean doubled = i + 1 < text.length() && text.charAt(i + 1) == '{';
+        int contentStart = doubled ? i + 2 : i + 1;
+        int limit = Math.min(text.length(), contentStart + MAX_PLACEHOLDER_LENGTH);
+        for (int j = contentStart; j < limit; j++) {
+            char c = text.charAt(j);
+            if (c == '}') {
+                if (j == contentStart || !isIdentifierStart(text.charAt(skipSpaces(text, contentStart)))) {
+                    return -1;
+                }
+                if (!doubled) {
+                    return j + 1;
+                }
+                return j + 1 < text.length() && text.charAt(j + 1) == '}' ? j + 2 : -1;
+            }
+            if (c == '{' || c == '\n') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * An ICU message such as {@code {count, plural, one {# item} other {# items}}}
+     */
+    private static boolean isComplexIcu(String text, int i) {
+        if (i + 1 < text.length() && text.charAt(i + 1) == '{') {
+            return false;
+        }
+        for (int j = i + 1; j < text.length(); j++) {
+            char c = text.charAt(j);
+            if (c == '{') {
+                return true;
+            }
+            if (c == '}') {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static int skipBalanced(String text, int i) {
+        int depth = 0;
+        for (int j = i; j < text.length(); j++) {
+            char c = text.charAt(j);
+            if (c == '{') {
+                depth++;
+            } else if (c == '}' && --depth == 0) {
+                return j + 1;
+            }
+        }
+        return text.length();
+    }
+
+    private static int matchPrintf(String text, int i) {
+        int length = text.length();
+        int j = i + 1;
+        if (j >= length) {
+            return -1;
+        }
+        if (text.charAt(j) == '%') {
+            return j + 1;
+        }
+        if (text.charAt(j) == '(') {
+            int close = text.indexOf(')', j);
+            if (close < 0 || close - j > MAX_PLACEHOLDER_LENGTH || close + 1 >= length) {
+                return -1;
+            }
+            return PRINTF_CONVERSIONS.indexOf(text.charAt(close + 1)) >= 0 ? close + 2 : -1;
+        }
+
+        int digits = skipDigits(text, j);
+        if (digits > j && digits < length && text.charAt(digits) == '$') {
+            j = digits + 1;
+        }
+        while (j < length && PRINTF_FLAGS.indexOf(text.charAt(j)) >= 0) {
+            j++;
+        }
+        j = skipDigits(text, j);
+        if (j < length && text.charAt(j) == '.') {
+            j = skipDigits(text, j + 1);
+        }
+        if (j < length && PRINTF_CONVERSIONS.indexOf(text.charAt(j)) >= 0) {
+            int end = j + 1;
+            // "%d" but not "%discount"
+            return end < length && Character.isLetter(text.charAt(end)) ? -1 : end;
+        }
+        return -1;
+    }
+
+    private static int matchUrl(String text, int i) {
+        int start;
+        if (text.regionMatches(true, i, "https://", 0, 8)) {
+            start = i + 8;
+        } else if (text.regionMatches(true, i, "http://", 0, 7)) {
+            start = i + 7;
+        } else if (text.regionMatches(true, i, "www.", 0, 4)) {
+            start = i + 4;
+        } else {
+            return -1;
+        }
+
+        int end = start;
+        int openParentheses = 0;
+        int closeParentheses = 0;
+        while (end < text.length()) {
+            char c = text.charAt(end);
+            if (Character.isWhitespace(c) || c == '<' || c == '>' || c == '"') {
+                break;
+            }
+            if (c == '(') {
+                openParentheses++;
+            } else if (c == ')') {
+                closeParentheses++;
+            }
+            end++;
+        }
+        // Trailing punctuation belongs to the sentence, except a ")" closing one inside the URL
+        while (end > start && URL_TRAILING_PUNCTUATION.indexOf(text.charAt(end - 1)) >= 0) {
+            if (text.charAt(end - 1) == ')') {
+                if (closeParentheses <= openParentheses) {
+                    break;
+                }
+                closeParentheses--;
+            }
+            end--;
+        }
+        return end > start ? end : -1;
+    }
+
+    private static int matchEmail(String text, int i) {
+        int length = text.length();
+        int at = i;
+        while (at < length && isEmailLocalChar(text.charAt(at))) {
+            at++;
+        }
+        if (at == i || at >= length || text.charAt(at) != '@') {
+            return -1;
+        }
+
+        int end = at + 1;
+        int lastDot = -1;
+        while (end < length) {
+            char c = text.charAt(end);
+            if (c == '.' && end > at + 1 && end + 1 < length && isDomainChar(text.charAt(end + 1))) {
+                lastDot = end;
+            } else if (!isDomainChar(c)) {
+                break;
+            }
+            end++;
+        }
+        if (lastDot < 0 || end - lastDot - 1 < 2) {
+            return -1;
+        }
+        for (int j = lastDot + 1; j < end; j++) {
+            if (!Character.isLetter(text.charAt(j))) {
+                return -1;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Digits with optional grouping/decimal separators ("3", "1,000", "2.5"), not touching letters
+     */
+    private static int matchNumber(String text, int i) {
+        int length = text.length();
+        int end = skipDigits(text, i);
+        while (end + 1 < length && (text.charAt(end) == '.' || text.charAt(end) == ',')
+                && isAsciiDigit(text.charAt(end + 1))) {
+            end = skipDigits(text, end + 1);
+        }
+        return end < length && Character.isLetter(text.charAt(end)) ? -1 : end;
+    }
+
+    private static int skipDigits(String text, int i) {
+        while (i < text.length() && isAsciiDigit(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipSpaces(String text, int i) {
+        while (i < text.length() && text.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private static boolean isEmailLocalChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isAsciiDigit(c)
+            || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isDomainChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isAsciiDigit(c) || c == '-';
+    }
+}
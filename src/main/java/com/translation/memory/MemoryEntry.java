@@ -0,0 +1,9 @@
+package com.translation.memory;
+
+/**
+ * One translation memory record, stored as a single JSON line.
+ * {@code engine} is the provider that produced the translation; lookups only match entries of their own engine.
+ */
+public record MemoryEntry(String sourceLanguage, String targetLanguage, String sourceText,
+                          String translatedText, String engine) {
+}
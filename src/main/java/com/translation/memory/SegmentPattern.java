@@ -0,0 +1,148 @@
+package com.translation.memory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shape of a segment for fuzzy matching: the text with each digit run replaced by {@code #} and
+ * punctuation and whitespace reduced to single spaces, plus the numbers and trailing punctuation
+ * that were taken out. Punctuation between two digits is kept, since it is part of the number
+ * ("5/10" is not "5.10", "1,000" is not "1.000"). Segments with the same skeleton differ only by
+ * numbers, whitespace or punctuation, so a stored translation can be adapted by substituting the
+ * numbers back in.
+ */
+public record SegmentPattern(String skeleton, List<String> numbers, String trailingPunctuation) {
+
+    public static SegmentPattern of(String text) {
+        StringBuilder skeleton = new StringBuilder(text.length());
+        List<String> numbers = new ArrayList<>();
+        boolean pendingSpace = false;
+        int i = 0;
+        while (i < text.length()) {
+            int codePoint = text.codePointAt(i);
+            if (Character.isDigit(codePoint)) {
+                int end = endOfDigits(text, i);
+                numbers.add(text.substring(i, end));
+                appendSeparator(skeleton, pendingSpace);
+                skeleton.append('#');
+                pendingSpace = false;
+                i = end;
+                continue;
+            }
+            if (isPunctuation(codePoint) && !pendingSpace && endsWithNumber(skeleton)
+                    && i + Character.charCount(codePoint) < text.length()
+                    && Character.isDigit(text.codePointAt(i + Character.charCount(codePoint)))) {
+                skeleton.appendCodePoint(codePoint);
+            } else if (Character.isWhitespace(codePoint) || isPunctuation(codePoint)) {
+                pendingSpace = true;
+            } else {
+                appendSeparator(skeleton, pendingSpace);
+                skeleton.appendCodePoint(codePoint);
+                pendingSpace = false;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return new SegmentPattern(skeleton.toString(), numbers, trailingPunctuation(text));
+    }
+
+    /**
+     * Whether the skeleton carries any words; number-only segments are never fuzzy-matched
+     */
+    public boolean hasLetters() {
+        return skeleton.codePoints().anyMatch(Character::isLetter);
+    }
+
+    /**
+     * Adapt {@code translation} of the segment this pattern was built from to {@code query}.
+     * Returns {@code null} when the numbers cannot be mapped unambiguously, for example when
+     * the translation spells a number out or the same source number maps to two query numbers.
+     */
+    public String adapt(String translation, SegmentPattern query) {
+        Map<String, String> substitutions = new HashMap<>();
+        for (int i = 0; i < numbers.size(); i++) {
+            String previous = substitutions.putIfAbsent(numbers.get(i), query.numbers.get(i));
+            if (previous != null && !previous.equals(query.numbers.get(i))) {
+                return null;
+            }
+        }
+
+        StringBuilder adapted = new StringBuilder(translation.length() + 8);
+        int substituted = 0;
+        int i = 0;
+        while (i < translation.length()) {
+            int codePoint = translation.codePointAt(i);
+            if (Character.isDigit(codePoint)) {
+                int end = endOfDigits(translation, i);
+                String number = translation.substring(i, end);
+                String replacement = substitutions.get(number);
+                if (replacement != null) {
+                    substituted++;
+                }
+                adapted.append(replacement != null ? replacement : number);
+                i = end;
+            } else {
+                adapted.appendCodePoint(codePoint);
+                i += Character.charCount(codePoint);
+            }
+        }
+        if (substituted < substitutions.size()) {
+            return null;
+        }
+
+        if (!trailingPunctuation.equals(query.trailingPunctuation)) {
+            int length = adapted.length();
+            if (adapted.toString().endsWith(trailingPunctuation)) {
+                adapted.setLength(length - trailingPunctuation.length());
+                adapted.append(query.trailingPunctuation);
+            }
+        }
+        return adapted.toString();
+    }
+
+    private static void appendSeparator(StringBuilder skeleton, boolean pendingSpace) {
+        if (pendingSpace && skeleton.length() > 0) {
+            skeleton.append(' ');
+        }
+    }
+
+    private static boolean endsWithNumber(StringBuilder skeleton) {
+        return skeleton.length() > 0 && skeleton.charAt(skeleton.length() - 1) == '#';
+    }
+
+    private static int endOfDigits(String text, int start) {
+        int end = start;
+        while (end < text.length() && Character.isDigit(text.codePointAt(end))) {
+            end += Character.charCount(text.codePointAt(end));
+        }
+        return end;
+    }
+
+    private static String trailingPunctuation(String text) {
+        int end = text.length();
+        while (end > 0 && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        int start = end;
+        while (start > 0 && isPunctuation(text.charAt(start - 1))) {
+            start--;
+        }
+        return text.substring(start, end);
+    }
+
+    private static boolean isPunctuation(int codePoint) {
+        switch (Character.getType(codePoint)) {
+            case Character.CONNECTOR_PUNCTUATION:
+            case Character.DASH_PUNCTUATION:
+            case Character.START_PUNCTUATION:
+            case Character.END_PUNCTUATION:
+            case Character.INITIAL_QUOTE_PUNCTUATION:
+            case Character.FINAL_QUOTE_PUNCTUATION:
+            case Character.OTHER_PUNCTUATION:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package com.translation.memory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.translation.cache.TranslationKey;
+import com.translation.config.TranslationProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Durable translation memory backed by an append-only NDJSON file.
+ * <p>
+ * Lookups are served from in-memory indexes, bounded to {@code max-entries} each: an exact index
+ * on the normalized source text and,
+ * when {@code fuzzy-enabled}, an index on its {@link SegmentPattern} skeleton so that segments
+ * differing only by numbers, whitespace or punctuation reuse a stored translation with their
+ * own numbers substituted in. New translations are indexed immediately and appended to the file
+ * by a background writer under an exclusive file lock, so several instances can share one file;
+ * each instance tails the file every {@code reload-interval-ms} to pick up the others' entries.
+ * On startup the file is compacted to the newest entry per key. Entries are keyed by engine,
+ * language pair and text, like the translation cache, so one engine's output is never served
+ * in place of another's.
+ */
+@Slf4j
+@Component
+public class TranslationMemory {
+
+    private static final int WRITE_BATCH_SIZE = 500;
+
+    private final boolean enabled;
+    private final boolean fuzzyEnabled;
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    private final int maxEntries;
+    private final Cache<MemoryKey, String> exact;
+    private final Cache<MemoryKey, FuzzyEntry> fuzzy;
+    private final BlockingQueue<MemoryEntry> writeQueue;
+    private ScheduledExecutorService reloader;
+    private Thread writer;
+    private volatile boolean running = true;
+    // Byte offset just past the last complete line that has been indexed, and that line
+    private long readOffset;
+    private byte[] lastLine = new byte[0];
+
+    private final LongAdder exactHits = new LongAdder();
+    private final LongAdder fuzzyHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder droppedWrites = new LongAdder();
+
+    public TranslationMemory(TranslationProperties properties, ObjectMapper objectMapper) {
+        TranslationProperties.MemoryConfig config = properties.getMemory();
+        this.enabled = Boolean.TRUE.equals(config.getEnabled());
+        this.fuzzyEnabled = Boolean.TRUE.equals(config.getFuzzyEnabled());
+        this.path = Paths.get(config.getPath());
+        this.objectMapper = objectMapper;
+        this.writeQueue = new LinkedBlockingQueue<>(config.getWriteQueueCapacity());
+        this.maxEntries = config.getMaxEntries();
+        this.exact = Caffeine.newBuilder().maximumSize(maxEntries).executor(Runnable::run).build();
+        this.fuzzy = Caffeine.newBuilder().maximumSize(maxEntries).executor(Runnable::run).build();
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            compact();
+            reload();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load translation memory from " + path, e);
+        }
+        log.info("Translation memory loaded: {} entries from {}", size(), path);
+
+        this.reloader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "translation-memory-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reloader.scheduleWithFixedDelay(this::reloadQuietly,
+            config.getReloadIntervalMs(), config.getReloadIntervalMs(), TimeUnit.MILLISECONDS);
+
+        this.writer = new Thread(this::writeLoop, "translation-memory-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Look up a translation made by {@code engine}, exact match first, then fuzzy; returns {@code null} on a miss.
+     * Hits get the whitespace around {@code text}, since entries are stored stripped.
+     */
+    public String lookup(String engine, String sourceLanguage, String targetLanguage, String text) {
+        String normalized = TranslationKey.normalize(text);
+        String translation = exact.getIfPresent(new MemoryKey(engine, sourceLanguage, targetLanguage, normalized));
+        if (translation != null) {
+            exactHits.increment();
+            return TranslationKey.withWhitespaceOf(text, translation);
+        }
+
+        if (fuzzyEnabled) {
+            SegmentPattern pattern = SegmentPattern.of(normalized);
+            if (pattern.hasLetters()) {
+                FuzzyEntry entry = fuzzy.getIfPresent(
+                    new MemoryKey(engine, sourceLanguage, targetLanguage, pattern.skeleton()));
+                String adapted = entry == null ? null : entry.pattern().adapt(entry.translatedText(), pattern);
+                if (adapted != null) {
+                    fuzzyHits.increment();
+                    return TranslationKey.withWhitespaceOf(text, adapted);
+                }
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Index a new translation and queue it for the background writer; never blocks
+     */
+    public void record(String engine, String sourceLanguage, String targetLanguage, String text,
+                       String translatedText) {
+        if (translatedText == null) {
+            return;
+        }
+        translatedText = translatedText.strip();
+        String normalized = TranslationKey.normalize(text);
+        if (translatedText.equals(exact.getIfPresent(new MemoryKey(engine, sourceLanguage, targetLanguage, normalized)))) {
+            return;
+        }
+        MemoryEntry entry = new MemoryEntry(sourceLanguage, targetLanguage, normalized, translatedText, engine);
+        index(entry);
+        if (!writeQueue.offer(entry)) {
+            droppedWrites.increment();
+            log.debug("Translation memory write queue full, entry not persisted");
+        }
+    }
+
+    public long size() {
+        return exact.estimatedSize();
+    }
+
+    public long getExactHits() {
+        return exactHits.sum();
+    }
+
+    public long getFuzzyHits() {
+        return fuzzyHits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getDroppedWrites() {
+        return droppedWrites.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        reloader.shutdownNow();
+        // Not interrupted: an interrupt would close the file channel in the middle of a write
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void index(MemoryEntry entry) {
+        exact.put(MemoryKey.of(entry), entry.translatedText());
+        if (fuzzyEnabled) {
+            SegmentPattern pattern = SegmentPattern.of(entry.sourceText());
+            if (pattern.hasLetters()) {
+                fuzzy.put(new MemoryKey(entry.engine(), entry.sourceLanguage(), entry.targetLanguage(),
+                    pattern.skeleton()), new FuzzyEntry(pattern, entry.translatedText()));
+            }
+        }
+    }
+
+    /**
+     * Rewrite the file with the newest entry per key, keeping at most {@code max-entries} of the most
+     * recent ones, if it holds anything else (superseded, surplus or corrupt lines). The rewrite happens
+     * in place under the file lock, so appends by other instances wait and land after it; those
+     * instances notice the change on their next reload and read the file again from the start.
+     */
+    private void compact() throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+             FileLock lock = channel.lock()) {
+            Map<MemoryKey, MemoryEntry> latest = new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<MemoryKey, MemoryEntry> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+            int lines = 0;
+            // Not closed: that would close the channel before the lock is released
+            BufferedReader reader = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                lines++;
+                MemoryEntry entry = parse(line);
+                if (entry != null) {
+                    MemoryKey key = MemoryKey.of(entry);
+                    latest.remove(key);
+                    latest.put(key, entry);
+                }
+            }
+            if (lines == latest.size()) {
+                return;
+            }
+
+            ByteArrayOutputStream compacted = new ByteArrayOutputStream();
+            for (MemoryEntry entry : latest.values()) {
+                compacted.write(objectMapper.writeValueAsBytes(entry));
+                compacted.write('\n');
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(compacted.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, buffer.position());
+            }
+            channel.truncate(compacted.size());
+            channel.force(false);
+            log.info("Translation memory compacted from {} lines to {} entries", lines, latest.size());
+        }
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (IOException e) {
+            log.warn("Failed to reload translation memory: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Index complete lines appended since the last reload; a partially written last line
+     * is left for the next reload
+     */
+    private synchronized void reload() throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (readOffset > 0 && !endsWithLastLine(channel)) {
+                log.info("Translation memory file was compacted or replaced, reading it again");
+                readOffset = 0;
+            }
+            if (channel.size() <= readOffset) {
+                return;
+            }
+            channel.position(readOffset);
+            InputStream in = Channels.newInputStream(channel);
+            ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+            byte[] buffer = new byte[64 * 1024];
+            int loaded = 0;
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] != '\n') {
+                        line.write(buffer[i]);
+                        continue;
+                    }
+                    line.write('\n');
+                    readOffset += line.size();
+                    lastLine = line.toByteArray();
+                    MemoryEntry entry = parse(line.toString(StandardCharsets.UTF_8));
+                    if (entry != null) {
+                        index(entry);
+                        loaded++;
+                    }
+                    line.reset();
+                }
+            }
+            if (loaded > 0) {
+                log.debug("Translation memory reloaded {} entries", loaded);
+            }
+        }
+    }
+
+    /**
+     * Whether the last indexed line is still where it was read, i.e. the file was only appended to since
+     */
+    private boolean endsWithLastLine(FileChannel channel) throws IOException {
+        long start = readOffset - lastLine.length;
+        if (channel.size() < readOffset) {
+            return false;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(lastLine.length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) < 0) {
+                return false;
+            }
+        }
+        return Arrays.equals(buffer.array(), lastLine);
+    }
+
+    private MemoryEntry parse(String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(line, MemoryEntry.class);
+        } catch (IOException e) {
+            log.warn("Skipping corrupt translation memory line: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeLoop() {
+        List<MemoryEntry> batch = new ArrayList<>(WRITE_BATCH_SIZE);
+        while (running || !writeQueue.isEmpty()) {
+            try {
+                MemoryEntry first = writeQueue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            writeQueue.drainTo(batch, WRITE_BATCH_SIZE - batch.size());
+            if (!batch.isEmpty()) {
+                append(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void append(List<MemoryEntry> entries) {
+        StringBuilder lines = new StringBuilder(entries.size() * 128);
+        try {
+            for (MemoryEntry entry : entries) {
+                lines.append(objectMapper.writeValueAsString(entry)).append('\n');
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                 FileLock lock = channel.lock()) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        } catch (IOException e) {
+            droppedWrites.add(entries.size());
+            log.error("Failed to persist {} translation memory entries: {}", entries.size(), e.getMessage());
+        }
+    }
+
+    private record MemoryKey(String engine, String sourceLanguage, String targetLanguage, String text) {
+
+        static MemoryKey of(MemoryEntry entry) {
+            return new MemoryKey(entry.engine(), entry.sourceLanguage(), entry.targetLanguage(), entry.sourceText());
+        }
+    }
+
+    private record FuzzyEntry(SegmentPattern pattern, String translatedText) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.translation.metrics;
+
+import com.translation.cache.RequestCoalescer;
+import com.translation.cache.TranslationCache;
+import com.translation.config.TranslationEngine;
+import com.translation.inference.InferenceScheduler;
+import com.translation.inference.TokenCounter;
+import com.translation.integration.MicroBatchDispatcher;
+import com.translation.integration.OpenAITranslationProvider;
+import com.translation.integration.RequestHedger;
+import com.translation.memory.TranslationMemory;
+import com.translation.ratelimit.UpstreamRateLimiter;
+import com.translation.resilience.ProviderGuard;
+import com.translation.routing.ProviderRouter;
+import com.translation.routing.ProviderStats;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the counters the pipeline stages already keep (cache, coalescer, memory, hedger,
+ * router, micro-batching, OpenAI packing, rate limiter, local inference, circuit breakers).
+ * Values are read when metrics are scraped, so nothing is added to the request path.
+ */
+@Component
+@RequiredArgsConstructor
+public class PipelineMetricsBinder implements MeterBinder {
+
+    private final TranslationCache translationCache;
+    private final RequestCoalescer requestCoalescer;
+    private final TranslationMemory translationMemory;
+    private final RequestHedger requestHedger;
+    private final ProviderRouter providerRouter;
+    private final MicroBatchDispatcher microBatchDispatcher;
+    private final OpenAITranslationProvider openaiProvider;
+    private final UpstreamRateLimiter upstreamRateLimiter;
+    private final InferenceScheduler inferenceScheduler;
+    private final TokenCounter tokenCounter;
+    private final ProviderGuard providerGuard;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "translation.cache.hits", translationCache, cache -> cache.stats().hitCount());
+        counter(registry, "translation.cache.misses", translationCache, cache -> cache.stats().missCount());
+        counter(registry, "translation.cache.evictions", translationCache, cache -> cache.stats().evictionCount());
+        gauge(registry, "translation.cache.size", translationCache, TranslationCache::size);
+
+        counter(registry, "translation.coalescer.upstream.calls", requestCoalescer, RequestCoalescer::getUpstreamCalls);
+        counter(registry, "translation.coalescer.coalesced", requestCoalescer, RequestCoalescer::getCoalescedRequests);
+        gauge(registry, "translation.coalescer.in.flight", requestCoalescer, RequestCoalescer::getInFlight);
+
+        gauge(registry, "translation.memory.size", translationMemory, TranslationMemory::size);
+        counter(registry, "translation.memory.exact.hits", translationMemory, TranslationMemory::getExactHits);
+        counter(registry, "translation.memory.fuzzy.hits", translationMemory, TranslationMemory::getFuzzyHits);
+        counter(registry, "translation.memory.misses", translationMemory, TranslationMemory::getMisses);
+        counter(registry, "translation.memory.dropped.writes", translationMemory, TranslationMemory::getDroppedWrites);
+
+        counter(registry, "translation.hedge.requests", requestHedger, RequestHedger::getHedgedRequests);
+        counter(registry, "translation.hedge.wins", requestHedger, RequestHedger::getHedgeWins);
+        counter(registry, "translation.hedge.budget.exhausted", requestHedger, RequestHedger::getBudgetExhausted);
+
+        counter(registry, "translation.microbatch.batches", microBatchDispatcher,
+            MicroBatchDispatcher::getDispatchedBatches);
+        gauge(registry, "translation.microbatch.avg.size", microBatchDispatcher,
+            MicroBatchDispatcher::getAverageBatchSize);
+
+        counter(registry, "translation.openai.packed.requests", openaiProvider,
+            OpenAITranslationProvider::getPackedRequests);
+        counter(registry, "translation.openai.packed.segments", openaiProvider,
+            OpenAITranslationProvider::getPackedSegments);
+        counter(registry, "translation.openai.fallback.segments", openaiProvider,
+            OpenAITranslationProvider::getFallbackSegments);
+        FunctionCounter.builder("translation.openai.tokens", openaiProvider, OpenAITranslationProvider::getPromptTokens)
+            .description("Tokens billed by OpenAI")
+            .tag("type", "prompt")
+            .register(registry);
+        FunctionCounter.builder("translation.openai.tokens", openaiProvider,
+                OpenAITranslationProvider::getCompletionTokens)
+            .description("Tokens billed by OpenAI")
+            .tag("type", "completion")
+            .register(registry);
+
+        counter(registry, "translation.tokenizer.cache.hits", tokenCounter, tokens -> tokens.stats().hitCount());
+        counter(registry, "translation.tokenizer.cache.misses", tokenCounter, tokens -> tokens.stats().missCount());
+
+        gauge(registry, "translation.inference.queue.depth", inferenceScheduler, InferenceScheduler::getQueueDepth);
+        counter(registry, "translation.inference.batches", inferenceScheduler, InferenceScheduler::getBatches);
+        gauge(registry, "translation.inference.fill.ratio", inferenceScheduler,
+            InferenceScheduler::getAverageFillRatio);
+        gauge(registry, "translation.inference.batch.latency.p50", inferenceScheduler,
+            scheduler -> scheduler.getBatchLatency().percentileMs(50));
+        gauge(registry, "translation.inference.batch.latency.p99", inferenceScheduler,
+            scheduler -> scheduler.getBatchLatency().percentileMs(99));
+
+        for (TranslationEngine engine : TranslationEngine.values()) {
+            String name = engine.getValue();
+            FunctionCounter.builder("translation.ratelimit.calls", upstreamRateLimiter,
+                    limiter -> limiter.describe(name).getCalls())
+                .tag("engine", name).register(registry);
+            FunctionCounter.builder("translation.ratelimit.queued", upstreamRateLimiter,
+                    limiter -> limiter.describe(name).getQueuedCalls())
+                .tag("engine", name).register(registry);
+            FunctionCounter.builder("translation.ratelimit.rejected", upstreamRateLimiter,
+                    limiter -> limiter.describe(name).getRejectedCalls())
+                .tag("engine", name).register(registry);
+            FunctionCounter.builder("translation.ratelimit.retries", upstreamRateLimiter,
+                    limiter -> limiter.describe(name).getRetries())
+                .tag("engine", name).register(registry);
+            Gauge.builder("translation.ratelimit.avg.queue.wait", upstreamRateLimiter,
+                    limiter -> limiter.describe(name).getAvgQueueWaitMs())
+                .tag("engine", name).baseUnit("milliseconds").register(registry);
+
+            ProviderStats stats = providerRouter.stats(name);
+            Gauge.builder("translation.router.latency.ewma", stats, ProviderStats::getLatencyEwmaMs)
+                .tag("engine", name).baseUnit("milliseconds").register(registry);
+            Gauge.builder("translation.router.error.rate", stats, ProviderStats::getErrorRate)
+                .tag("engine", name).register(registry);
+            Gauge.builder("translation.router.in.flight", stats, ProviderStats::getInFlight)
+                .tag("engine", name).register(registry);
+        }
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(providerGuard.getCircuitBreakerRegistry())
+            .bindTo(registry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(providerGuard.getBulkheadRegistry()).bindTo(registry);
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, T source, ToDoubleFunction<T> value) {
+        FunctionCounter.builder(name, source, value).register(registry);
+    }
+
+    private static <T> void gauge(MeterRegistry registry, String name, T source, ToDoubleFunction<T> value) {
+        Gauge.builder(name, source, value).register(registry);
+    }
+}
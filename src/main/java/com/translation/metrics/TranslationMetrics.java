@@ -0,0 +1,195 @@
+package com.translation.metrics;
+
+import com.translation.exception.TranslationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Request and provider call metrics recorded on the hot path. Each tag combination's meters are
+ * registered once and then looked up in a map, so recording costs a lookup and the meter update.
+ * Percentiles and histogram buckets are configured in {@code management.metrics.distribution}.
+ */
+@Component
+public class TranslationMetrics {
+
+    public static final String REQUESTS = "translation.requests";
+    public static final String PROVIDER_CALLS = "translation.provider.calls";
+
+    /**
+     * Language tags beyond this many distinct values are reported as "other"
+     */
+    private static final int MAX_LANGUAGE_TAGS = 64;
+    private static final Pattern LANGUAGE = Pattern.compile("[a-z]{2,3}(-[A-Za-z0-9]{2,4})?");
+    private static final String OK = "200";
+
+    private final MeterRegistry registry;
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private final Set<String> languages = ConcurrentHashMap.newKeySet();
+
+    private final Map<RequestKey, Timer> requestTimers = new ConcurrentHashMap<>();
+    private final Map<PairKey, Counter> characters = new ConcurrentHashMap<>();
+    private final Map<PairKey, Counter> failedTexts = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> batchSizes = new ConcurrentHashMap<>();
+    private final Map<ProviderKey, Timer> providerTimers = new ConcurrentHashMap<>();
+    private final Map<ErrorKey, Counter> providerErrors = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> providerBatchSizes = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> activeProviderCalls = new ConcurrentHashMap<>();
+
+    public TranslationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder(REQUESTS + ".active", activeRequests, AtomicInteger::get)
+            .description("Translation requests in progress")
+            .register(registry);
+    }
+
+    /**
+     * Mark a request as started; pass the result to {@link #requestFinished}
+     */
+    public long requestStarted() {
+        activeRequests.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Record a finished request of {@code texts} texts and {@code characterCount} characters.
+     * A batch that partly failed still counts as OK, with its failed items counted separately.
+     *
+     * @param error the exception the request failed with, or null
+     */
+    public void requestFinished(String operation, String sourceLanguage, String targetLanguage, int texts,
+                                long characterCount, int failed, long startNanos, Throwable error) {
+        long elapsed = System.nanoTime() - startNanos;
+        activeRequests.decrementAndGet();
+        String source = languageTag(sourceLanguage);
+        String target = languageTag(targetLanguage);
+        String status = status(error);
+
+        requestTimers.computeIfAbsent(new RequestKey(operation, source, target, status), key -> Timer.builder(REQUESTS)
+                .description("Translation request latency")
+                .tags("operation", key.operation(), "source", key.source(), "target", key.target(),
+                    "status", key.status())
+                .register(registry))
+            .record(elapsed, TimeUnit.NANOSECONDS);
+        if (error == null) {
+            pairCounter(characters, "translation.characters", "Characters submitted for translation", source, target)
+                .increment(characterCount);
+        }
+        if (failed > 0) {
+            pairCounter(failedTexts, "translation.texts.failed", "Batch items that could not be translated",
+                source, target).increment(failed);
+        }
+        if (texts > 1 || !"translate".equals(operation)) {
+            batchSizes.computeIfAbsent(operation, name -> DistributionSummary.builder("translation.batch.size")
+                    .description("Texts per request")
+                    .baseUnit("texts")
+                    .tag("operation", name)
+                    .register(registry))
+                .record(texts);
+        }
+    }
+
+    /**
+     * Mark a call to an engine provider as started; pass the result to {@link #providerCallFinished}
+     */
+    public long providerCallStarted(String engine) {
+        activeProviderCalls.computeIfAbsent(engine, name -> {
+            AtomicInteger active = new AtomicInteger();
+            Gauge.builder(PROVIDER_CALLS + ".active", active, AtomicInteger::get)
+                .description("Calls in progress per engine provider")
+                .tag("engine", name)
+                .register(registry);
+            return active;
+        }).incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Record a finished provider call; failures are also counted by HTTP status and error code
+     */
+    public void providerCallFinished(String engine, String operation, int texts, long startNanos, Throwable error) {
+        long elapsed = System.nanoTime() - startNanos;
+        activeProviderCalls.get(engine).decrementAndGet();
+        String outcome = error == null ? "success" : "error";
+        providerTimers.computeIfAbsent(new ProviderKey(engine, operation, outcome), key -> Timer.builder(PROVIDER_CALLS)
+                .description("Engine provider call latency")
+                .tags("engine", key.engine(), "operation", key.operation(), "outcome", key.outcome())
+                .register(registry))
+            .record(elapsed, TimeUnit.NANOSECONDS);
+        if (error != null) {
+            String code = error instanceof TranslationException translationError
+                && translationError.getErrorCode() != null ? translationError.getErrorCode() : "none";
+            providerErrors.computeIfAbsent(new ErrorKey(engine, status(error), code), key ->
+                    Counter.builder("translation.provider.errors")
+                        .description("Failed engine provider calls")
+                        .tags("engine", key.engine(), "status", key.status(), "code", key.code())
+                        .register(registry))
+                .increment();
+        }
+        if (!"translate".equals(operation)) {
+            providerBatchSizes.computeIfAbsent(engine, name ->
+                    DistributionSummary.builder("translation.provider.batch.size")
+                        .description("Texts per batch call to an engine provider")
+                        .baseUnit("texts")
+                        .tag("engine", name)
+                        .register(registry))
+                .record(texts);
+        }
+    }
+
+    private Counter pairCounter(Map<PairKey, Counter> counters, String name, String description,
+                                String source, String target) {
+        return counters.computeIfAbsent(new PairKey(source, target), key -> Counter.builder(name)
+            .description(description)
+            .tags("source", key.source(), "target", key.target())
+            .register(registry));
+    }
+
+    /**
+     * Request languages are client input; keep their tag values few and well-formed
+     */
+    private String languageTag(String language) {
+        if (language == null) {
+            return "none";
+        }
+        if (languages.contains(language)) {
+            return language;
+        }
+        if (languages.size() < MAX_LANGUAGE_TAGS && LANGUAGE.matcher(language).matches()) {
+            languages.add(language);
+            return language;
+        }
+        return "other";
+    }
+
+    private static String status(Throwable error) {
+        if (error == null) {
+            return OK;
+        }
+        return error instanceof TranslationException translationError
+            ? String.valueOf(translationError.getStatus().value())
+            : "500";
+    }
+
+    private record RequestKey(String operation, String source, String target, String status) {
+    }
+
+    private record PairKey(String source, String target) {
+    }
+
+    private record ProviderKey(String engine, String operation, String outcome) {
+    }
+
+    private record ErrorKey(String engine, String status, String code) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.translation.ratelimit;
+
+/**
+ * Token bucket that hands out reservations instead of refusing: taking more tokens than are
+ * available drives the balance negative, and the caller waits until it is paid back. Callers
+ * therefore queue in reservation order. Not thread-safe; {@link UpstreamRateLimiter} synchronizes.
+ */
+class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long updatedNanos;
+
+    TokenBucket(double capacity, double tokensPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000.0;
+        this.tokens = capacity;
+        this.updatedNanos = nowNanos;
+    }
+
+    /**
+     * Take {@code amount} tokens (capped at the capacity, so one oversized call cannot block
+     * forever) and return how long the caller must wait before using them, in nanoseconds
+     */
+    long reserve(double amount, long nowNanos) {
+        refill(nowNanos);
+        tokens -= Math.min(amount, capacity);
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+
+    /**
+     * Return a reservation that will not be used
+     */
+    void release(double amount) {
+        tokens = Math.min(capacity, tokens + Math.min(amount, capacity));
+    }
+
+    private void refill(long nowNanos) {
+        tokens = Math.min(capacity, tokens + (nowNanos - updatedNanos) * tokensPerNano);
+        updatedNanos = nowNanos;
+    }
+}
@@ -0,0 +1,214 @@
+package com.translation.ratelimit;
+
+import com.translation.config.TranslationProperties;
+import com.translation.dto.RateLimitStatsResponse;
+import com.translation.exception.TranslationException;
+import com.translation.resilience.ProviderGuard;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Paces upstream calls per provider with two token buckets: requests per second and units
+ * (characters or tokens) per minute. A call over the limits waits for its turn instead of
+ * failing, unless the wait would exceed {@code max-queue-wait-ms}. Calls answered with 429 or
+ * 5xx are retried with exponential backoff and jitter, taking a fresh reservation each time.
+ * Only the upstream attempts themselves run through the provider's circuit breaker and bulkhead,
+ * so time spent queueing or backing off neither counts as a slow call nor holds a bulkhead slot.
+ */
+@Slf4j
+@Component
+public class UpstreamRateLimiter {
+
+    public static final String RATE_LIMITED = "RATE_LIMITED";
+
+    private final boolean enabled;
+    private final long maxQueueWaitNanos;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final Map<String, ProviderLimit> limits = new ConcurrentHashMap<>();
+    private final Map<String, LimiterStats> stats = new ConcurrentHashMap<>();
+    private final ProviderGuard guard;
+
+    public UpstreamRateLimiter(TranslationProperties properties, ProviderGuard guard) {
+        this.guard = guard;
+        TranslationProperties.RateLimitConfig config = properties.getRateLimit();
+        this.enabled = Boolean.TRUE.equals(config.getEnabled());
+        this.maxQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(config.getMaxQueueWaitMs());
+        this.maxAttempts = Math.max(1, config.getMaxAttempts());
+        this.initialBackoffMs = config.getInitialBackoffMs();
+        this.maxBackoffMs = config.getMaxBackoffMs();
+        long now = System.nanoTime();
+        config.getProviders().forEach((engine, limit) -> limits.put(engine, new ProviderLimit(limit, now)));
+        if (enabled) {
+            log.info("Upstream rate limits enabled for {} (max queue wait: {}ms, max attempts: {})",
+                limits.keySet(), config.getMaxQueueWaitMs(), maxAttempts);
+        }
+    }
+
+    /**
+     * Run an upstream call for {@code engine} costing {@code units} characters or tokens.
+     * The call should throw {@link TranslationException} with the upstream status so that
+     * rate limiting (429) and server errors can be told apart from bad requests.
+     */
+    public <T> T call(String engine, long units, Supplier<T> call) {
+        Supplier<T> attempt = guard.isEnabled() ? () -> guard.call(engine, call) : call;
+        if (!enabled) {
+            return attempt.get();
+        }
+        LimiterStats limiterStats = stats.computeIfAbsent(engine, name -> new LimiterStats());
+        for (int attempt = 1; ; attempt++) {
+            acquire(engine, units, limiterStats);
+            try {
+                return attempt.get();
+            } catch (TranslationException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+                long backoffMs = backoffMs(attempt);
+                limiterStats.retries.increment();
+                log.debug("{} call failed ({}), retry {} in {}ms", engine, e.getStatus(), attempt, backoffMs);
+                sleep(TimeUnit.MILLISECONDS.toNanos(backoffMs));
+            }
+        }
+    }
+
+    public Map<String, RateLimitStatsResponse> describe() {
+        Map<String, RateLimitStatsResponse> described = new TreeMap<>();
+        stats.forEach((engine, limiterStats) -> described.put(engine, limiterStats.toResponse()));
+        return described;
+    }
+
+    /**
+     * Statistics of one engine; all zero before its first call
+     */
+    public RateLimitStatsResponse describe(String engine) {
+        LimiterStats limiterStats = stats.get(engine);
+        return (limiterStats == null ? new LimiterStats() : limiterStats).toResponse();
+    }
+
+    private void acquire(String engine, long units, LimiterStats limiterStats) {
+        limiterStats.calls.increment();
+        ProviderLimit limit = limits.get(engine);
+        if (limit == null) {
+            return;
+        }
+        long waitNanos = limit.reserve(units, maxQueueWaitNanos);
+        if (waitNanos < 0) {
+            limiterStats.rejected.increment();
+            throw new TranslationException(
+                "Rate limit queue for " + engine + " is full, try again later",
+                HttpStatus.TOO_MANY_REQUESTS,
+                RATE_LIMITED
+            );
+        }
+        if (waitNanos > 0) {
+            limiterStats.queued.increment();
+            limiterStats.queueWaitNanos.add(waitNanos);
+            limiterStats.maxQueueWaitNanos.accumulate(waitNanos);
+            sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 429 and 5xx, except an open circuit, which should fail fast rather than be waited out,
+     * and refused credentials, which no retry will fix
+     */
+    private static boolean isRetryable(TranslationException e) {
+        if (ProviderGuard.CIRCUIT_OPEN.equals(e.getErrorCode())
+                || TranslationException.UPSTREAM_AUTH_FAILED.equals(e.getErrorCode())) {
+            return false;
+        }
+        return e.getStatus() == HttpStatus.TOO_MANY_REQUESTS || e.getStatus().is5xxServerError();
+    }
+
+    /**
+     * Exponential backoff with equal jitter: half the delay is fixed, half is random
+     */
+    private long backoffMs(int attempt) {
+        long backoff = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+        long half = backoff / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TranslationException("Translation interrupted", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    private static class ProviderLimit {
+
+        private final TokenBucket requests;
+        private final TokenBucket units;
+
+        ProviderLimit(TranslationProperties.RateLimitConfig.Limit limit, long nowNanos) {
+            Double requestsPerSecond = limit.getRequestsPerSecond();
+            Long unitsPerMinute = limit.getUnitsPerMinute();
+            this.requests = requestsPerSecond == null ? null
+                : new TokenBucket(Math.max(1.0, requestsPerSecond), requestsPerSecond, nowNanos);
+            this.units = unitsPerMinute == null ? null
+                : new TokenBucket(unitsPerMinute, unitsPerMinute / 60.0, nowNanos);
+        }
+
+        /**
+         * Reserve one request and {@code amount} units; returns the wait in nanoseconds,
+         * or -1 (reserving nothing) if it would exceed {@code maxWaitNanos}
+         */
+        synchronized long reserve(long amount, long maxWaitNanos) {
+            long now = System.nanoTime();
+            long wait = 0;
+            if (requests != null) {
+                wait = requests.reserve(1, now);
+            }
+            if (units != null) {
+                wait = Math.max(wait, units.reserve(amount, now));
+            }
+            if (wait > maxWaitNanos) {
+                if (requests != null) {
+                    requests.release(1);
+                }
+                if (units != null) {
+                    units.release(amount);
+                }
+                return -1;
+            }
+            return wait;
+        }
+    }
+
+    private static class LimiterStats {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder queued = new LongAdder();
+        private final LongAdder queueWaitNanos = new LongAdder();
+        private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+
+        RateLimitStatsResponse toResponse() {
+            long callCount = calls.sum();
+            return RateLimitStatsResponse.builder()
+                .calls(callCount)
+                .queuedCalls(queued.sum())
+                .avgQueueWaitMs(callCount == 0 ? 0.0 : queueWaitNanos.sum() / 1_000_000.0 / callCount)
+                .maxQueueWaitMs(maxQueueWaitNanos.get() / 1_000_000.0)
+                .rejectedCalls(rejected.sum())
+                .retries(retries.sum())
+                .build();
+        }
+    }
+}
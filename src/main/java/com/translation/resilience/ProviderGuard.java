@@ -0,0 +1,124 @@
+package com.translation.resilience;
+
+import com.translation.config.TranslationProperties;
+import com.translation.exception.PartialBatchTranslationException;
+import com.translation.exception.TranslationException;
+import com.translation.ratelimit.UpstreamRateLimiter;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker and bulkhead per engine provider. An open circuit rejects calls immediately
+ * instead of letting every request wait for the upstream timeout, and the bulkhead caps how many
+ * threads a single provider can tie up. Client errors (4xx) and calls rejected by the local
+ * rate limiter do not count as provider failures, and a batch that partly succeeded counts as a
+ * success, as in {@link com.translation.health.ProviderHealthMonitor}. Paced engines (Google, OpenAI) are guarded per
+ * upstream attempt by {@link UpstreamRateLimiter}; the others per provider call.
+ */
+@Slf4j
+@Component
+public class ProviderGuard {
+
+    public static final String CIRCUIT_OPEN = "CIRCUIT_OPEN";
+    public static final String BULKHEAD_FULL = "BULKHEAD_FULL";
+
+    private final boolean enabled;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final BulkheadRegistry bulkheads;
+
+    public ProviderGuard(TranslationProperties properties) {
+        TranslationProperties.ResilienceConfig config = properties.getResilience();
+        this.enabled = Boolean.TRUE.equals(config.getEnabled());
+        this.circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(config.getSlidingWindowSize())
+            .minimumNumberOfCalls(config.getMinimumNumberOfCalls())
+            .failureRateThreshold(config.getFailureRateThreshold())
+            .slowCallRateThreshold(config.getSlowCallRateThreshold())
+            .slowCallDurationThreshold(Duration.ofMillis(config.getSlowCallDurationMs()))
+            .waitDurationInOpenState(Duration.ofMillis(config.getWaitInOpenStateMs()))
+            .permittedNumberOfCallsInHalfOpenState(config.getPermittedCallsInHalfOpenState())
+            .ignoreException(ProviderGuard::isIgnored)
+            .recordException(error -> !(error instanceof PartialBatchTranslationException))
+            .build());
+        this.bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(config.getMaxConcurrentCalls())
+            .maxWaitDuration(Duration.ofMillis(config.getMaxWaitMs()))
+            .build());
+        if (enabled) {
+            circuitBreakers.getEventPublisher().onEntryAdded(added -> added.getAddedEntry()
+                .getEventPublisher().onStateTransition(event -> log.warn("Circuit breaker for {}: {}",
+                    event.getCircuitBreakerName(), event.getStateTransition())));
+            log.info("Provider circuit breakers enabled (failure rate: {}%, max concurrent calls: {})",
+                config.getFailureRateThreshold(), config.getMaxConcurrentCalls());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Run a call to {@code engine} through its bulkhead and circuit breaker
+     */
+    public <T> T call(String engine, Supplier<T> call) {
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(engine);
+        Bulkhead bulkhead = bulkheads.bulkhead(engine);
+        try {
+            return CircuitBreaker.decorateSupplier(circuitBreaker, Bulkhead.decorateSupplier(bulkhead, call)).get();
+        } catch (CallNotPermittedException e) {
+            throw new TranslationException(
+                "Provider " + engine + " is unavailable (circuit open)",
+                HttpStatus.SERVICE_UNAVAILABLE,
+                CIRCUIT_OPEN
+            );
+        } catch (BulkheadFullException e) {
+            throw new TranslationException(
+                "Too many concurrent calls to provider " + engine,
+                HttpStatus.SERVICE_UNAVAILABLE,
+                BULKHEAD_FULL
+            );
+        }
+    }
+
+    public CircuitBreakerRegistry getCircuitBreakerRegistry() {
+        return circuitBreakers;
+    }
+
+    public BulkheadRegistry getBulkheadRegistry() {
+        return bulkheads;
+    }
+
+    /**
+     * Circuit breaker state per provider that has been called
+     */
+    public Map<String, String> states() {
+        Map<String, String> states = new TreeMap<>();
+        circuitBreakers.getAllCircuitBreakers()
+            .forEach(circuitBreaker -> states.put(circuitBreaker.getName(), circuitBreaker.getState().name()));
+        return states;
+    }
+
+    private static boolean isIgnored(Throwable error) {
+        if (error instanceof BulkheadFullException) {
+            return true;
+        }
+        return error instanceof TranslationException translationError
+            && (translationError.isClientError()
+                || UpstreamRateLimiter.RATE_LIMITED.equals(translationError.getErrorCode()));
+    }
+}
@@ -0,0 +1,210 @@
+package com.translation.routing;
+
+import com.translation.config.TranslationEngine;
+import com.translation.config.TranslationProperties;
+import com.translation.dto.ProviderStatsResponse;
+import com.translation.dto.RoutingRule;
+import com.translation.dto.RoutingTableRequest;
+import com.translation.dto.RoutingTableResponse;
+import com.translation.exception.TranslationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Chooses an engine per request from the current {@link RoutingTable}.
+ * Two candidates are drawn at random in proportion to their weights and the one with the
+ * lower {@link ProviderStats#score()} (EWMA latency scaled by in-flight calls and error rate)
+ * wins, so a slow or failing provider gets progressively less traffic. A small share of
+ * requests ({@code exploration-rate}) is routed by weight alone to keep every provider's
+ * stats current. The table can be replaced at runtime with {@link #update}.
+ */
+@Slf4j
+@Component
+public class ProviderRouter {
+
+    private final double ewmaAlpha;
+    private final double explorationRate;
+    private final Map<String, ProviderStats> stats = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+    private volatile RoutingTable table;
+
+    public ProviderRouter(TranslationProperties properties) {
+        TranslationProperties.RoutingConfig config = properties.getRouting();
+        this.ewmaAlpha = config.getEwmaAlpha();
+        this.explorationRate = config.getExplorationRate();
+        this.enabled = Boolean.TRUE.equals(config.getEnabled());
+
+        List<RoutingTable.Route> routes = new ArrayList<>();
+        for (TranslationProperties.RoutingConfig.Route route : config.getRoutes()) {
+            routes.add(new RoutingTable.Route(route.getSourceLanguage(), route.getTargetLanguage(),
+                normalizeWeights(route.getWeights())));
+        }
+        this.table = new RoutingTable(normalizeWeights(config.getWeights()), routes);
+        if (enabled && table.weights().isEmpty()) {
+            throw new IllegalStateException("translation.routing.weights must give at least one engine a positive weight");
+        }
+        if (enabled) {
+            log.info("Provider routing enabled with weights {} and {} language pair routes",
+                table.weights(), routes.size());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Weights that apply to a language pair under the current table
+     */
+    public Map<String, Integer> weightsFor(String sourceLanguage, String targetLanguage) {
+        return table.weightsFor(sourceLanguage, targetLanguage);
+    }
+
+    /**
+     * Every engine that can receive traffic under the current table
+     */
+    public Set<String> engines() {
+        return table.engines();
+    }
+
+    /**
+     * Pick one engine out of {@code candidates} (engine to positive weight)
+     */
+    public String choose(Map<String, Integer> candidates) {
+        if (candidates.size() == 1) {
+            return candidates.keySet().iterator().next();
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String first = weightedPick(candidates, null, random);
+        if (random.nextDouble() < explorationRate) {
+            return first;
+        }
+        String second = weightedPick(candidates, first, random);
+        return stats(first).score() <= stats(second).score() ? first : second;
+    }
+
+    public ProviderStats stats(String engine) {
+        return stats.computeIfAbsent(engine, e -> new ProviderStats(ewmaAlpha));
+    }
+
+    /**
+     * Replace the routing table (and optionally the enabled flag) without a restart. Like the
+     * configured table, an enabled table must give at least one engine a positive default weight.
+     */
+    public synchronized RoutingTableResponse update(RoutingTableRequest request) {
+        List<RoutingTable.Route> routes = new ArrayList<>();
+        if (request.getRoutes() != null) {
+            for (RoutingRule rule : request.getRoutes()) {
+                routes.add(new RoutingTable.Route(
+                    rule.getSourceLanguage() != null ? rule.getSourceLanguage() : RoutingTable.ANY_LANGUAGE,
+                    rule.getTargetLanguage() != null ? rule.getTargetLanguage() : RoutingTable.ANY_LANGUAGE,
+                    normalizeWeights(rule.getWeights())));
+            }
+        }
+        RoutingTable updated = new RoutingTable(normalizeWeights(request.getWeights()), routes);
+        boolean enable = request.getEnabled() != null ? request.getEnabled() : enabled;
+        if (enable && updated.weights().isEmpty()) {
+            throw new TranslationException("weights must give at least one engine a positive weight",
+                HttpStatus.BAD_REQUEST, "VALIDATION_ERROR");
+        }
+
+        table = updated;
+        enabled = enable;
+        log.info("Routing table updated (enabled: {}): weights {}, {} language pair routes",
+            enabled, updated.weights(), routes.size());
+        return describe();
+    }
+
+    public RoutingTableResponse describe() {
+        RoutingTable current = table;
+        List<RoutingRule> routes = new ArrayList<>();
+        for (RoutingTable.Route route : current.routes()) {
+            routes.add(RoutingRule.builder()
+                .sourceLanguage(route.sourceLanguage())
+                .targetLanguage(route.targetLanguage())
+                .weights(route.weights())
+                .build());
+        }
+
+        Map<String, ProviderStatsResponse> providers = new LinkedHashMap<>();
+        for (TranslationEngine engine : TranslationEngine.values()) {
+            ProviderStats providerStats = stats.get(engine.getValue());
+            if (providerStats == null) {
+                continue;
+            }
+            providers.put(engine.getValue(), ProviderStatsResponse.builder()
+                .requests(providerStats.getRequests())
+                .errors(providerStats.getErrors())
+                .inFlight(providerStats.getInFlight())
+                .latencyEwmaMs(providerStats.getLatencyEwmaMs())
+                .p50LatencyMs(providerStats.percentileMs(50))
+                .p99LatencyMs(providerStats.percentileMs(99))
+                .errorRate(providerStats.getErrorRate())
+                .build());
+        }
+
+        return RoutingTableResponse.builder()
+            .enabled(enabled)
+            .weights(current.weights())
+            .routes(routes)
+            .providers(providers)
+            .build();
+    }
+
+    private static String weightedPick(Map<String, Integer> candidates, String exclude, ThreadLocalRandom random) {
+        int total = 0;
+        for (Map.Entry<String, Integer> candidate : candidates.entrySet()) {
+            if (!candidate.getKey().equals(exclude)) {
+                total += candidate.getValue();
+            }
+        }
+        int point = random.nextInt(total);
+        String last = null;
+        for (Map.Entry<String, Integer> candidate : candidates.entrySet()) {
+            if (candidate.getKey().equals(exclude)) {
+                continue;
+            }
+            last = candidate.getKey();
+            point -= candidate.getValue();
+            if (point < 0) {
+                break;
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Validate engine names and drop zero weights
+     */
+    private static Map<String, Integer> normalizeWeights(Map<String, Integer> weights) {
+        Map<String, Integer> normalized = new LinkedHashMap<>();
+        if (weights == null) {
+            return normalized;
+        }
+        for (Map.Entry<String, Integer> weight : weights.entrySet()) {
+            String engine;
+            try {
+                engine = TranslationEngine.fromValue(weight.getKey()).getValue();
+            } catch (IllegalArgumentException e) {
+                throw new TranslationException(e.getMessage(), HttpStatus.BAD_REQUEST, "VALIDATION_ERROR");
+            }
+            if (weight.getValue() == null || weight.getValue() < 0) {
+                throw new TranslationException(
+                    "Weight of " + engine + " must be zero or positive", HttpStatus.BAD_REQUEST, "VALIDATION_ERROR");
+            }
+            if (weight.getValue() > 0) {
+                normalized.put(engine, weight.getValue());
+            }
+        }
+        return normalized;
+    }
+}
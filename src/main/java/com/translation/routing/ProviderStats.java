@@ -0,0 +1,118 @@
+package com.translation.routing;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Observed behaviour of one provider: EWMA latency and error rate for routing decisions,
+ * plus a ring buffer of recent latencies for percentiles.
+ */
+public class ProviderStats {
+
+    private static final int SAMPLE_SIZE = 1024;
+
+    private final double alpha;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    // Guarded by this
+    private final long[] samples = new long[SAMPLE_SIZE];
+    private int sampleCount;
+    private int nextSample;
+    private double latencyEwmaMs;
+    private double errorEwma;
+
+    public ProviderStats(double alpha) {
+        this.alpha = alpha;
+    }
+
+    /**
+     * Mark a call as started; returns the start time to pass to {@link #end}
+     */
+    public long begin() {
+        inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Forget a call started with {@link #begin} that was cancelled before it finished; nothing is recorded
+     */
+    public void abandon() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Record a finished call of {@code items} texts; {@code errorRate} is the failed share (0..1)
+     */
+    public void end(long startNanos, int items, double errorRate) {
+        long latencyNanos = (System.nanoTime() - startNanos) / Math.max(1, items);
+        inFlight.decrementAndGet();
+        requests.increment();
+        if (errorRate > 0) {
+            errors.increment();
+        }
+        synchronized (this) {
+            double latencyMs = latencyNanos / 1_000_000.0;
+            if (sampleCount == 0) {
+                latencyEwmaMs = latencyMs;
+                errorEwma = errorRate;
+            } else {
+                latencyEwmaMs += alpha * (latencyMs - latencyEwmaMs);
+                errorEwma += alpha * (errorRate - errorEwma);
+            }
+            samples[nextSample] = latencyNanos;
+            nextSample = (nextSample + 1) % SAMPLE_SIZE;
+            sampleCount = Math.min(sampleCount + 1, SAMPLE_SIZE);
+        }
+    }
+
+    /**
+     * Expected cost of sending one more request here; lower is better. Providers without
+     * samples score 0 so that they are tried.
+     */
+    public synchronized double score() {
+        if (sampleCount == 0) {
+            return 0.0;
+        }
+        return latencyEwmaMs * (inFlight.get() + 1) / Math.max(0.01, 1.0 - errorEwma);
+    }
+
+    /**
+     * Latency percentile in milliseconds over the recent samples, or -1 without samples
+     */
+    public double percentileMs(double percentile) {
+        long[] sorted;
+        synchronized (this) {
+            if (sampleCount == 0) {
+                return -1;
+            }
+            sorted = Arrays.copyOf(samples, sampleCount);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public synchronized double getLatencyEwmaMs() {
+        return latencyEwmaMs;
+    }
+
+    public synchronized double getErrorRate() {
+        return errorEwma;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+}
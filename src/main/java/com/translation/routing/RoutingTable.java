@@ -0,0 +1,63 @@
+package com.translation.routing;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of traffic weights: defaults plus per language pair overrides.
+ * A route matches on its exact pair first, then on source only, then on target only
+ * ({@code "*"} matches any language).
+ */
+public record RoutingTable(Map<String, Integer> weights, List<Route> routes) {
+
+    public static final String ANY_LANGUAGE = "*";
+
+    public RoutingTable {
+        weights = Map.copyOf(weights);
+        routes = List.copyOf(routes);
+    }
+
+    /**
+     * Every engine that receives traffic under some route or the defaults
+     */
+    public Set<String> engines() {
+        Set<String> engines = new LinkedHashSet<>(weights.keySet());
+        routes.forEach(route -> engines.addAll(route.weights().keySet()));
+        return engines;
+    }
+
+    public Map<String, Integer> weightsFor(String sourceLanguage, String targetLanguage) {
+        Route best = null;
+        int bestSpecificity = -1;
+        for (Route route : routes) {
+            int specificity = route.specificity(sourceLanguage, targetLanguage);
+            if (specificity > bestSpecificity) {
+                best = route;
+                bestSpecificity = specificity;
+            }
+        }
+        return best != null ? best.weights() : weights;
+    }
+
+    public record Route(String sourceLanguage, String targetLanguage, Map<String, Integer> weights) {
+
+        public Route {
+            weights = Map.copyOf(weights);
+        }
+
+        /**
+         * 3 for an exact pair, 2 for a source match, 1 for a target match, 0 for "* -> *", -1 for no match
+         */
+        private int specificity(String source, String target) {
+            boolean anySource = ANY_LANGUAGE.equals(sourceLanguage);
+            boolean anyTarget = ANY_LANGUAGE.equals(targetLanguage);
+            if ((!anySource && !sourceLanguage.equalsIgnoreCase(source))
+                    || (!anyTarget && !targetLanguage.equalsIgnoreCase(target))) {
+                return -1;
+            }
+            return (anySource ? 0 : 2) + (anyTarget ? 0 : 1);
+        }
+    }
+}
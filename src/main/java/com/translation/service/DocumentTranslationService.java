@@ -0,0 +1,132 @@
+package com.translation.service;
+
+import com.translation.config.TranslationProperties;
+import com.translation.document.DocumentSegmenter;
+import com.translation.exception.TranslationException;
+import com.translation.integration.BatchExecutor;
+import com.translation.integration.TranslationProvider;
+import com.translation.integration.TranslationProviderFactory;
+import com.translation.metrics.TranslationMetrics;
+import com.translation.tracing.RequestLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Translates documents of any size by streaming them through {@link DocumentSegmenter}.
+ * Up to {@code translation.document.max-in-flight-chunks} chunks are translated in parallel
+ * ahead of the output position; chunks are written back in order with their original
+ * surrounding whitespace, so memory stays bounded regardless of document size.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentTranslationService {
+
+    /**
+     * Starts the last line of a response whose translation failed after streaming had begun;
+     * the status is already 200 by then, so this line is how clients tell a failed document apart
+     */
+    public static final String ERROR_LINE_PREFIX = "TRANSLATION-ERROR: ";
+
+    private final TranslationProviderFactory providerFactory;
+    private final BatchExecutor batchExecutor;
+    private final TranslationProperties properties;
+    private final TranslationMetrics translationMetrics;
+    private final RequestLog requestLog;
+
+    /**
+     * Resolve and validate the provider before any output is written,
+     * so request errors can still be reported with a proper status
+     */
+    public TranslationProvider resolveProvider(String sourceLanguage, String targetLanguage, boolean useCache) {
+        TranslationProvider provider = providerFactory.getProvider(useCache, sourceLanguage, targetLanguage);
+        if (!provider.validateLanguagePair(sourceLanguage, targetLanguage)) {
+            throw new TranslationException(
+                "Invalid language pair: " + sourceLanguage + " -> " + targetLanguage,
+                HttpStatus.BAD_REQUEST
+            );
+        }
+        return provider;
+    }
+
+    /**
+     * Translate {@code input} to {@code output}. If a chunk fails, the output ends with a line
+     * starting with {@link #ERROR_LINE_PREFIX} instead of the rest of the document.
+     */
+    public void translateDocument(TranslationProvider provider, Reader input, Writer output,
+                                  String sourceLanguage, String targetLanguage) throws IOException {
+        TranslationProperties.DocumentConfig config = properties.getDocument();
+        int maxChunkChars = Math.min(config.getMaxChunkChars(), properties.getApi().getMaxTextLength());
+        DocumentSegmenter segmenter = new DocumentSegmenter(input, maxChunkChars);
+        Deque<PendingChunk> window = new ArrayDeque<>();
+        long startTime = translationMetrics.requestStarted();
+        int chunks = 0;
+        long characters = 0;
+        Exception error = null;
+
+        try {
+            DocumentSegmenter.Chunk chunk;
+            while ((chunk = segmenter.next()) != null) {
+                chunks++;
+                characters += chunk.text().length();
+                CompletableFuture<String> translation = chunk.isBlank()
+                    ? CompletableFuture.completedFuture("")
+                    : batchExecutor.submit(provider.getProviderName(), chunk.text(),
+                        text -> provider.translate(text, sourceLanguage, targetLanguage));
+                window.addLast(new PendingChunk(chunk, translation));
+
+                if (window.size() >= config.getMaxInFlightChunks()) {
+                    write(window.removeFirst(), output);
+                }
+            }
+            while (!window.isEmpty()) {
+                write(window.removeFirst(), output);
+            }
+            output.flush();
+        } catch (TranslationException e) {
+            error = e;
+            window.forEach(pending -> pending.translation().cancel(false));
+            output.write("\n" + ERROR_LINE_PREFIX + e.getMessage().replace('\n', ' ') + "\n");
+            output.flush();
+            return;
+        } catch (IOException | RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            translationMetrics.requestFinished("document", sourceLanguage, targetLanguage, chunks, characters, 0,
+                startTime, error);
+            requestLog.finished("document", sourceLanguage, targetLanguage, chunks, 0, startTime, error);
+        }
+    }
+
+    private static void write(PendingChunk pending, Writer output) throws IOException {
+        String translated;
+        try {
+            translated = pending.translation().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TranslationException("Document translation interrupted", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            TranslationException failure = BatchExecutor.toTranslationException(e.getCause());
+            log.error("Document chunk translation failed: {}", failure.getMessage());
+            throw failure;
+        }
+
+        output.write(pending.chunk().leadingWhitespace());
+        output.write(translated);
+        output.write(pending.chunk().trailingWhitespace());
+    }
+
+    private record PendingChunk(DocumentSegmenter.Chunk chunk, CompletableFuture<String> translation) {
+    }
+}
@@ -1,14 +1,39 @@
 package com.translation.service;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.translation.cache.RequestCoalescer;
+import com.translation.cache.TranslationCache;
+import com.translation.config.TranslationProperties;
 import com.translation.dto.*;
+import com.translation.exception.PartialBatchTranslationException;
+import com.translation.exception.TranslationException;
+import com.translation.health.ProviderHealthMonitor;
+import com.translation.inference.InferenceScheduler;
 import com.translation.integration.TranslationProvider;
 import com.translation.integration.TranslationProviderFactory;
+import com.translation.memory.TranslationMemory;
+import com.translation.metrics.TranslationMetrics;
+import com.translation.ratelimit.UpstreamRateLimiter;
+import com.translation.resilience.ProviderGuard;
+import com.translation.tracing.RequestLog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -16,11 +41,38 @@ import java.util.List;
 public class TranslationService {
     
     private final TranslationProviderFactory providerFactory;
+    private final TranslationProperties properties;
+    private final TranslationCache translationCache;
+    private final RequestCoalescer requestCoalescer;
+    private final TranslationMemory translationMemory;
+    private final ProviderGuard providerGuard;
+    private final UpstreamRateLimiter upstreamRateLimiter;
+    private final InferenceScheduler inferenceScheduler;
+    private final TranslationMetrics translationMetrics;
+    private final ProviderHealthMonitor providerHealthMonitor;
+    private final RequestLog requestLog;
+    private final ThreadPoolTaskExecutor translationRequestExecutor;
+    
+    /**
+     * Translate on the request executor instead of the calling thread
+     */
+    public CompletableFuture<TranslateResponse> translateAsync(TranslateRequest request) {
+        return CompletableFuture.supplyAsync(() -> translate(request), translationRequestExecutor);
+    }
+    
+    /**
+     * Batch translate on the request executor instead of the calling thread
+     */
+    public CompletableFuture<BatchTranslateResponse> batchTranslateAsync(BatchTranslateRequest request) {
+        return CompletableFuture.supplyAsync(() -> batchTranslate(request), translationRequestExecutor);
+    }
     
     public TranslateResponse translate(TranslateRequest request) {
+        long startTime = translationMetrics.requestStarted();
+        RuntimeException error = null;
         try {
-            long startTime = System.currentTimeMillis();
-            TranslationProvider provider = providerFactory.getProvider();
+            TranslationProvider provider = providerFactory.getProvider(!Boolean.TRUE.equals(request.getBypassCache()),
+                request.getSourceLanguage(), request.getTargetLanguage());
             
             String translatedText = provider.translate(
                 request.getText(),
@@ -28,10 +80,6 @@ public class TranslationService {
                 request.getTargetLanguage()
             );
             
-            long duration = System.currentTimeMillis() - startTime;
-            log.info("Translation completed in {}ms - {} -> {}",
-                duration, request.getSourceLanguage(), request.getTargetLanguage());
-            
             return TranslateResponse.builder()
                 .originalText(request.getText())
                 .translatedText(translatedText)
@@ -40,26 +88,44 @@ public class TranslationService {
                 .engine(provider.getProviderName())
                 .timestamp(LocalDateTime.now())
                 .build();
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
+            error = e;
             log.error("Translation error: {}", e.getMessage());
             throw e;
+        } finally {
+            translationMetrics.requestFinished("translate", request.getSourceLanguage(), request.getTargetLanguage(),
+                1, request.getText().length(), 0, startTime, error);
+            requestLog.finished("translate", request.getSourceLanguage(), request.getTargetLanguage(),
+                1, 0, startTime, error);
         }
     }
     
     public BatchTranslateResponse batchTranslate(BatchTranslateRequest request) {
+        long startTime = translationMetrics.requestStarted();
+        RuntimeException error = null;
+        int failed = 0;
         try {
-            long startTime = System.currentTimeMillis();
-            TranslationProvider provider = providerFactory.getProvider();
+            TranslationProvider provider = providerFactory.getProvider(!Boolean.TRUE.equals(request.getBypassCache()),
+                request.getSourceLanguage(), request.getTargetLanguage());
             
-            List<String> translatedTexts = provider.batchTranslate(
-                request.getTexts(),
-                request.getSourceLanguage(),
-                request.getTargetLanguage()
-            );
-            
-            long duration = System.currentTimeMillis() - startTime;
-            log.info("Batch translation completed in {}ms - {} texts translated",
-                duration, request.getTexts().size());
+            List<String> translatedTexts;
+            List<BatchItemFailure> failures = null;
+            try {
+                translatedTexts = provider.batchTranslate(
+                    request.getTexts(),
+                    request.getSourceLanguage(),
+                    request.getTargetLanguage()
+                );
+            } catch (PartialBatchTranslationException e) {
+                translatedTexts = e.getTranslations();
+                failures = e.getFailures().entrySet().stream()
+                    .map(failure -> BatchItemFailure.builder()
+                        .index(failure.getKey())
+                        .error(failure.getValue())
+                        .build())
+                    .collect(Collectors.toList());
+                failed = failures.size();
+            }
             
             return BatchTranslateResponse.builder()
                 .originalTexts(request.getTexts())
@@ -68,12 +134,117 @@ public class TranslationService {
                 .targetLanguage(request.getTargetLanguage())
                 .engine(provider.getProviderName())
                 .count(request.getTexts().size())
+                .failures(failures)
                 .timestamp(LocalDateTime.now())
                 .build();
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
+            error = e;
             log.error("Batch translation error: {}", e.getMessage());
             throw e;
+        } finally {
+            translationMetrics.requestFinished("batch", request.getSourceLanguage(), request.getTargetLanguage(),
+                request.getTexts().size(), characters(request.getTexts()), failed, startTime, error);
+            requestLog.finished("batch", request.getSourceLanguage(), request.getTargetLanguage(),
+                request.getTexts().size(), failed, startTime, error);
+        }
+    }
+    
+    /**
+     * Translate a batch in chunks of {@code translation.batch.stream-chunk-size} texts and hand
+     * each item to {@code sink} as soon as its chunk completes, tagged with its index.
+     * The returned future completes once every item has been emitted. If {@code sink} throws
+     * (the client went away), chunks that have not started yet are skipped and the future
+     * completes with that exception.
+     */
+    public CompletableFuture<Void> streamBatchTranslate(BatchTranslateRequest request, Consumer<BatchTranslateItem> sink) {
+        String sourceLanguage = request.getSourceLanguage();
+        String targetLanguage = request.getTargetLanguage();
+        List<String> texts = request.getTexts();
+        long startTime = translationMetrics.requestStarted();
+        TranslationProvider provider;
+        try {
+            provider = providerFactory.getProvider(!Boolean.TRUE.equals(request.getBypassCache()),
+                request.getSourceLanguage(), request.getTargetLanguage());
+            if (!provider.validateLanguagePair(sourceLanguage, targetLanguage)) {
+                throw new TranslationException(
+                    "Invalid language pair: " + sourceLanguage + " -> " + targetLanguage,
+                    HttpStatus.BAD_REQUEST
+                );
+            }
+        } catch (RuntimeException e) {
+            translationMetrics.requestFinished("stream", sourceLanguage, targetLanguage, texts.size(),
+                characters(texts), 0, startTime, e);
+            requestLog.finished("stream", sourceLanguage, targetLanguage, texts.size(), 0, startTime, e);
+            throw e;
+        }
+        
+        boolean includeOriginal = Boolean.TRUE.equals(request.getIncludeOriginal());
+        int chunkSize = properties.getBatch().getStreamChunkSize();
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicBoolean abandoned = new AtomicBoolean();
+        
+        for (int start = 0; start < texts.size(); start += chunkSize) {
+            int offset = start;
+            List<String> chunk = texts.subList(start, Math.min(start + chunkSize, texts.size()));
+            chunks.add(CompletableFuture.runAsync(() -> {
+                if (abandoned.get()) {
+                    return;
+                }
+                List<String> translated;
+                Map<Integer, String> failures = Map.of();
+                try {
+                    translated = provider.batchTranslate(chunk, sourceLanguage, targetLanguage);
+                } catch (PartialBatchTranslationException e) {
+                    translated = e.getTranslations();
+                    failures = e.getFailures();
+                } catch (TranslationException e) {
+                    translated = Collections.nCopies(chunk.size(), null);
+                    failures = failAll(chunk.size(), e.getMessage());
+                }
+                failed.addAndGet(failures.size());
+                
+                for (int i = 0; i < chunk.size() && !abandoned.get(); i++) {
+                    try {
+                        sink.accept(BatchTranslateItem.builder()
+                            .index(offset + i)
+                            .originalText(includeOriginal ? chunk.get(i) : null)
+                            .translatedText(translated.get(i))
+                            .error(failures.get(i))
+                            .build());
+                    } catch (RuntimeException e) {
+                        abandoned.set(true);
+                        throw e;
+                    }
+                }
+            }, translationRequestExecutor));
         }
+        
+        log.debug("Streaming batch translation: {} texts in {} chunks", texts.size(), chunks.size());
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0]))
+            .whenComplete((done, error) -> {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                translationMetrics.requestFinished("stream", sourceLanguage, targetLanguage, texts.size(),
+                    characters(texts), failed.get(), startTime, cause);
+                requestLog.finished("stream", sourceLanguage, targetLanguage, texts.size(), failed.get(),
+                    startTime, cause);
+            });
+    }
+    
+    private static long characters(List<String> texts) {
+        long characters = 0;
+        for (String text : texts) {
+            characters += text == null ? 0 : text.length();
+        }
+        return characters;
+    }
+    
+    private static Map<Integer, String> failAll(int count, String message) {
+        Map<Integer, String> failures = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            failures.put(i, message);
+        }
+        return failures;
     }
     
     public SupportedLanguagesResponse getSupportedLanguages() {
@@ -92,27 +263,48 @@ public class TranslationService {
         }
     }
     
+    public CacheStatsResponse getCacheStats() {
+        CacheStats stats = translationCache.stats();
+        return CacheStatsResponse.builder()
+            .enabled(translationCache.isEnabled())
+            .size(translationCache.size())
+            .hitCount(stats.hitCount())
+            .missCount(stats.missCount())
+            .hitRate(stats.hitRate())
+            .evictionCount(stats.evictionCount())
+            .evictionWeight(stats.evictionWeight())
+            .upstreamCalls(requestCoalescer.getUpstreamCalls())
+            .coalescedRequests(requestCoalescer.getCoalescedRequests())
+            .memoryEntries(translationMemory.size())
+            .memoryExactHits(translationMemory.getExactHits())
+            .memoryFuzzyHits(translationMemory.getFuzzyHits())
+            .memoryMisses(translationMemory.getMisses())
+            .rateLimits(upstreamRateLimiter.describe())
+            .localInference(inferenceScheduler.describe())
+            .build();
+    }
+    
+    /**
+     * Provider health as last evaluated by the health monitor; never calls a provider
+     */
     public HealthCheckResponse healthCheck() {
-        try {
-            long startTime = System.currentTimeMillis();
-            TranslationProvider provider = providerFactory.getProvider();
-            boolean healthy = provider.healthCheck();
-            double responseTime = System.currentTimeMillis() - startTime;
-            
-            return HealthCheckResponse.builder()
-                .healthy(healthy)
-                .engine(provider.getProviderName())
-                .timestamp(LocalDateTime.now())
-                .responseTimeMs(responseTime)
-                .build();
-        } catch (Exception e) {
-            log.error("Health check error: {}", e.getMessage());
-            return HealthCheckResponse.builder()
-                .healthy(false)
-                .engine("unknown")
-                .timestamp(LocalDateTime.now())
-                .responseTimeMs(0.0)
-                .build();
-        }
+        long startTime = System.nanoTime();
+        Map<String, ProviderHealthResponse> providers = providerHealthMonitor.snapshot();
+        return HealthCheckResponse.builder()
+            .healthy(providerHealthMonitor.isReady())
+            .engine(providerFactory.getProvider().getProviderName())
+            .timestamp(LocalDateTime.now())
+            .responseTimeMs((System.nanoTime() - startTime) / 1_000_000.0)
+            .circuitBreakers(providerGuard.states())
+            .providers(providers)
+            .build();
+    }
+    
+    public boolean isLive() {
+        return providerHealthMonitor.isLive();
+    }
+    
+    public boolean isReady() {
+        return providerHealthMonitor.isReady();
     }
 }
@@ -0,0 +1,45 @@
+package com.translation.tracing;
+
+import com.translation.config.TranslationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One structured line per finished translation request, written only for sampled traces,
+ * failed requests and requests slower than {@code translation.tracing.slow-request-ms}.
+ * Every other request returns before anything is formatted.
+ */
+@Slf4j
+@Component
+public class RequestLog {
+
+    private final long slowRequestNanos;
+
+    public RequestLog(TranslationProperties properties) {
+        this.slowRequestNanos = TimeUnit.MILLISECONDS.toNanos(properties.getTracing().getSlowRequestMs());
+    }
+
+    /**
+     * @param startNanos {@link System#nanoTime()} when the request started
+     * @param error the failure that ended the request, or null
+     */
+    public void finished(String operation, String sourceLanguage, String targetLanguage, int segments,
+                         int failed, long startNanos, Throwable error) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        boolean slow = elapsedNanos >= slowRequestNanos;
+        if (error == null && !slow && !TraceContext.isSampled()) {
+            return;
+        }
+        String status = error != null ? "ERROR" : failed > 0 ? "PARTIAL" : "OK";
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (slow) {
+            log.warn("request operation={} source={} target={} segments={} failed={} durationMs={} status={} slow=true",
+                operation, sourceLanguage, targetLanguage, segments, failed, durationMs, status);
+        } else if (log.isInfoEnabled()) {
+            log.info("request operation={} source={} target={} segments={} failed={} durationMs={} status={}",
+                operation, sourceLanguage, targetLanguage, segments, failed, durationMs, status);
+        }
+    }
+}
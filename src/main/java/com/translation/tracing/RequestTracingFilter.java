@@ -0,0 +1,59 @@
+package com.translation.tracing;
+
+import com.translation.config.TranslationProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Starts a trace for every HTTP request (continuing the caller's {@code traceparent}, if any),
+ * returns its ID in {@code X-Trace-Id}, and restores it when an async request is dispatched back
+ * to the container to write its response
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestTracingFilter extends OncePerRequestFilter {
+
+    public static final String TRACEPARENT_HEADER = "traceparent";
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private static final String CONTEXT_ATTRIBUTE = RequestTracingFilter.class.getName() + ".context";
+
+    private final double sampleRate;
+
+    public RequestTracingFilter(TranslationProperties properties) {
+        this.sampleRate = properties.getTracing().getSampleRate();
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Map<String, String> context = (Map<String, String>) request.getAttribute(CONTEXT_ATTRIBUTE);
+        if (context != null) {
+            TraceContext.restore(context);
+        } else {
+            TraceContext.start(request.getHeader(TRACEPARENT_HEADER), sampleRate);
+            request.setAttribute(CONTEXT_ATTRIBUTE, TraceContext.capture());
+            response.setHeader(TRACE_ID_HEADER, TraceContext.traceId());
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            TraceContext.clear();
+        }
+    }
+}
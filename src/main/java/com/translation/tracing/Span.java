@@ -0,0 +1,85 @@
+package com.translation.tracing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A timed operation within a sampled trace, in the OpenTelemetry sense: it has its own span ID,
+ * its parent is the span current when it started, and it is logged as one structured line when it ends.
+ * Outside a sampled trace {@link #start} returns a shared no-op span, so unsampled requests pay
+ * no allocation or formatting.
+ * <pre>
+ * Span span = Span.start("provider.batch").tag("engine", engine).tag("segments", texts.size());
+ * try {
+ *     ...
+ *     span.end(null);
+ * } catch (RuntimeException e) {
+ *     span.end(e);
+ *     throw e;
+ * }
+ * </pre>
+ */
+@Slf4j
+public final class Span {
+
+    private static final Span NOOP = new Span(null, null, null, 0);
+
+    private final String name;
+    private final String spanId;
+    private final String parentId;
+    private final long startNanos;
+    private final StringBuilder attributes;
+
+    private Span(String name, String spanId, String parentId, long startNanos) {
+        this.name = name;
+        this.spanId = spanId;
+        this.parentId = parentId;
+        this.startNanos = startNanos;
+        this.attributes = name == null ? null : new StringBuilder();
+    }
+
+    /**
+     * Start a child of the current span and make it current on this thread until {@link #end}
+     */
+    public static Span start(String name) {
+        if (!TraceContext.isSampled() || !log.isInfoEnabled()) {
+            return NOOP;
+        }
+        String parentId = MDC.get(TraceContext.SPAN_ID);
+        String spanId = TraceContext.randomHex(16);
+        MDC.put(TraceContext.SPAN_ID, spanId);
+        return new Span(name, spanId, parentId, System.nanoTime());
+    }
+
+    public Span tag(String key, String value) {
+        if (attributes != null) {
+            attributes.append(' ').append(key).append('=').append(value);
+        }
+        return this;
+    }
+
+    public Span tag(String key, long value) {
+        if (attributes != null) {
+            attributes.append(' ').append(key).append('=').append(value);
+        }
+        return this;
+    }
+
+    /**
+     * End the span, restoring its parent as the current span
+     *
+     * @param error the failure that ended it, or null on success
+     */
+    public void end(Throwable error) {
+        if (this == NOOP) {
+            return;
+        }
+        MDC.put(TraceContext.SPAN_ID, parentId);
+        double durationMs = (System.nanoTime() - startNanos) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        log.info("span name={} spanId={} parentId={} durationMs={} status={}{}",
+            name, spanId, parentId, String.format("%.1f", durationMs),
+            error == null ? "OK" : "ERROR error=" + error.getClass().getSimpleName(), attributes);
+    }
+}
@@ -0,0 +1,152 @@
+package com.translation.tracing;
+
+import org.slf4j.MDC;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * W3C trace context of the current request, held in the SLF4J MDC so every log line carries
+ * its trace ID, and helpers that carry it onto the threads a request fans out to
+ */
+public final class TraceContext {
+
+    public static final String TRACE_ID = "traceId";
+    public static final String SPAN_ID = "spanId";
+    public static final String SAMPLED = "sampled";
+
+    private static final String INVALID_TRACE_ID = "00000000000000000000000000000000";
+    private static final String INVALID_SPAN_ID = "0000000000000000";
+
+    private TraceContext() {
+    }
+
+    /**
+     * Start the trace of an incoming request: continue the one in a valid {@code traceparent} header,
+     * keeping its sampled flag, or start a new one sampled with probability {@code sampleRate}.
+     * The request gets its own span ID; upstream spans are its children.
+     */
+    public static void start(String traceparent, double sampleRate) {
+        String traceId;
+        boolean sampled;
+        if (isValid(traceparent)) {
+            traceId = traceparent.substring(3, 35);
+            sampled = (Character.digit(traceparent.charAt(54), 16) & 1) == 1;
+        } else {
+            traceId = randomHex(32);
+            sampled = sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+        }
+        MDC.put(TRACE_ID, traceId);
+        MDC.put(SPAN_ID, randomHex(16));
+        MDC.put(SAMPLED, sampled ? "1" : "0");
+    }
+
+    public static void clear() {
+        MDC.remove(TRACE_ID);
+        MDC.remove(SPAN_ID);
+        MDC.remove(SAMPLED);
+    }
+
+    /**
+     * Trace ID of the current thread's trace, or null outside a trace
+     */
+    public static String traceId() {
+        return MDC.get(TRACE_ID);
+    }
+
+    public static boolean isSampled() {
+        return "1".equals(MDC.get(SAMPLED));
+    }
+
+    /**
+     * The current thread's trace context, or null outside a trace
+     */
+    public static Map<String, String> capture() {
+        String traceId = MDC.get(TRACE_ID);
+        if (traceId == null) {
+            return null;
+        }
+        return Map.of(TRACE_ID, traceId, SPAN_ID, MDC.get(SPAN_ID), SAMPLED, MDC.get(SAMPLED));
+    }
+
+    /**
+     * Make {@code context} (from {@link #capture()}) the current thread's trace context; null clears it
+     */
+    public static void restore(Map<String, String> context) {
+        if (context == null) {
+            clear();
+        } else {
+            context.forEach(MDC::put);
+        }
+    }
+
+    /**
+     * Run {@code task} in the calling thread's trace context, wherever it runs.
+     * Returns the task itself outside a trace.
+     */
+    public static Runnable wrap(Runnable task) {
+        return wrap(capture(), task);
+    }
+
+    public static Runnable wrap(Map<String, String> context, Runnable task) {
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            Map<String, String> previous = capture();
+            restore(context);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        Map<String, String> context = capture();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            Map<String, String> previous = capture();
+            restore(context);
+            try {
+                return task.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    static String randomHex(int length) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder hex = new StringBuilder(length);
+        for (int i = 0; i < length; i += 16) {
+            String chunk = Long.toHexString(random.nextLong());
+            hex.append("0".repeat(16 - chunk.length())).append(chunk);
+        }
+        hex.setLength(length);
+        return hex.toString();
+    }
+
+    /**
+     * {@code version-traceid-parentid-flags}, e.g. {@code 00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01}
+     */
+    private static boolean isValid(String traceparent) {
+        if (traceparent == null || traceparent.length() < 55 || traceparent.startsWith("ff")
+                || traceparent.charAt(2) != '-' || traceparent.charAt(35) != '-' || traceparent.charAt(52) != '-'
+                || (traceparent.length() > 55 && traceparent.charAt(55) != '-')) {
+            return false;
+        }
+        for (int i = 0; i < 55; i++) {
+            if (i != 2 && i != 35 && i != 52 && Character.digit(traceparent.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        String traceId = traceparent.substring(3, 35);
+        return !traceId.equals(INVALID_TRACE_ID) && !traceparent.substring(36, 52).equals(INVALID_SPAN_ID)
+            && traceId.equals(traceId.toLowerCase());
+    }
+}
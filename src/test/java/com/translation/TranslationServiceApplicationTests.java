@@ -7,6 +7,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -46,9 +47,13 @@ class TranslationServiceApplicationTests {
             .targetLanguage("en")  // Same language
             .build();
         
-        mockMvc.perform(post("/api/translate/")
+        MvcResult result = mockMvc.perform(post("/api/translate/")
             .contentType(MediaType.APPLICATION_JSON)
             .content(objectMapper.writeValueAsString(request)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        
+        mockMvc.perform(asyncDispatch(result))
             .andExpect(status().isBadRequest());
     }
     
@@ -0,0 +1,119 @@
+package com.translation.cache;
+
+import com.translation.exception.TranslationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescerTest {
+    
+    private static final TranslationKey KEY = TranslationKey.of("test", "en", "es", "Hello");
+    
+    private final RequestCoalescer coalescer = new RequestCoalescer();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    @Test
+    void testConcurrentRequestsShareOneUpstreamCall() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        
+        List<CompletableFuture<String>> results = runConcurrently(4, started, () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "Hola";
+        });
+        waitForCoalesced(3);
+        release.countDown();
+        
+        for (CompletableFuture<String> result : results) {
+            assertEquals("Hola", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, coalescer.getUpstreamCalls());
+        assertEquals(3, coalescer.getCoalescedRequests());
+        assertEquals(0, coalescer.getInFlight());
+    }
+    
+    @Test
+    void testFailureIsSharedAndNotRemembered() {
+        TranslationException failure = new TranslationException("down", HttpStatus.SERVICE_UNAVAILABLE);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        
+        List<CompletableFuture<String>> results = runConcurrently(3, started, () -> {
+            started.countDown();
+            await(release);
+            throw failure;
+        });
+        waitForCoalesced(2);
+        release.countDown();
+        
+        for (CompletableFuture<String> result : results) {
+            CompletionException e = assertThrows(CompletionException.class, result::join);
+            assertSame(failure, e.getCause());
+        }
+        // The failed call is not cached: the next request goes upstream again
+        assertEquals("Hola", coalescer.execute(KEY, () -> "Hola"));
+        assertEquals(2, coalescer.getUpstreamCalls());
+    }
+    
+    /**
+     * Start a leader, then {@code count - 1} followers once the leader's upstream call has begun
+     */
+    private List<CompletableFuture<String>> runConcurrently(int count, CountDownLatch started,
+                                                            Supplier<String> upstreamCall) {
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        results.add(CompletableFuture.supplyAsync(() -> coalescer.execute(KEY, upstreamCall), executor));
+        await(started);
+        for (int i = 1; i < count; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> coalescer.execute(KEY, () -> {
+                throw new AssertionError("Follower went upstream");
+            }), executor));
+        }
+        return results;
+    }
+    
+    private void waitForCoalesced(long expected) {
+        for (int i = 0; i < 500 && coalescer.getCoalescedRequests() < expected; i++) {
+            sleep(10);
+        }
+        assertEquals(expected, coalescer.getCoalescedRequests());
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
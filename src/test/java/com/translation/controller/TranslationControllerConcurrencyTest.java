@@ -0,0 +1,145 @@
+package com.translation.controller;
+
+import com.translation.integration.GoogleTranslationProvider;
+import com.translation.integration.OpenAITranslationProvider;
+import com.translation.integration.TranslationProvider;
+import com.translation.integration.TranslationProviderFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Capacity check for the asynchronous endpoints: with only {@value #TOMCAT_THREADS} servlet
+ * threads and a slow upstream, blocking handlers could complete at most
+ * TOMCAT_THREADS requests per upstream latency. Asynchronous handlers must beat that
+ * bound and keep cheap endpoints responsive while upstream calls are in flight.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "server.tomcat.threads.max=" + TranslationControllerConcurrencyTest.TOMCAT_THREADS,
+        "translation.request-executor.pool-size=128"
+    }
+)
+class TranslationControllerConcurrencyTest {
+    
+    static final int TOMCAT_THREADS = 8;
+    private static final int CONCURRENT_REQUESTS = 64;
+    private static final long UPSTREAM_LATENCY_MS = 300;
+    
+    @LocalServerPort
+    private int port;
+    
+    @MockBean
+    private GoogleTranslationProvider googleProvider;
+    
+    @MockBean
+    private OpenAITranslationProvider openaiProvider;
+    
+    @MockBean
+    private TranslationProviderFactory providerFactory;
+    
+    @BeforeEach
+    void setUp() {
+        when(providerFactory.getProvider(anyBoolean(), anyString(), anyString())).thenReturn(new SlowProvider());
+    }
+    
+    @Test
+    void testSlowUpstreamDoesNotLimitRequestConcurrency() throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        
+        long start = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            String body = "{\"text\":\"Hello " + i + "\",\"sourceLanguage\":\"en\",\"targetLanguage\":\"es\"}";
+            responses.add(client.sendAsync(
+                HttpRequest.newBuilder(uri("/api/translate/"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(),
+                HttpResponse.BodyHandlers.ofString()));
+        }
+        
+        // A cheap endpoint must answer while every translation is still waiting on the upstream
+        Thread.sleep(UPSTREAM_LATENCY_MS / 3);
+        long infoStart = System.nanoTime();
+        HttpResponse<String> info = client.send(
+            HttpRequest.newBuilder(uri("/api/translate/info")).GET().build(),
+            HttpResponse.BodyHandlers.ofString());
+        long infoMs = (System.nanoTime() - infoStart) / 1_000_000;
+        
+        List<Integer> statuses = responses.stream()
+            .map(CompletableFuture::join)
+            .map(HttpResponse::statusCode)
+            .collect(Collectors.toList());
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        long blockingBoundMs = (long) Math.ceil((double) CONCURRENT_REQUESTS / TOMCAT_THREADS) * UPSTREAM_LATENCY_MS;
+        
+        assertTrue(statuses.stream().allMatch(status -> status == 200), "statuses: " + statuses);
+        assertEquals(200, info.statusCode());
+        assertTrue(elapsedMs < blockingBoundMs / 2,
+            "expected < " + blockingBoundMs / 2 + "ms, took " + elapsedMs + "ms");
+        assertTrue(infoMs < UPSTREAM_LATENCY_MS, "/info took " + infoMs + "ms under load");
+    }
+    
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+    
+    private static class SlowProvider implements TranslationProvider {
+        
+        @Override
+        public String translate(String text, String sourceLanguage, String targetLanguage) {
+            try {
+                Thread.sleep(UPSTREAM_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "[" + targetLanguage + "] " + text;
+        }
+        
+        @Override
+        public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
+            return texts.stream()
+                .map(text -> translate(text, sourceLanguage, targetLanguage))
+                .collect(Collectors.toList());
+        }
+        
+        @Override
+        public Map<String, String> getSupportedLanguages() {
+            return Map.of("en", "English", "es", "Spanish");
+        }
+        
+        @Override
+        public boolean validateLanguagePair(String sourceLanguage, String targetLanguage) {
+            return !sourceLanguage.equals(targetLanguage);
+        }
+        
+        @Override
+        public boolean healthCheck() {
+            return true;
+        }
+        
+        @Override
+        public String getProviderName() {
+            return "SlowProvider";
+        }
+    }
+}
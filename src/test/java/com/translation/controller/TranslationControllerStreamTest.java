@@ -0,0 +1,192 @@
+package com.translation.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translation.dto.BatchTranslateItem;
+import com.translation.dto.BatchTranslateRequest;
+import com.translation.exception.TranslationException;
+import com.translation.integration.GoogleTranslationProvider;
+import com.translation.integration.OpenAITranslationProvider;
+import com.translation.integration.TranslationProvider;
+import com.translation.integration.TranslationProviderFactory;
+import com.translation.service.TranslationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * NDJSON streaming of batch translations. One request thread, so chunks run one after another.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "translation.request-executor.pool-size=1",
+        "translation.batch.stream-chunk-size=2"
+    }
+)
+class TranslationControllerStreamTest {
+    
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    
+    @LocalServerPort
+    private int port;
+    
+    @Autowired
+    private TranslationService translationService;
+    
+    @MockBean
+    private GoogleTranslationProvider googleProvider;
+    
+    @MockBean
+    private OpenAITranslationProvider openaiProvider;
+    
+    @MockBean
+    private TranslationProviderFactory providerFactory;
+    
+    private final CountingProvider provider = new CountingProvider();
+    
+    @BeforeEach
+    void setUp() {
+        when(providerFactory.getProvider(anyBoolean(), anyString(), anyString())).thenReturn(provider);
+    }
+    
+    @Test
+    void testEveryItemIsStreamedAsOneLine() throws Exception {
+        String body = "{\"texts\":[\"a\",\"b\",\"c\",\"d\",\"e\"],\"sourceLanguage\":\"en\","
+            + "\"targetLanguage\":\"es\",\"includeOriginal\":true}";
+        HttpResponse<String> response = post(body);
+        
+        assertEquals(200, response.statusCode());
+        assertEquals("application/x-ndjson", response.headers().firstValue("Content-Type").orElse("").split(";")[0]);
+        List<BatchTranslateItem> items = parse(response.body());
+        assertEquals(5, items.size());
+        for (BatchTranslateItem item : items) {
+            assertEquals("abcde".substring(item.getIndex(), item.getIndex() + 1), item.getOriginalText());
+            assertEquals("[es] " + item.getOriginalText(), item.getTranslatedText());
+            assertNull(item.getError());
+        }
+        assertEquals(3, provider.calls.get());
+    }
+    
+    @Test
+    void testFailedChunkIsStreamedAsErrors() throws Exception {
+        HttpResponse<String> response = post(
+            "{\"texts\":[\"a\",\"b\",\"fail\",\"d\"],\"sourceLanguage\":\"en\",\"targetLanguage\":\"es\"}");
+        
+        assertEquals(200, response.statusCode());
+        List<BatchTranslateItem> items = parse(response.body());
+        items.sort((x, y) -> x.getIndex() - y.getIndex());
+        assertEquals(4, items.size());
+        assertEquals("[es] a", items.get(0).getTranslatedText());
+        assertEquals("[es] b", items.get(1).getTranslatedText());
+        for (BatchTranslateItem item : items.subList(2, 4)) {
+            assertNull(item.getTranslatedText());
+            assertEquals("upstream down", item.getError());
+        }
+    }
+    
+    @Test
+    void testRemainingChunksAreSkippedOnceTheClientIsGone() {
+        BatchTranslateRequest request = BatchTranslateRequest.builder()
+            .texts(List.of("a", "b", "c", "d", "e", "f"))
+            .sourceLanguage("en")
+            .targetLanguage("es")
+            .build();
+        AtomicInteger emitted = new AtomicInteger();
+        
+        CompletableFuture<Void> stream = translationService.streamBatchTranslate(request, item -> {
+            emitted.incrementAndGet();
+            throw new UncheckedIOException(new IOException("Broken pipe"));
+        });
+        
+        CompletionException e = assertThrows(CompletionException.class, stream::join);
+        assertInstanceOf(UncheckedIOException.class, e.getCause());
+        assertEquals(1, emitted.get());
+        assertEquals(1, provider.calls.get());
+    }
+    
+    private HttpResponse<String> post(String body) throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        return client.send(
+            HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/translate/batch/stream"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+    }
+    
+    private static List<BatchTranslateItem> parse(String ndjson) throws IOException {
+        List<BatchTranslateItem> items = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            if (!line.isBlank()) {
+                items.add(MAPPER.readValue(line, BatchTranslateItem.class));
+            }
+        }
+        return items;
+    }
+    
+    /**
+     * Translates to "[target] text"; fails any chunk containing "fail"
+     */
+    private static class CountingProvider implements TranslationProvider {
+        
+        private final AtomicInteger calls = new AtomicInteger();
+        
+        @Override
+        public String translate(String text, String sourceLanguage, String targetLanguage) {
+            return "[" + targetLanguage + "] " + text;
+        }
+        
+        @Override
+        public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
+            calls.incrementAndGet();
+            if (texts.contains("fail")) {
+                throw new TranslationException("upstream down", HttpStatus.SERVICE_UNAVAILABLE);
+            }
+            return texts.stream()
+                .map(text -> translate(text, sourceLanguage, targetLanguage))
+                .toList();
+        }
+        
+        @Override
+        public Map<String, String> getSupportedLanguages() {
+            return Map.of("en", "English", "es", "Spanish");
+        }
+        
+        @Override
+        public boolean validateLanguagePair(String sourceLanguage, String targetLanguage) {
+            return !sourceLanguage.equals(targetLanguage);
+        }
+        
+        @Override
+        public boolean healthCheck() {
+            return true;
+        }
+        
+        @Override
+        public String getProviderName() {
+            return "CountingProvider";
+        }
+    }
+}
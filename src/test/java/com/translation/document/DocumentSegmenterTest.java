@@ -0,0 +1,99 @@
+package com.translation.document;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentSegmenterTest {
+    
+    @Test
+    void testReassemblyPreservesDocumentExactly() throws IOException {
+        StringBuilder document = new StringBuilder("  <h1>Title</h1>\n\n");
+        for (int paragraph = 0; paragraph < 20; paragraph++) {
+            for (int sentence = 0; sentence < 6; sentence++) {
+                document.append("Sentence ").append(sentence).append(" of <a href=\"#p\">paragraph</a> ")
+                    .append(paragraph).append(". ");
+            }
+            document.append("\n\n\t\n");
+        }
+        
+        List<DocumentSegmenter.Chunk> chunks = segment(document.toString(), 200);
+        
+        StringBuilder reassembled = new StringBuilder();
+        for (DocumentSegmenter.Chunk chunk : chunks) {
+            assertTrue(chunk.text().length() <= 200);
+            assertEquals(chunk.text(), chunk.text().strip());
+            reassembled.append(chunk.leadingWhitespace()).append(chunk.text()).append(chunk.trailingWhitespace());
+        }
+        assertEquals(document.toString(), reassembled.toString());
+    }
+    
+    @Test
+    void testPrefersSentenceBoundariesAndNeverSplitsTags() throws IOException {
+        String text = "First sentence is here. Second one <span class=\"a b c d e\">has a tag</span> inside it.";
+        
+        for (DocumentSegmenter.Chunk chunk : segment(text, 40)) {
+            int open = chunk.text().lastIndexOf('<');
+            assertTrue(open < 0 || chunk.text().indexOf('>', open) > 0, "split inside tag: " + chunk.text());
+        }
+        assertEquals("First sentence is here.", segment(text, 40).get(0).text());
+    }
+    
+    @Test
+    void testShortDocumentIsSingleChunk() throws IOException {
+        List<DocumentSegmenter.Chunk> chunks = segment("\n Hello world \n", 100);
+        
+        assertEquals(1, chunks.size());
+        assertEquals("\n ", chunks.get(0).leadingWhitespace());
+        assertEquals("Hello world", chunks.get(0).text());
+        assertEquals(" \n", chunks.get(0).trailingWhitespace());
+    }
+    
+    @Test
+    void testComparisonIsNotMistakenForTag() throws IOException {
+        String text = "Keep x < y and y > z apart from each other";
+        
+        List<DocumentSegmenter.Chunk> chunks = segment(text, 12);
+        
+        assertEquals("Keep x < y", chunks.get(0).text());
+        assertEquals(text, reassemble(chunks));
+    }
+    
+    @Test
+    void testTinyChunkSizeCutsEveryDocument() throws IOException {
+        for (int maxChunkChars = 2; maxChunkChars < 6; maxChunkChars++) {
+            for (String text : List.of("a. b. c.", "   abc", "x\n\ny", ". . .", "<b>bold</b>")) {
+                List<DocumentSegmenter.Chunk> chunks = segment(text, maxChunkChars);
+                
+                assertEquals(text, reassemble(chunks));
+                for (DocumentSegmenter.Chunk chunk : chunks) {
+                    assertFalse(chunk.leadingWhitespace().isEmpty() && chunk.isBlank()
+                        && chunk.trailingWhitespace().isEmpty(), "empty chunk for " + text);
+                }
+            }
+        }
+    }
+    
+    private static String reassemble(List<DocumentSegmenter.Chunk> chunks) {
+        StringBuilder reassembled = new StringBuilder();
+        for (DocumentSegmenter.Chunk chunk : chunks) {
+            reassembled.append(chunk.leadingWhitespace()).append(chunk.text()).append(chunk.trailingWhitespace());
+        }
+        return reassembled.toString();
+    }
+    
+    private static List<DocumentSegmenter.Chunk> segment(String text, int maxChunkChars) throws IOException {
+        DocumentSegmenter segmenter = new DocumentSegmenter(new StringReader(text), maxChunkChars);
+        List<DocumentSegmenter.Chunk> chunks = new ArrayList<>();
+        DocumentSegmenter.Chunk chunk;
+        while ((chunk = segmenter.next()) != null) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,78 @@
+package com.translation.health;
+
+import com.translation.config.TranslationProperties;
+import com.translation.exception.TranslationException;
+import com.translation.integration.GoogleTranslationProvider;
+import com.translation.integration.LocalTranslationProvider;
+import com.translation.integration.OpenAITranslationProvider;
+import com.translation.resilience.ProviderGuard;
+import com.translation.routing.ProviderRouter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProviderHealthMonitorTest {
+
+    private GoogleTranslationProvider googleProvider;
+    private ProviderHealthMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        TranslationProperties properties = new TranslationProperties();
+        properties.setEngine("google");
+        properties.getHealth().setMinimumCalls(4);
+        googleProvider = mock(GoogleTranslationProvider.class);
+        monitor = new ProviderHealthMonitor(googleProvider, mock(OpenAITranslationProvider.class),
+            mock(LocalTranslationProvider.class), properties, new ProviderRouter(properties),
+            new ProviderGuard(properties));
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.shutdown();
+    }
+
+    @Test
+    void testLiveTrafficDecidesWithoutProbing() {
+        for (int i = 0; i < 3; i++) {
+            monitor.record("google", null);
+        }
+        monitor.record("google", new TranslationException("Upstream unavailable", HttpStatus.SERVICE_UNAVAILABLE));
+        monitor.refresh();
+
+        assertEquals(ProviderHealthMonitor.UP, monitor.snapshot().get("google").getStatus());
+        assertEquals("traffic", monitor.snapshot().get("google").getSource());
+        assertTrue(monitor.isReady());
+        verify(googleProvider, never()).healthCheck();
+
+        for (int i = 0; i < 4; i++) {
+            monitor.record("google", new RuntimeException("connection reset"));
+        }
+        monitor.refresh();
+
+        assertEquals(ProviderHealthMonitor.DOWN, monitor.snapshot().get("google").getStatus());
+        assertFalse(monitor.isReady());
+    }
+
+    @Test
+    void testProbesWhenTrafficIsTooThin() {
+        when(googleProvider.healthCheck()).thenReturn(false);
+        for (int i = 0; i < 10; i++) {
+            monitor.record("google", new TranslationException("Invalid language pair", HttpStatus.BAD_REQUEST));
+            monitor.record("google", new TranslationException("Rate limited", HttpStatus.TOO_MANY_REQUESTS));
+        }
+        monitor.refresh();
+        monitor.refresh();
+
+        assertEquals(ProviderHealthMonitor.DOWN, monitor.snapshot().get("google").getStatus());
+        assertEquals("probe", monitor.snapshot().get("google").getSource());
+        assertEquals(0L, monitor.snapshot().get("google").getLiveCalls());
+        // The second refresh reuses the first probe until probe-interval-ms has passed
+        verify(googleProvider, times(1)).healthCheck();
+        assertTrue(monitor.isLive());
+    }
+}
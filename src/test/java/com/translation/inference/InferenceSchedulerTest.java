@@ -0,0 +1,84 @@
+package com.translation.inference;
+
+import com.translation.config.TranslationProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InferenceSchedulerTest {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private InferenceScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        TranslationProperties properties = new TranslationProperties();
+        properties.getLocal().setModelPath("./no-such-model");
+        properties.getLocal().setBatchSize(4);
+        properties.getLocal().setWorkers(1);
+        properties.getLocal().setMaxBatchDelayMs(200L);
+        LocalInferenceEngine engine = new LocalInferenceEngine(properties) {
+            @Override
+            public boolean isAvailable() {
+                return true;
+            }
+
+            @Override
+            public List<String> translate(List<String> texts, String sourceLanguage, String targetLanguage) {
+                batches.add(texts);
+                return texts.stream().map(text -> targetLanguage + ":" + text).collect(Collectors.toList());
+            }
+        };
+        scheduler = new InferenceScheduler(engine, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void testFullBatchRunsWithoutWaitingForDeadline() throws Exception {
+        long start = System.nanoTime();
+        List<CompletableFuture<String>> futures = IntStream.range(0, 4)
+            .mapToObj(i -> scheduler.submit("text " + i, "en", "es"))
+            .collect(Collectors.toList());
+
+        assertEquals("es:text 3", futures.get(3).get(1, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(150));
+        assertEquals(1, batches.size());
+        assertEquals(1.0, scheduler.getAverageFillRatio());
+    }
+
+    @Test
+    void testPartialBatchRunsAtDeadline() throws Exception {
+        assertEquals("es:hello", scheduler.submit("hello", "en", "es").get(1, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of("hello")), batches);
+        assertEquals(0, scheduler.getQueueDepth());
+    }
+
+    @Test
+    void testLanguagePairsAndLengthsAreBatchedSeparately() throws Exception {
+        String longText = "x".repeat(200);
+        List<CompletableFuture<String>> futures = List.of(
+            scheduler.submit("short", "en", "es"),
+            scheduler.submit(longText, "en", "es"),
+            scheduler.submit("short", "en", "fr"),
+            scheduler.submit("also short", "en", "es"));
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(1, TimeUnit.SECONDS);
+
+        assertEquals(3, batches.size());
+        assertTrue(batches.contains(List.of("short", "also short")));
+        assertTrue(batches.contains(List.of(longText)));
+        assertEquals("fr:short", futures.get(2).get());
+    }
+}
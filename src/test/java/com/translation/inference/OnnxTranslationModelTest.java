@@ -0,0 +1,104 @@
+package com.translation.inference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Model file selection and mapping; loading real sessions needs an exported model and is
+ * covered by LocalModelLoadBenchmark
+ */
+class OnnxTranslationModelTest {
+
+    @Test
+    void testArgmaxReadsLastPositionOfEachRow() {
+        // [batch 2, positions 2, vocabulary 3]; the first position of each row must be ignored
+        FloatBuffer logits = FloatBuffer.wrap(new float[] {
+            9, 0, 0,   0, 1, 0,
+            0, 0, 9,   5, 2, 3
+        });
+        int[] best = new int[2];
+
+        OnnxTranslationModel.argmaxLastPosition(logits, 2, 3, best);
+
+        assertArrayEquals(new int[] {1, 0}, best);
+    }
+
+    @TempDir
+    Path modelDir;
+
+    @Test
+    void testPrecisionSelectsFileVariant() throws IOException {
+        touch("encoder_model.onnx", "decoder_model.onnx", "decoder_with_past_model.onnx",
+            "encoder_model_fp16.onnx", "decoder_model_fp16.onnx", "decoder_with_past_model_fp16.onnx",
+            "encoder_model_quantized.onnx", "decoder_model_quantized.onnx", "decoder_with_past_model_quantized.onnx");
+
+        assertEquals(names("encoder_model.onnx", "decoder_model.onnx", "decoder_with_past_model.onnx"),
+            OnnxTranslationModel.modelFiles(modelDir, "float32", false));
+        assertEquals(names("encoder_model_fp16.onnx", "decoder_model_fp16.onnx", "decoder_with_past_model_fp16.onnx"),
+            OnnxTranslationModel.modelFiles(modelDir, "FP16", false));
+        assertEquals(names("encoder_model_quantized.onnx", "decoder_model_quantized.onnx",
+                "decoder_with_past_model_quantized.onnx"),
+            OnnxTranslationModel.modelFiles(modelDir, "int8", false));
+        assertEquals(OnnxTranslationModel.modelFiles(modelDir, "float32", false),
+            OnnxTranslationModel.modelFiles(modelDir, null, false));
+        assertThrows(IllegalArgumentException.class, () -> OnnxTranslationModel.modelFiles(modelDir, "bf16", false));
+    }
+
+    @Test
+    void testOrtFilesArePreferredOnlyWhenMapping() throws IOException {
+        touch("encoder_model_quantized.onnx", "decoder_model_quantized.onnx", "decoder_with_past_model_quantized.onnx",
+            "encoder_model_quantized.ort", "decoder_model_quantized.ort");
+
+        assertEquals(names("encoder_model_quantized.ort", "decoder_model_quantized.ort",
+                "decoder_with_past_model_quantized.onnx"),
+            OnnxTranslationModel.modelFiles(modelDir, "int8", true));
+        assertEquals(names("encoder_model_quantized.onnx", "decoder_model_quantized.onnx",
+                "decoder_with_past_model_quantized.onnx"),
+            OnnxTranslationModel.modelFiles(modelDir, "int8", false));
+    }
+
+    @Test
+    void testMissingVariantIsReported() throws IOException {
+        touch("encoder_model.onnx", "decoder_model.onnx", "decoder_with_past_model.onnx");
+
+        IOException e = assertThrows(IOException.class, () -> OnnxTranslationModel.modelFiles(modelDir, "fp16", true));
+        assertTrue(e.getMessage().contains("encoder_model_fp16.onnx"), e.getMessage());
+    }
+
+    @Test
+    void testMappedModelIsReadOnlyFileContent() throws IOException {
+        Path file = modelDir.resolve("encoder_model.ort");
+        byte[] content = {0x4f, 0x52, 0x54, 0x4d, 1, 2, 3};
+        Files.write(file, content);
+
+        MappedByteBuffer mapped = OnnxTranslationModel.map(file);
+
+        assertTrue(mapped.isReadOnly());
+        assertEquals(content.length, mapped.capacity());
+        byte[] read = new byte[content.length];
+        mapped.get(read);
+        assertArrayEquals(content, read);
+        assertThrows(ReadOnlyBufferException.class, () -> mapped.put(0, (byte) 0));
+    }
+
+    private void touch(String... names) throws IOException {
+        for (String name : names) {
+            Files.writeString(modelDir.resolve(name), name);
+        }
+    }
+
+    private List<Path> names(String... names) {
+        return Arrays.stream(names).map(modelDir::resolve).toList();
+    }
+}
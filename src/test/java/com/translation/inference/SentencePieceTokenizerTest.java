@@ -0,0 +1,48 @@
+package com.translation.inference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SentencePieceTokenizerTest {
+
+    private SentencePieceTokenizer tokenizer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        tokenizer = SentencePieceTokenizer.load(
+            Path.of(getClass().getResource("/inference/tokenizer.json").toURI()));
+    }
+
+    @Test
+    void testPicksHighestScoringSegmentation() {
+        assertArrayEquals(new int[]{5, 6, 11}, tokenizer.encode("hello  world!"));
+    }
+
+    @Test
+    void testRunOfUnknownCharactersIsOneToken() {
+        assertArrayEquals(new int[]{5, 4, 3}, tokenizer.encode(" hello ☃☃"));
+    }
+
+    @Test
+    void testEncodeIntoReusedWorkspace() {
+        SentencePieceTokenizer.Workspace workspace = new SentencePieceTokenizer.Workspace();
+        String longText = "hello world! ".repeat(100);
+        assertEquals(300, tokenizer.encode(longText, workspace));
+        assertEquals(2, tokenizer.encode("hello world", workspace));
+        assertArrayEquals(new int[]{5, 6}, Arrays.copyOf(workspace.ids(), 2));
+        assertEquals(0, tokenizer.countTokens("   "));
+    }
+
+    @Test
+    void testDecodeSkipsSpecialTokens() {
+        int[] ids = {12, 5, 6, 11, 2};
+        assertEquals("hello world!", tokenizer.decode(ids, ids.length));
+        assertEquals(13, tokenizer.tokenId("spa_Latn"));
+        assertEquals(-1, tokenizer.tokenId("fra_Latn"));
+    }
+}
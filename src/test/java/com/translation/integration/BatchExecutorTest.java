@@ -0,0 +1,110 @@
+package com.translation.integration;
+
+import com.translation.config.TranslationProperties;
+import com.translation.exception.PartialBatchTranslationException;
+import com.translation.exception.TranslationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchExecutorTest {
+    
+    private BatchExecutor batchExecutor;
+    
+    @BeforeEach
+    void setUp() {
+        TranslationProperties properties = new TranslationProperties();
+        properties.getBatch().setMaxInFlight(3);
+        properties.getBatch().setItemTimeoutMs(500L);
+        batchExecutor = new BatchExecutor(properties);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        batchExecutor.shutdown();
+    }
+    
+    @Test
+    void testPreservesOrderAndCapsInFlight() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxObserved = new AtomicInteger();
+        
+        List<String> result = batchExecutor.translateAll("test", List.of("a", "b", "c", "d", "e", "f"), text -> {
+            maxObserved.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep("a".equals(text) ? 50 : 10);
+            inFlight.decrementAndGet();
+            return text.toUpperCase();
+        });
+        
+        assertEquals(List.of("A", "B", "C", "D", "E", "F"), result);
+        assertTrue(maxObserved.get() <= 3, "in-flight exceeded cap: " + maxObserved.get());
+    }
+    
+    @Test
+    void testReportsPerItemFailuresAndTimeouts() {
+        PartialBatchTranslationException e = assertThrows(PartialBatchTranslationException.class, () ->
+            batchExecutor.translateAll("test", List.of("ok", "fail", "slow"), text -> {
+                if ("fail".equals(text)) {
+                    throw new TranslationException("boom", HttpStatus.SERVICE_UNAVAILABLE);
+                }
+                if ("slow".equals(text)) {
+                    sleep(2000);
+                }
+                return text;
+            }));
+        
+        assertEquals("ok", e.getTranslations().get(0));
+        assertNull(e.getTranslations().get(1));
+        assertEquals("boom", e.getFailures().get(1));
+        assertEquals("Translation timed out", e.getFailures().get(2));
+    }
+    
+    @Test
+    void testTimedOutItemsReleaseTheirSlots() {
+        AtomicInteger interrupted = new AtomicInteger();
+        assertThrows(TranslationException.class, () ->
+            batchExecutor.translateAll("test", List.of("a", "b", "c"), text -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.incrementAndGet();
+                }
+                return text;
+            }));
+        
+        // Every slot was held by a hung call; without the release this would wait for them
+        long start = System.nanoTime();
+        assertEquals(List.of("D"), batchExecutor.translateAll("test", List.of("d"), String::toUpperCase));
+        assertTrue(System.nanoTime() - start < 2_000_000_000L, "slot was not released on timeout");
+        
+        for (int i = 0; i < 100 && interrupted.get() < 3; i++) {
+            sleep(10);
+        }
+        assertEquals(3, interrupted.get());
+    }
+    
+    @Test
+    void testAllItemsFailingRethrowsFirstFailure() {
+        TranslationException e = assertThrows(TranslationException.class, () ->
+            batchExecutor.translateAll("test", List.of("a", "b"), text -> {
+                throw new TranslationException("down", HttpStatus.SERVICE_UNAVAILABLE);
+            }));
+        
+        assertFalse(e instanceof PartialBatchTranslationException);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, e.getStatus());
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.translation.integration;
+
+import com.translation.cache.TranslationCache;
+import com.translation.config.TranslationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingTranslationProviderTest {
+    
+    private CountingProvider upstream;
+    private TranslationCache cache;
+    private CachingTranslationProvider provider;
+    
+    @BeforeEach
+    void setUp() {
+        upstream = new CountingProvider();
+        cache = new TranslationCache(new TranslationProperties());
+        provider = new CachingTranslationProvider(upstream, cache);
+    }
+    
+    @Test
+    void testRepeatedTranslationIsServedFromCache() {
+        assertEquals("T(Hello)", provider.translate("Hello", "en", "es"));
+        assertEquals("  T(Hello) ", provider.translate("  Hello ", "en", "es"));
+        
+        assertEquals(1, upstream.calls.get());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+    
+    @Test
+    void testCachedTranslationTakesCallersWhitespace() {
+        upstream.keepWhitespace = true;
+        
+        assertEquals("  T(Hello)\n", provider.translate("  Hello\n", "en", "es"));
+        assertEquals("T(Hello)", provider.translate("Hello", "en", "es"));
+        assertEquals(List.of("T(Hello)", "\nT(Hello)"),
+            provider.batchTranslate(List.of("Hello", "\nHello"), "en", "es"));
+        
+        assertEquals(1, upstream.calls.get());
+    }
+    
+    @Test
+    void testBatchMissesSharingKeyKeepOwnWhitespace() {
+        upstream.keepWhitespace = true;
+        
+        assertEquals(List.of("  T(Hello)", "T(Hello)"),
+            provider.batchTranslate(List.of("  Hello", "Hello"), "en", "es"));
+        assertEquals("T(Hello)", provider.translate("Hello", "en", "es"));
+        assertEquals(1, upstream.calls.get());
+    }
+    
+    @Test
+    void testLineBreaksArePartOfKey() {
+        assertEquals("T(Hello  world)", provider.translate("Hello  world", "en", "es"));
+        assertEquals("T(Hello  world)", provider.translate("Hello world", "en", "es"));
+        assertEquals("T(Hello\n\nworld)", provider.translate("Hello\n\nworld", "en", "es"));
+        
+        assertEquals(2, upstream.calls.get());
+    }
+    
+    @Test
+    void testLanguagePairIsPartOfKey() {
+        provider.translate("Hello", "en", "es");
+        provider.translate("Hello", "en", "fr");
+        
+        assertEquals(2, upstream.calls.get());
+    }
+    
+    @Test
+    void testBatchOnlyForwardsDistinctMisses() {
+        provider.translate("Hello", "en", "es");
+        
+        List<String> result = provider.batchTranslate(
+            List.of("Hello", "Bye", "Bye", "Thanks"), "en", "es");
+        
+        assertEquals(List.of("T(Hello)", "T(Bye)", "T(Bye)", "T(Thanks)"), result);
+        assertEquals(List.of("Bye", "Thanks"), upstream.lastBatch);
+    }
+    
+    private static class CountingProvider implements TranslationProvider {
+        
+        private final AtomicInteger calls = new AtomicInteger();
+        private List<String> lastBatch = new ArrayList<>();
+        // Echo the source's surrounding whitespace, as the OpenAI and local providers do
+        private boolean keepWhitespace;
+        
+        @Override
+        public String translate(String text, String sourceLanguage, String targetLanguage) {
+            calls.incrementAndGet();
+            String translated = "T(" + text.strip() + ")";
+            return keepWhitespace ? text.replace(text.strip(), translated) : translated;
+        }
+        
+        @Override
+        public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
+            lastBatch = texts;
+            return texts.stream()
+                .map(text -> translate(text, sourceLanguage, targetLanguage))
+                .collect(Collectors.toList());
+        }
+        
+        @Override
+        public Map<String, String> getSupportedLanguages() {
+            return Map.of("en", "English", "es", "Spanish", "fr", "French");
+        }
+        
+        @Override
+        public boolean validateLanguagePair(String sourceLanguage, String targetLanguage) {
+            return !sourceLanguage.equals(targetLanguage);
+        }
+        
+        @Override
+        public boolean healthCheck() {
+            return true;
+        }
+        
+        @Override
+        public String getProviderName() {
+            return "CountingProvider";
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.translation.integration;
+
+import com.translation.exception.PartialBatchTranslationException;
+import com.translation.exception.TranslationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FallbackTranslationProviderTest {
+
+    @Test
+    void testFallsBackOnServerError() {
+        StubProvider primary = new StubProvider("primary", HttpStatus.SERVICE_UNAVAILABLE);
+        StubProvider fallback = new StubProvider("fallback", null);
+        FallbackTranslationProvider provider = new FallbackTranslationProvider(List.of(primary, fallback));
+
+        assertEquals("fallback:Hello", provider.translate("Hello", "en", "es"));
+        assertEquals(1, primary.calls);
+    }
+
+    @Test
+    void testClientErrorIsNotRetriedElsewhere() {
+        StubProvider primary = new StubProvider("primary", HttpStatus.BAD_REQUEST);
+        StubProvider fallback = new StubProvider("fallback", null);
+        FallbackTranslationProvider provider = new FallbackTranslationProvider(List.of(primary, fallback));
+
+        TranslationException error = assertThrows(TranslationException.class,
+            () -> provider.translate("Hello", "en", "es"));
+        assertEquals(HttpStatus.BAD_REQUEST, error.getStatus());
+        assertEquals(0, fallback.calls);
+    }
+
+    @Test
+    void testOnlyFailedBatchItemsFallBack() {
+        StubProvider primary = new StubProvider("primary", null);
+        primary.failingText = "b";
+        StubProvider fallback = new StubProvider("fallback", null);
+        FallbackTranslationProvider provider = new FallbackTranslationProvider(List.of(primary, fallback));
+
+        assertEquals(List.of("primary:a", "fallback:b", "primary:c"),
+            provider.batchTranslate(List.of("a", "b", "c"), "en", "es"));
+        assertEquals(List.of("b"), fallback.lastBatch);
+    }
+
+    @Test
+    void testBatchFailingEverywhereReportsPartialFailure() {
+        StubProvider primary = new StubProvider("primary", null);
+        primary.failingText = "b";
+        StubProvider fallback = new StubProvider("fallback", HttpStatus.SERVICE_UNAVAILABLE);
+        FallbackTranslationProvider provider = new FallbackTranslationProvider(List.of(primary, fallback));
+
+        PartialBatchTranslationException error = assertThrows(PartialBatchTranslationException.class,
+            () -> provider.batchTranslate(List.of("a", "b"), "en", "es"));
+        assertEquals("primary:a", error.getTranslations().get(0));
+        assertEquals(List.of(1), new ArrayList<>(error.getFailures().keySet()));
+    }
+
+    private static class StubProvider implements TranslationProvider {
+
+        private final String name;
+        private final HttpStatus failure;
+        private String failingText;
+        private int calls;
+        private List<String> lastBatch;
+
+        StubProvider(String name, HttpStatus failure) {
+            this.name = name;
+            this.failure = failure;
+        }
+
+        @Override
+        public String translate(String text, String sourceLanguage, String targetLanguage) {
+            calls++;
+            if (failure != null) {
+                throw new TranslationException(name + " failed", failure);
+            }
+            return name + ":" + text;
+        }
+
+        @Override
+        public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
+            calls++;
+            lastBatch = texts;
+            if (failure != null) {
+                throw new TranslationException(name + " failed", failure);
+            }
+            List<String> translations = new ArrayList<>();
+            Map<Integer, String> failures = new HashMap<>();
+            for (int i = 0; i < texts.size(); i++) {
+                if (texts.get(i).equals(failingText)) {
+                    translations.add(null);
+                    failures.put(i, name + " failed");
+                } else {
+                    translations.add(name + ":" + texts.get(i));
+                }
+            }
+            if (!failures.isEmpty()) {
+                throw new PartialBatchTranslationException(translations, failures);
+            }
+            return translations;
+        }
+
+        @Override
+        public Map<String, String> getSupportedLanguages() {
+            return Map.of("en", "English", "es", "Spanish");
+        }
+
+        @Override
+        public boolean validateLanguagePair(String sourceLanguage, String targetLanguage) {
+            return true;
+        }
+
+        @Override
+        public boolean healthCheck() {
+            return true;
+        }
+
+        @Override
+        public String getProviderName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.translation.integration;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GoogleTranslationProviderTest {
+
+    @Test
+    void testPartitionRespectsSegmentLimit() {
+        List<List<String>> requests = GoogleTranslationProvider.partition(
+            List.of("a", "b", "c", "d", "e"), 2, 100);
+
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e")), requests);
+    }
+
+    @Test
+    void testPartitionRespectsCharacterLimit() {
+        List<List<String>> requests = GoogleTranslationProvider.partition(
+            List.of("aaaa", "bbbb", "cc", "dddddd", "e"), 10, 10);
+
+        assertEquals(List.of(List.of("aaaa", "bbbb", "cc"), List.of("dddddd", "e")), requests);
+    }
+
+    @Test
+    void testPartitionKeepsOrderAndEveryText() {
+        List<String> texts = List.of("one", "two", "three", "four", "five", "six", "seven");
+        List<List<String>> requests = GoogleTranslationProvider.partition(texts, 3, 9);
+
+        assertEquals(texts, requests.stream().flatMap(List::stream).toList());
+        for (List<String> request : requests) {
+            assertTrue(request.size() <= 3);
+            assertTrue(request.stream().mapToInt(String::length).sum() <= 9, "request over limit: " + request);
+        }
+    }
+
+    @Test
+    void testPartitionOfEmptyBatch() {
+        assertTrue(GoogleTranslationProvider.partition(List.of(), 128, 30000).isEmpty());
+    }
+}
@@ -0,0 +1,50 @@
+package com.translation.integration;
+
+import com.translation.exception.TranslationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MaskingTranslationProviderTest {
+
+    private TranslationProvider delegate;
+    private MaskingTranslationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(TranslationProvider.class);
+        when(delegate.validateLanguagePair(anyString(), anyString()))
+            .thenAnswer(call -> !call.getArgument(0).equals(call.getArgument(1)));
+        provider = new MaskingTranslationProvider(delegate);
+    }
+
+    @Test
+    void testTextWithoutWordsIsReturnedAsIs() {
+        assertEquals("1234", provider.translate("1234", "en", "es"));
+        assertEquals(List.of("1234", "42"), provider.batchTranslate(List.of("1234", "42"), "en", "es"));
+        verify(delegate, never()).translate(anyString(), anyString(), anyString());
+        verify(delegate, never()).batchTranslate(anyList(), anyString(), anyString());
+    }
+
+    @Test
+    void testInvalidPairIsRejectedForTextWithoutWords() {
+        TranslationException error = assertThrows(TranslationException.class,
+            () -> provider.translate("1234", "en", "en"));
+        assertEquals(HttpStatus.BAD_REQUEST, error.getStatus());
+
+        error = assertThrows(TranslationException.class,
+            () -> provider.batchTranslate(List.of("1234", "Hello"), "en", "en"));
+        assertEquals(HttpStatus.BAD_REQUEST, error.getStatus());
+        verify(delegate, never()).batchTranslate(anyList(), anyString(), anyString());
+    }
+}
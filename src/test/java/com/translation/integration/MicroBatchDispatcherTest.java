@@ -0,0 +1,164 @@
+package com.translation.integration;
+
+import com.translation.config.TranslationProperties;
+import com.translation.exception.PartialBatchTranslationException;
+import com.translation.exception.TranslationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicroBatchDispatcherTest {
+    
+    private MicroBatchDispatcher dispatcher;
+    private final RecordingProvider provider = new RecordingProvider();
+    
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+    
+    @Test
+    void testFullBatchIsSentWithoutWaiting() throws Exception {
+        dispatcher = dispatcher(3, 10_000L);
+        
+        List<CompletableFuture<String>> futures = submit("a", "b", "c");
+        
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals("T(" + "abc".charAt(i) + ")", futures.get(i).get(1, TimeUnit.SECONDS));
+        }
+        assertEquals(List.of(List.of("a", "b", "c")), provider.batches);
+        assertEquals(1, dispatcher.getDispatchedBatches());
+    }
+    
+    @Test
+    void testPartialBatchIsSentAfterMaxWait() throws Exception {
+        dispatcher = dispatcher(8, 20L);
+        
+        List<CompletableFuture<String>> futures = submit("a", "b");
+        
+        assertEquals("T(a)", futures.get(0).get(1, TimeUnit.SECONDS));
+        assertEquals("T(b)", futures.get(1).get(1, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of("a", "b")), provider.batches);
+        assertEquals(2.0, dispatcher.getAverageBatchSize());
+    }
+    
+    @Test
+    void testSingleTextIsTranslatedDirectly() throws Exception {
+        dispatcher = dispatcher(8, 20L);
+        
+        assertEquals("T(a)", dispatcher.translate(provider, "a", "en", "es"));
+        assertTrue(provider.batches.isEmpty());
+        assertEquals(List.of("a"), provider.singles);
+    }
+    
+    @Test
+    void testFailedItemsFailOnlyTheirCallers() throws Exception {
+        dispatcher = dispatcher(3, 10_000L);
+        provider.failing = "b";
+        
+        List<CompletableFuture<String>> futures = submit("a", "b", "c");
+        
+        assertEquals("T(a)", futures.get(0).get(1, TimeUnit.SECONDS));
+        ExecutionException e = assertThrows(ExecutionException.class, () -> futures.get(1).get(1, TimeUnit.SECONDS));
+        assertEquals("b failed", e.getCause().getMessage());
+        assertEquals("T(c)", futures.get(2).get(1, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void testBatchFailureFailsEveryCaller() {
+        dispatcher = dispatcher(2, 10_000L);
+        provider.failing = "*";
+        
+        List<CompletableFuture<String>> futures = submit("a", "b");
+        
+        for (CompletableFuture<String> future : futures) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+            assertInstanceOf(TranslationException.class, e.getCause());
+        }
+    }
+    
+    private MicroBatchDispatcher dispatcher(int maxBatchSize, long maxWaitMs) {
+        TranslationProperties properties = new TranslationProperties();
+        properties.getMicroBatch().setEnabled(true);
+        properties.getMicroBatch().setMaxBatchSize(maxBatchSize);
+        properties.getMicroBatch().setMaxWaitMs(maxWaitMs);
+        return new MicroBatchDispatcher(properties);
+    }
+    
+    private List<CompletableFuture<String>> submit(String... texts) {
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (String text : texts) {
+            futures.add(dispatcher.submit(provider, text, "en", "es"));
+        }
+        return futures;
+    }
+    
+    /**
+     * Translates to "T(text)"; fails the text equal to {@code failing}, or every call for "*"
+     */
+    private static class RecordingProvider implements TranslationProvider {
+        
+        private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+        private final List<String> singles = new CopyOnWriteArrayList<>();
+        private volatile String failing;
+        
+        @Override
+        public String translate(String text, String sourceLanguage, String targetLanguage) {
+            singles.add(text);
+            return "T(" + text + ")";
+        }
+        
+        @Override
+        public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
+            batches.add(List.copyOf(texts));
+            if ("*".equals(failing)) {
+                throw new TranslationException("down", HttpStatus.SERVICE_UNAVAILABLE);
+            }
+            List<String> results = new ArrayList<>();
+            Map<Integer, String> failures = new TreeMap<>();
+            for (int i = 0; i < texts.size(); i++) {
+                if (texts.get(i).equals(failing)) {
+                    results.add(null);
+                    failures.put(i, texts.get(i) + " failed");
+                } else {
+                    results.add("T(" + texts.get(i) + ")");
+                }
+            }
+            if (!failures.isEmpty()) {
+                throw new PartialBatchTranslationException(results, failures);
+            }
+            return results;
+        }
+        
+        @Override
+        public Map<String, String> getSupportedLanguages() {
+            return Map.of();
+        }
+        
+        @Override
+        public boolean validateLanguagePair(String sourceLanguage, String targetLanguage) {
+            return true;
+        }
+        
+        @Override
+        public boolean healthCheck() {
+            return true;
+        }
+        
+        @Override
+        public String getProviderName() {
+            return "test";
+        }
+    }
+}
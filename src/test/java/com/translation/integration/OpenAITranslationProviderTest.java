@@ -0,0 +1,147 @@
+package com.translation.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.translation.config.TranslationProperties;
+import com.translation.inference.TokenCounter;
+import com.translation.ratelimit.UpstreamRateLimiter;
+import com.translation.resilience.ProviderGuard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Packed batches against a local stand-in for the chat completions API, which answers
+ * each item with "T(text)" and can be told to leave items out of packed replies
+ */
+class OpenAITranslationProviderTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private HttpServer server;
+    private BatchExecutor batchExecutor;
+    private OpenAITranslationProvider provider;
+
+    private final AtomicInteger packedCalls = new AtomicInteger();
+    private final AtomicInteger singleCalls = new AtomicInteger();
+    private final Set<String> dropFromPacks = ConcurrentHashMap.newKeySet();
+    private volatile boolean fencedReplies;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/chat/completions", this::complete);
+        server.start();
+
+        TranslationProperties properties = new TranslationProperties();
+        properties.getOpenai().setBaseUrl("http://localhost:" + server.getAddress().getPort() + "/");
+        properties.getOpenai().setMaxSegmentsPerPack(3);
+        properties.getRateLimit().setEnabled(false);
+        TokenCounter tokenCounter = mock(TokenCounter.class);
+        when(tokenCounter.count(anyString())).thenAnswer(call -> call.<String>getArgument(0).length() / 4 + 1);
+
+        batchExecutor = new BatchExecutor(properties);
+        provider = new OpenAITranslationProvider("test-key", "gpt-3.5-turbo", batchExecutor,
+            new UpstreamRateLimiter(properties, new ProviderGuard(properties)), tokenCounter, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchExecutor.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void testBatchIsPackedInOrder() {
+        List<String> result = provider.batchTranslate(List.of("a", "b", "c", "d", "e", "f", "g"), "en", "es");
+
+        assertEquals(List.of("T(a)", "T(b)", "T(c)", "T(d)", "T(e)", "T(f)", "T(g)"), result);
+        // Packs of 3, 3 and 1; a pack of one is sent as a plain translation
+        assertEquals(2, packedCalls.get());
+        assertEquals(1, singleCalls.get());
+        assertEquals(6, provider.getPackedSegments());
+    }
+
+    @Test
+    void testItemsLeftOutOfReplyAreRetriedIndividually() {
+        dropFromPacks.add("b");
+
+        List<String> result = provider.batchTranslate(List.of("a", "b", "c"), "en", "es");
+
+        assertEquals(List.of("T(a)", "T(b)", "T(c)"), result);
+        assertEquals(1, packedCalls.get());
+        assertEquals(1, singleCalls.get());
+        assertEquals(1, provider.getFallbackSegments());
+    }
+
+    @Test
+    void testReplyInsideCodeFenceIsParsed() {
+        fencedReplies = true;
+
+        assertEquals(List.of("T(a)", "T(b)"), provider.batchTranslate(List.of("a", "b"), "en", "es"));
+        assertEquals(0, singleCalls.get());
+    }
+
+    @Test
+    void testSourceWhitespaceIsKept() {
+        List<String> result = provider.batchTranslate(List.of("  a\n", "b", "\tc "), "en", "es");
+
+        assertEquals(List.of("  T(a)\n", "T(b)", "\tT(c) "), result);
+        assertEquals("\n\nT(a)", OpenAITranslationProvider.withSourceWhitespace("\n\na", " T(a)\n"));
+        assertEquals("  ", OpenAITranslationProvider.withSourceWhitespace("  ", "x"));
+    }
+
+    private void complete(HttpExchange exchange) throws IOException {
+        JsonNode request = MAPPER.readTree(exchange.getRequestBody());
+        String content = request.get("messages").get(1).get("content").asText();
+
+        String reply;
+        if (content.startsWith("[")) {
+            packedCalls.incrementAndGet();
+            ArrayNode items = MAPPER.createArrayNode();
+            for (JsonNode item : MAPPER.readTree(content)) {
+                String text = item.get("text").asText();
+                if (!dropFromPacks.contains(text)) {
+                    items.addObject().put("id", item.get("id").asInt()).put("text", " T(" + text.strip() + ") ");
+                }
+            }
+            reply = fencedReplies ? "```json\n" + items + "\n```" : items.toString();
+        } else {
+            singleCalls.incrementAndGet();
+            reply = "T(" + content.strip() + ")";
+        }
+
+        ObjectNode body = MAPPER.createObjectNode()
+            .put("id", "chatcmpl-test")
+            .put("object", "chat.completion")
+            .put("created", 0)
+            .put("model", "gpt-3.5-turbo");
+        ObjectNode choice = body.putArray("choices").addObject();
+        choice.put("index", 0).put("finish_reason", "stop");
+        choice.putObject("message").put("role", "assistant").put("content", reply);
+        body.putObject("usage").put("prompt_tokens", 1).put("completion_tokens", 1).put("total_tokens", 2);
+
+        byte[] bytes = MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
@@ -0,0 +1,144 @@
+package com.translation.integration;
+
+import com.translation.config.TranslationProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestHedgerTest {
+
+    private RequestHedger hedger;
+
+    @BeforeEach
+    void setUp() {
+        TranslationProperties properties = new TranslationProperties();
+        properties.getHedging().setEnabled(true);
+        properties.getHedging().setInitialDelayMs(50L);
+        hedger = new RequestHedger(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hedger.shutdown();
+    }
+
+    @Test
+    void testFastPrimaryIsNotHedged() {
+        SleepingProvider primary = new SleepingProvider("primary", 0);
+        SleepingProvider alternate = new SleepingProvider("alternate", 0);
+
+        assertEquals("primary:Hello", hedger.translate(primary, alternate, "Hello", "en", "es"));
+        assertEquals(0, hedger.getHedgedRequests());
+        assertSame(Thread.currentThread(), primary.thread, "original should run on the caller's thread");
+        assertEquals(1, hedger.stats("primary").getRequests());
+    }
+
+    @Test
+    void testSlowPrimaryIsHedgedAndCancelled() throws InterruptedException {
+        SleepingProvider primary = new SleepingProvider("primary", 5000);
+        SleepingProvider alternate = new SleepingProvider("alternate", 0);
+
+        long start = System.nanoTime();
+        assertEquals("alternate:Hello", hedger.translate(primary, alternate, "Hello", "en", "es"));
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+        assertEquals(1, hedger.getHedgedRequests());
+        assertEquals(1, hedger.getHedgeWins());
+        assertTrue(primary.interrupted.await(1, TimeUnit.SECONDS), "losing call should be interrupted");
+    }
+
+    @Test
+    void testCancelledAttemptIsNotRecorded() {
+        SleepingProvider primary = new SleepingProvider("primary", 5000);
+        SleepingProvider alternate = new SleepingProvider("alternate", 0);
+
+        assertEquals("alternate:Hello", hedger.translate(primary, alternate, "Hello", "en", "es"));
+
+        assertFalse(Thread.currentThread().isInterrupted(), "caller should not be left interrupted");
+        assertEquals(0, hedger.stats("primary").getRequests());
+        assertEquals(0, hedger.stats("primary").getInFlight());
+        assertEquals(1, hedger.stats("alternate").getRequests());
+    }
+
+    @Test
+    void testFailedPrimaryWaitsForHedge() {
+        FailingProvider primary = new FailingProvider(100);
+        SleepingProvider alternate = new SleepingProvider("alternate", 300);
+
+        assertEquals("alternate:Hello", hedger.translate(primary, alternate, "Hello", "en", "es"));
+        assertEquals(1, hedger.getHedgedRequests());
+    }
+
+    private static class SleepingProvider implements TranslationProvider {
+
+        private final String name;
+        private final long sleepMs;
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+        private volatile Thread thread;
+
+        SleepingProvider(String name, long sleepMs) {
+            this.name = name;
+            this.sleepMs = sleepMs;
+        }
+
+        @Override
+        public String translate(String text, String sourceLanguage, String targetLanguage) {
+            thread = Thread.currentThread();
+            try {
+                Thread.sleep(sleepMs);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IllegalStateException("interrupted");
+            }
+            return name + ":" + text;
+        }
+
+        @Override
+        public List<String> batchTranslate(List<String> texts, String sourceLanguage, String targetLanguage) {
+            return texts.stream().map(text -> translate(text, sourceLanguage, targetLanguage)).toList();
+        }
+
+        @Override
+        public Map<String, String> getSupportedLanguages() {
+            return Map.of("en", "English", "es", "Spanish");
+        }
+
+        @Override
+        public boolean validateLanguagePair(String sourceLanguage, String targetLanguage) {
+            return true;
+        }
+
+        @Override
+        public boolean healthCheck() {
+            return true;
+        }
+
+        @Override
+        public String getProviderName() {
+            return name;
+        }
+    }
+
+    /**
+     * Fails after a pause long enough for the hedge to have started
+     */
+    private static class FailingProvider extends SleepingProvider {
+
+        FailingProvider(long sleepMs) {
+            super("failing", sleepMs);
+        }
+
+        @Override
+        public String translate(String text, String sourceLanguage, String targetLanguage) {
+            super.translate(text, sourceLanguage, targetLanguage);
+            throw new IllegalStateException("upstream error");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.translation.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translation.cache.RequestCoalescer;
+import com.translation.cache.TranslationCache;
+import com.translation.config.TranslationEngine;
+import com.translation.config.TranslationProperties;
+import com.translation.dto.RoutingTableRequest;
+import com.translation.exception.TranslationException;
+import com.translation.health.ProviderHealthMonitor;
+import com.translation.memory.TranslationMemory;
+import com.translation.metrics.TranslationMetrics;
+import com.translation.resilience.ProviderGuard;
+import com.translation.routing.ProviderRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TranslationProviderFactoryTest {
+
+    private TranslationProperties properties;
+    private GoogleTranslationProvider google;
+    private OpenAITranslationProvider openai;
+    private LocalTranslationProvider local;
+    private ProviderRouter providerRouter;
+    private MicroBatchDispatcher microBatchDispatcher;
+    private RequestHedger requestHedger;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TranslationProperties();
+        properties.setEngine("local");
+        properties.getApi().setCacheEnabled(true);
+        properties.getMemory().setEnabled(false);
+
+        google = mock(GoogleTranslationProvider.class);
+        openai = mock(OpenAITranslationProvider.class);
+        local = mock(LocalTranslationProvider.class);
+        stub(google, "GoogleTranslationProvider");
+        stub(openai, "OpenAITranslationProvider");
+        stub(local, "LocalTranslationProvider");
+    }
+
+    @AfterEach
+    void tearDown() {
+        microBatchDispatcher.shutdown();
+        requestHedger.shutdown();
+    }
+
+    @Test
+    void testChainIsBuiltOnce() {
+        TranslationProviderFactory factory = factory();
+
+        TranslationProvider cached = factory.getProvider();
+        TranslationProvider uncached = factory.getProvider(false);
+
+        assertSame(cached, factory.getProvider(true));
+        assertSame(uncached, factory.getProvider(false));
+        assertNotSame(cached, uncached);
+        assertInstanceOf(CachingTranslationProvider.class, cached);
+    }
+
+    @Test
+    void testSwitchingEngineRebuildsChain() {
+        TranslationProviderFactory factory = factory();
+        TranslationProvider localChain = factory.getProvider();
+
+        TranslationProvider openaiChain = factory.switchEngine(TranslationEngine.OPENAI);
+
+        assertNotSame(localChain, openaiChain);
+        assertSame(openaiChain, factory.getProvider());
+    }
+
+    @Test
+    void testRoutedRequestIsCachedAndReportedPerEngine() {
+        properties.getRouting().setEnabled(true);
+        properties.getRouting().setWeights(Map.of("google", 1));
+        TranslationProviderFactory factory = factory();
+
+        TranslationProvider routed = factory.getProvider(true, "en", "es");
+        assertEquals("GoogleTranslationProvider", routed.getProviderName());
+        assertEquals("GoogleTranslationProvider:Hello", routed.translate("Hello", "en", "es"));
+
+        providerRouter.update(RoutingTableRequest.builder().weights(Map.of("local", 1)).build());
+        routed = factory.getProvider(true, "en", "es");
+
+        assertEquals("LocalTranslationProvider", routed.getProviderName());
+        assertEquals("LocalTranslationProvider:Hello", routed.translate("Hello", "en", "es"));
+        assertEquals(1, providerRouter.stats("google").getRequests());
+        assertEquals(1, providerRouter.stats("local").getRequests());
+    }
+
+    @Test
+    void testRoutedEngineDoesNotFallBackToItself() {
+        properties.getRouting().setEnabled(true);
+        properties.getRouting().setWeights(Map.of("google", 1));
+        properties.getResilience().setFallbackChain(List.of("google", "local"));
+        when(google.translate(anyString(), anyString(), anyString()))
+            .thenThrow(new TranslationException("down", HttpStatus.SERVICE_UNAVAILABLE));
+        TranslationProviderFactory factory = factory();
+
+        TranslationProvider routed = factory.getProvider(false, "en", "es");
+
+        assertEquals("LocalTranslationProvider:Hello", routed.translate("Hello", "en", "es"));
+        verify(google, times(1)).translate("Hello", "en", "es");
+    }
+
+    private TranslationProviderFactory factory() {
+        providerRouter = new ProviderRouter(properties);
+        ProviderGuard providerGuard = new ProviderGuard(properties);
+        microBatchDispatcher = new MicroBatchDispatcher(properties);
+        requestHedger = new RequestHedger(properties);
+        return new TranslationProviderFactory(google, openai, local, properties,
+            new TranslationCache(properties), new RequestCoalescer(), microBatchDispatcher,
+            new TranslationMemory(properties, new ObjectMapper()), providerRouter, requestHedger, providerGuard,
+            new TranslationMetrics(new SimpleMeterRegistry()),
+            new ProviderHealthMonitor(google, openai, local, properties, providerRouter, providerGuard));
+    }
+
+    private static void stub(TranslationProvider provider, String name) {
+        when(provider.getProviderName()).thenReturn(name);
+        when(provider.validateLanguagePair(anyString(), anyString())).thenReturn(true);
+        when(provider.translate(anyString(), anyString(), anyString()))
+            .thenAnswer(call -> name + ":" + call.getArgument(0));
+    }
+}
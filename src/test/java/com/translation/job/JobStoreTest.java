@@ -0,0 +1,76 @@
+package com.translation.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translation.config.TranslationProperties;
+import com.translation.dto.BatchTranslateItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobStoreTest {
+
+    @TempDir
+    Path root;
+
+    private JobStore store;
+
+    @BeforeEach
+    void setUp() {
+        TranslationProperties properties = new TranslationProperties();
+        properties.getJobs().setStorePath(root.toString());
+        store = new JobStore(properties, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void testRecoverResultsDropsPartialLastLine() throws IOException {
+        store.createInput("job", List.of("a", "b", "c").iterator());
+        store.appendResults("job", List.of(item(0, "A"), item(1, "B")));
+        String complete = Files.readString(store.resultsPath("job"));
+        Files.writeString(store.resultsPath("job"), "{\"index\":2,\"transl", StandardOpenOption.APPEND);
+
+        assertEquals(2, store.recoverResults("job"));
+        assertEquals(complete, Files.readString(store.resultsPath("job")));
+        assertEquals(2, store.recoverResults("job"));
+    }
+
+    @Test
+    void testRecoverResultsWithoutResultsFile() throws IOException {
+        store.createInput("job", List.of("a").iterator());
+
+        assertEquals(0, store.recoverResults("job"));
+    }
+
+    @Test
+    void testInputRoundTripsLineBreaks() throws IOException {
+        assertEquals(2, store.createInput("job", List.of("two\nlines", "tab\there").iterator()));
+
+        List<String> lines = Files.readAllLines(root.resolve("job").resolve("input.ndjson"), StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertEquals("two\nlines", store.decodeText(lines.get(0)));
+        assertEquals("tab\there", store.decodeText(lines.get(1)));
+    }
+
+    @Test
+    void testDeleteRemovesJobDirectory() throws IOException {
+        store.createInput("job", List.of("a").iterator());
+        store.appendResults("job", List.of(item(0, "A")));
+
+        store.delete("job");
+        store.delete("job");
+
+        assertFalse(Files.exists(root.resolve("job")));
+    }
+
+    private static BatchTranslateItem item(int index, String translation) {
+        return BatchTranslateItem.builder().index(index).translatedText(translation).build();
+    }
+}
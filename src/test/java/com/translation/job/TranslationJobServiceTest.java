@@ -0,0 +1,275 @@
+package com.translation.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translation.config.TranslationProperties;
+import com.translation.dto.BatchTranslateItem;
+import com.translation.dto.BatchTranslateRequest;
+import com.translation.dto.BatchTranslateResponse;
+import com.translation.dto.TranslationJobRequest;
+import com.translation.dto.TranslationJobResponse;
+import com.translation.exception.TranslationException;
+import com.translation.integration.TranslationProvider;
+import com.translation.integration.TranslationProviderFactory;
+import com.translation.service.TranslationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Jobs against a stand-in translation service that upper-cases every text
+ */
+class TranslationJobServiceTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path root;
+
+    private TranslationProperties properties;
+    private JobStore store;
+    private TranslationService translationService;
+    private TranslationProviderFactory providerFactory;
+    private TranslationJobService service;
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        properties = new TranslationProperties();
+        properties.getJobs().setStorePath(root.resolve("jobs").toString());
+        properties.getJobs().setImportDir(root.resolve("imports").toString());
+        properties.getJobs().setBatchSize(2);
+        properties.getJobs().setItemsPerSecond(1_000_000.0);
+        store = spy(new JobStore(properties, MAPPER));
+
+        translationService = mock(TranslationService.class);
+        when(translationService.batchTranslate(any())).thenAnswer(call -> {
+            List<String> texts = call.<BatchTranslateRequest>getArgument(0).getTexts();
+            batches.add(List.copyOf(texts));
+            return BatchTranslateResponse.builder()
+                .translatedTexts(texts.stream().map(String::toUpperCase).toList())
+                .build();
+        });
+        TranslationProvider provider = mock(TranslationProvider.class);
+        when(provider.validateLanguagePair(anyString(), anyString())).thenReturn(true);
+        providerFactory = mock(TranslationProviderFactory.class);
+        when(providerFactory.getProvider()).thenReturn(provider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void testResultsAreWrittenBeforeJobStateAdvances() throws Exception {
+        List<String> violations = new CopyOnWriteArrayList<>();
+        doAnswer(call -> {
+            TranslationJob job = call.getArgument(0);
+            int written = resultLines(job.getId()).size();
+            if (job.getProcessedItems() > written) {
+                violations.add(job.getProcessedItems() + " processed, " + written + " written");
+            }
+            return call.callRealMethod();
+        }).when(store).save(any());
+        service = newService();
+
+        TranslationJobResponse job = service.submit(request(List.of("a", "b", "c", "d", "e")));
+        TranslationJobResponse done = awaitFinished(job.getJobId());
+
+        assertEquals("COMPLETED", done.getStatus());
+        assertEquals(5, done.getProcessedItems());
+        assertTrue(violations.isEmpty(), violations.toString());
+        assertEquals(List.of("A", "B", "C", "D", "E"),
+            resultLines(job.getJobId()).stream().map(BatchTranslateItem::getTranslatedText).toList());
+    }
+
+    @Test
+    void testResumeSkipsInputThatHasResults() throws Exception {
+        // State of a job that crashed after appending results for items 0-2 but before saving its
+        // progress, while writing the next line
+        store.createInput("job-1", List.of("a", "b", "c", "d", "e").iterator());
+        store.appendResults("job-1", List.of(item(0, "A"), item(1, "B"), item(2, "C")));
+        Files.writeString(store.resultsPath("job-1"), "{\"index\":3", StandardOpenOption.APPEND);
+        store.save(job("job-1", JobStatus.RUNNING, 5, 2, LocalDateTime.now()));
+
+        service = newService();
+        service.resumeJobs();
+        TranslationJobResponse done = awaitFinished("job-1");
+
+        assertEquals("COMPLETED", done.getStatus());
+        assertEquals(5, done.getProcessedItems());
+        assertEquals(List.of(List.of("d", "e")), batches);
+        List<BatchTranslateItem> results = resultLines("job-1");
+        assertEquals(List.of(0, 1, 2, 3, 4), results.stream().map(BatchTranslateItem::getIndex).toList());
+        assertEquals(List.of("A", "B", "C", "D", "E"),
+            results.stream().map(BatchTranslateItem::getTranslatedText).toList());
+    }
+
+    @Test
+    void testShutdownDuringLastAttemptLeavesJobResumable() throws Exception {
+        properties.getJobs().setMaxAttempts(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+        when(translationService.batchTranslate(any())).thenAnswer(call -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+                return null;
+            } catch (InterruptedException e) {
+                // What the providers do with an interrupt
+                Thread.currentThread().interrupt();
+                throw new TranslationException("Translation interrupted", HttpStatus.SERVICE_UNAVAILABLE);
+            } finally {
+                stopped.countDown();
+            }
+        });
+        service = newService();
+
+        TranslationJobResponse job = service.submit(request(List.of("a", "b")));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        service.shutdown();
+        assertTrue(stopped.await(5, TimeUnit.SECONDS));
+        Thread.sleep(200);
+
+        TranslationJob stored = store.loadAll().stream()
+            .filter(candidate -> candidate.getId().equals(job.getJobId()))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(JobStatus.RUNNING, stored.getStatus());
+        assertNull(stored.getError());
+    }
+
+    @Test
+    void testInputIsValidatedLikeBatchRequests() {
+        properties.getApi().setMaxTextLength(5);
+        properties.getJobs().setMaxItems(3);
+        service = newService();
+
+        TranslationException tooLong = assertThrows(TranslationException.class,
+            () -> service.submit(request(List.of("short", "too long"))));
+        assertEquals(HttpStatus.BAD_REQUEST, tooLong.getStatus());
+        TranslationException tooMany = assertThrows(TranslationException.class,
+            () -> service.submit(request(List.of("a", "b", "c", "d"))));
+        assertEquals(HttpStatus.BAD_REQUEST, tooMany.getStatus());
+        assertEquals(List.of(), jobDirectories());
+    }
+
+    @Test
+    void testImportFileIsValidated() throws IOException {
+        properties.getApi().setMaxTextLength(5);
+        service = newService();
+        Files.createDirectories(root.resolve("imports"));
+        Files.writeString(root.resolve("imports").resolve("input.txt"), "one\n\ntwo\nthree four\n");
+
+        TranslationJobRequest request = request(null);
+        request.setInputFile("input.txt");
+        TranslationException e = assertThrows(TranslationException.class, () -> service.submit(request));
+
+        assertTrue(e.getMessage().contains("Text 2"), e.getMessage());
+        assertEquals(List.of(), jobDirectories());
+    }
+
+    @Test
+    void testExpiredJobsAreDeleted() throws Exception {
+        properties.getJobs().setRetentionHours(24);
+        store.createInput("old", List.of("a").iterator());
+        store.save(job("old", JobStatus.COMPLETED, 1, 1, LocalDateTime.now().minusHours(25)));
+        store.createInput("recent", List.of("a").iterator());
+        store.save(job("recent", JobStatus.COMPLETED, 1, 1, LocalDateTime.now().minusHours(23)));
+
+        service = newService();
+        service.resumeJobs();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (jobDirectories().size() > 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of("recent"), jobDirectories());
+        TranslationException e = assertThrows(TranslationException.class, () -> service.getJob("old"));
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatus());
+        assertEquals("COMPLETED", service.getJob("recent").getStatus());
+    }
+
+    private TranslationJobService newService() {
+        return new TranslationJobService(translationService, providerFactory, store, properties);
+    }
+
+    private TranslationJobResponse awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            TranslationJobResponse job = service.getJob(jobId);
+            if (JobStatus.valueOf(job.getStatus()).isFinished()) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        fail("Job " + jobId + " did not finish");
+        return null;
+    }
+
+    private List<BatchTranslateItem> resultLines(String jobId) throws IOException {
+        Path results = store.resultsPath(jobId);
+        if (!Files.exists(results)) {
+            return List.of();
+        }
+        List<BatchTranslateItem> items = new ArrayList<>();
+        for (String line : Files.readAllLines(results)) {
+            items.add(MAPPER.readValue(line, BatchTranslateItem.class));
+        }
+        return items;
+    }
+
+    private List<String> jobDirectories() {
+        try (Stream<Path> dirs = Files.list(root.resolve("jobs"))) {
+            return dirs.map(dir -> dir.getFileName().toString()).sorted().toList();
+        } catch (IOException e) {
+            return List.of();
+        }
+    }
+
+    private static TranslationJobRequest request(List<String> texts) {
+        return TranslationJobRequest.builder().texts(texts).sourceLanguage("en").targetLanguage("es").build();
+    }
+
+    private static TranslationJob job(String id, JobStatus status, int total, int processed, LocalDateTime updatedAt) {
+        return TranslationJob.builder()
+            .id(id)
+            .status(status)
+            .sourceLanguage("en")
+            .targetLanguage("es")
+            .totalItems(total)
+            .processedItems(processed)
+            .failedItems(0)
+            .createdAt(updatedAt)
+            .updatedAt(updatedAt)
+            .build();
+    }
+
+    private static BatchTranslateItem item(int index, String translation) {
+        return BatchTranslateItem.builder().index(index).translatedText(translation).build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.translation.masking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaceholderMaskerTest {
+
+    @Test
+    void testNumbersMaskToSameTemplate() {
+        MaskedText three = PlaceholderMasker.mask("You have 3 new messages");
+        MaskedText seventeen = PlaceholderMasker.mask("You have 17 new messages");
+
+        assertEquals("You have {{0}} new messages", three.template());
+        assertEquals(three.template(), seventeen.template());
+        assertEquals(List.of("17"), seventeen.values());
+    }
+
+    @Test
+    void testMasksPlaceholdersUrlsEmailsAndTags() {
+        MaskedText masked = PlaceholderMasker.mask(
+            "Hi <b>{name}</b>, %d items at https://example.com/a?b=1. Mail support@example.org!");
+
+        assertEquals("Hi {{0}}{{1}}{{2}}, {{3}} items at {{4}}. Mail {{5}}!", masked.template());
+        assertEquals(List.of("<b>", "{name}", "</b>", "%d", "https://example.com/a?b=1", "support@example.org"),
+            masked.values());
+    }
+
+    @Test
+    void testLeavesWordsAndIcuPluralsAlone() {
+        String text = "MP3 files: {count, plural, one {# file} other {# files}}";
+        MaskedText masked = PlaceholderMasker.mask(text);
+
+        assertFalse(masked.isMasked());
+        assertSame(text, masked.template());
+    }
+
+    @Test
+    void testRestoreAllowsReorderingButRejectsLostTokens() {
+        MaskedText masked = PlaceholderMasker.mask("{0} of {1}");
+
+        assertEquals("{1} de {0}", masked.restore("{{1}} de {{ 0 }}"));
+        assertNull(masked.restore("{{1}} de"));
+        assertNull(masked.restore("{{1}} {{1}} {{0}}"));
+    }
+}
@@ -0,0 +1,139 @@
+package com.translation.memory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translation.config.TranslationProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranslationMemoryTest {
+
+    @TempDir
+    Path dir;
+
+    private TranslationProperties properties;
+    private TranslationMemory memory;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TranslationProperties();
+        properties.getMemory().setEnabled(true);
+        properties.getMemory().setPath(dir.resolve("tm.ndjson").toString());
+        properties.getMemory().setReloadIntervalMs(60_000L);
+        memory = new TranslationMemory(properties, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        memory.shutdown();
+    }
+
+    @Test
+    void testExactLookupIgnoresWhitespace() {
+        memory.record("local", "en", "es", "Save changes", "Guardar cambios");
+
+        assertEquals("  Guardar cambios ", memory.lookup("local", "en", "es", "  Save   changes "));
+        assertNull(memory.lookup("local", "en", "fr", "Save changes"));
+        assertEquals(1, memory.getExactHits());
+    }
+
+    @Test
+    void testRecordedWhitespaceIsNotReturnedToOtherTexts() {
+        memory.record("local", "en", "es", "  Hello\n", "  Hola\n");
+
+        assertEquals("Hola", memory.lookup("local", "en", "es", "Hello"));
+        assertEquals("\tHola", memory.lookup("local", "en", "es", "\tHello"));
+    }
+
+    @Test
+    void testFuzzyLookupSubstitutesNumbers() {
+        memory.record("local", "en", "es", "You have 3 new messages", "Tienes 3 mensajes nuevos");
+
+        assertEquals("Tienes 17 mensajes nuevos", memory.lookup("local", "en", "es", "You have 17 new messages"));
+        assertEquals("Tienes 5 mensajes nuevos!", memory.lookup("local", "en", "es", "You have 5 new messages!"));
+        assertEquals(2, memory.getFuzzyHits());
+    }
+
+    @Test
+    void testFuzzyLookupRejectsUnmappableNumbers() {
+        memory.record("local", "en", "es", "You have 3 new messages", "Tienes tres mensajes nuevos");
+
+        assertNull(memory.lookup("local", "en", "es", "You have 17 new messages"));
+        assertNull(memory.lookup("local", "en", "es", "You have new messages"));
+    }
+
+    @Test
+    void testEntriesAreKeptPerEngine() {
+        memory.record("google", "en", "es", "Save changes", "Guardar cambios");
+        memory.record("local", "en", "es", "Save changes", "Guarda los cambios");
+
+        assertEquals("Guardar cambios", memory.lookup("google", "en", "es", "Save changes"));
+        assertEquals("Guarda los cambios", memory.lookup("local", "en", "es", "Save changes"));
+        assertNull(memory.lookup("openai", "en", "es", "Save changes"));
+        assertNull(memory.lookup("openai", "en", "es", "Save 2 changes"));
+    }
+
+    @Test
+    void testFuzzyLookupKeepsPunctuationInsideNumbers() {
+        memory.record("local", "en", "es", "Page 5/10", "Página 5/10");
+
+        assertEquals("Página 6/12", memory.lookup("local", "en", "es", "Page 6/12"));
+        assertNull(memory.lookup("local", "en", "es", "Page 5.10"));
+        assertNotEquals(SegmentPattern.of("1,000 items").skeleton(), SegmentPattern.of("1.000 items").skeleton());
+        assertEquals(SegmentPattern.of("Total: 5").skeleton(), SegmentPattern.of("Total 5").skeleton());
+    }
+
+    @Test
+    void testFileIsCompactedOnLoad() throws Exception {
+        memory.record("local", "en", "es", "Hello", "Hola");
+        memory.record("local", "en", "es", "Hello", "¡Hola!");
+        memory.record("google", "en", "es", "Hello", "Hola");
+        memory.shutdown();
+        Path file = dir.resolve("tm.ndjson");
+        Files.writeString(file, "{\"sourceLanguage\":\"en\",\"targ", StandardOpenOption.APPEND);
+
+        memory = new TranslationMemory(properties, new ObjectMapper());
+
+        assertEquals(2, Files.readAllLines(file).size());
+        assertEquals(2, memory.size());
+        assertEquals("¡Hola!", memory.lookup("local", "en", "es", "Hello"));
+        assertEquals("Hola", memory.lookup("google", "en", "es", "Hello"));
+    }
+
+    @Test
+    void testEntriesAreBounded() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            memory.record("local", "en", "es", "Text " + (char) ('a' + i), "Texto " + i);
+        }
+        memory.shutdown();
+        properties.getMemory().setMaxEntries(3);
+
+        memory = new TranslationMemory(properties, new ObjectMapper());
+
+        // Compaction keeps the most recent entries
+        assertEquals(3, Files.readAllLines(dir.resolve("tm.ndjson")).size());
+        assertNull(memory.lookup("local", "en", "es", "Text a"));
+        assertEquals("Texto 4", memory.lookup("local", "en", "es", "Text e"));
+
+        memory.record("local", "en", "es", "Text f", "Texto 5");
+        assertEquals(3, memory.size());
+    }
+
+    @Test
+    void testEntriesSurviveRestart() throws InterruptedException {
+        memory.record("local", "en", "es", "Hello", "Hola");
+        memory.shutdown();
+
+        memory = new TranslationMemory(properties, new ObjectMapper());
+
+        assertEquals(1, memory.size());
+        assertEquals("Hola", memory.lookup("local", "en", "es", "Hello"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.translation.metrics;
+
+import com.translation.exception.TranslationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranslationMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private TranslationMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new TranslationMetrics(registry);
+    }
+
+    @Test
+    void testRequestsTaggedByPairAndStatus() {
+        long start = metrics.requestStarted();
+        assertEquals(1.0, registry.get(TranslationMetrics.REQUESTS + ".active").gauge().value());
+        metrics.requestFinished("translate", "en", "es", 1, 11, 0, start, null);
+        metrics.requestFinished("translate", "en", "es", 1, 5, 0, metrics.requestStarted(),
+            new TranslationException("Invalid language pair", HttpStatus.BAD_REQUEST));
+
+        assertEquals(1, registry.get(TranslationMetrics.REQUESTS).tag("status", "200").timer().count());
+        assertEquals(1, registry.get(TranslationMetrics.REQUESTS).tag("status", "400").timer().count());
+        assertEquals(11.0, registry.get("translation.characters").tags("source", "en", "target", "es")
+            .counter().count());
+        assertEquals(0.0, registry.get(TranslationMetrics.REQUESTS + ".active").gauge().value());
+    }
+
+    @Test
+    void testUnexpectedLanguagesShareOneTag() {
+        metrics.requestFinished("translate", "not a language", "es", 1, 1, 0, metrics.requestStarted(), null);
+        metrics.requestFinished("translate", "<script>", "es", 1, 1, 0, metrics.requestStarted(), null);
+
+        assertEquals(2, registry.get(TranslationMetrics.REQUESTS).tag("source", "other").timer().count());
+    }
+
+    @Test
+    void testProviderErrorsCountedByCode() {
+        long start = metrics.providerCallStarted("openai");
+        metrics.providerCallFinished("openai", "batch", 8, start, new TranslationException(
+            "Rate limited", HttpStatus.TOO_MANY_REQUESTS, "RATE_LIMITED"));
+
+        assertEquals(1, registry.get(TranslationMetrics.PROVIDER_CALLS).tag("outcome", "error").timer().count());
+        assertEquals(1.0, registry.get("translation.provider.errors")
+            .tags("engine", "openai", "status", "429", "code", "RATE_LIMITED").counter().count());
+        assertEquals(8.0, registry.get("translation.provider.batch.size").summary().totalAmount());
+        assertEquals(0.0, registry.get(TranslationMetrics.PROVIDER_CALLS + ".active").gauge().value());
+    }
+}
@@ -0,0 +1,133 @@
+package com.translation.ratelimit;
+
+import com.translation.config.TranslationProperties;
+import com.translation.exception.TranslationException;
+import com.translation.resilience.ProviderGuard;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamRateLimiterTest {
+
+    private TranslationProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TranslationProperties();
+        properties.getRateLimit().setInitialBackoffMs(1L);
+        properties.getRateLimit().setMaxBackoffMs(5L);
+        properties.getRateLimit().setMaxQueueWaitMs(200L);
+        TranslationProperties.RateLimitConfig.Limit limit = new TranslationProperties.RateLimitConfig.Limit();
+        limit.setRequestsPerSecond(10.0);
+        limit.setUnitsPerMinute(600L);
+        properties.getRateLimit().getProviders().put("openai", limit);
+    }
+
+    @Test
+    void testRateLimitedCallIsRetried() {
+        UpstreamRateLimiter limiter = new UpstreamRateLimiter(properties, new ProviderGuard(properties));
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = limiter.call("google", 1, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw TranslationException.upstream("slow down", 429);
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+        assertEquals(2, limiter.describe().get("google").getRetries());
+    }
+
+    @Test
+    void testBadRequestIsNotRetried() {
+        UpstreamRateLimiter limiter = new UpstreamRateLimiter(properties, new ProviderGuard(properties));
+        AtomicInteger attempts = new AtomicInteger();
+
+        TranslationException error = assertThrows(TranslationException.class, () -> limiter.call("google", 1, () -> {
+            attempts.incrementAndGet();
+            throw TranslationException.upstream("bad input", 400);
+        }));
+
+        assertEquals(HttpStatus.BAD_REQUEST, error.getStatus());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testRefusedCredentialsAreNotRetried() {
+        UpstreamRateLimiter limiter = new UpstreamRateLimiter(properties, new ProviderGuard(properties));
+        AtomicInteger attempts = new AtomicInteger();
+
+        for (int status : new int[] {401, 403}) {
+            TranslationException error = assertThrows(TranslationException.class,
+                () -> limiter.call("google", 1, () -> {
+                    attempts.incrementAndGet();
+                    throw TranslationException.upstream("invalid key", status);
+                }));
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, error.getStatus());
+            assertEquals(TranslationException.UPSTREAM_AUTH_FAILED, error.getErrorCode());
+        }
+
+        assertEquals(2, attempts.get());
+        assertEquals(0, limiter.describe("google").getRetries());
+    }
+
+    @Test
+    void testCallsQueueUntilTheWaitWouldBeTooLong() {
+        UpstreamRateLimiter limiter = new UpstreamRateLimiter(properties, new ProviderGuard(properties));
+
+        // 600 units per minute refill at 10 per second: the first call drains the bucket,
+        // the second still fits, the third would wait ~10s (over the 200ms queue limit)
+        limiter.call("openai", 598, () -> "first");
+        long start = System.nanoTime();
+        limiter.call("openai", 1, () -> "second");
+        TranslationException error = assertThrows(TranslationException.class,
+            () -> limiter.call("openai", 100, () -> "third"));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, error.getStatus());
+        assertEquals(UpstreamRateLimiter.RATE_LIMITED, error.getErrorCode());
+        assertTrue(System.nanoTime() - start < 1_000_000_000L);
+        assertEquals(1, limiter.describe().get("openai").getRejectedCalls());
+    }
+
+    @Test
+    void testQueueingDoesNotCountAsSlowCalls() {
+        properties.getResilience().setSlowCallDurationMs(50L);
+        properties.getResilience().setSlowCallRateThreshold(50.0f);
+        properties.getResilience().setSlidingWindowSize(10);
+        properties.getResilience().setMinimumNumberOfCalls(5);
+        ProviderGuard guard = new ProviderGuard(properties);
+        UpstreamRateLimiter limiter = new UpstreamRateLimiter(properties, guard);
+
+        // 10 requests per second: after the first 10, each call queues ~100ms, twice the slow-call threshold
+        for (int i = 0; i < 20; i++) {
+            assertEquals("ok", limiter.call("openai", 1, () -> "ok"));
+        }
+
+        CircuitBreaker circuitBreaker = guard.getCircuitBreakerRegistry().circuitBreaker("openai");
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(0, circuitBreaker.getMetrics().getNumberOfSlowCalls());
+        assertTrue(limiter.describe("openai").getQueuedCalls() >= 9);
+    }
+
+    @Test
+    void testOpenCircuitIsNotRetried() {
+        ProviderGuard guard = new ProviderGuard(properties);
+        UpstreamRateLimiter limiter = new UpstreamRateLimiter(properties, guard);
+        guard.getCircuitBreakerRegistry().circuitBreaker("google").transitionToOpenState();
+        AtomicInteger attempts = new AtomicInteger();
+
+        TranslationException error = assertThrows(TranslationException.class,
+            () -> limiter.call("google", 1, attempts::incrementAndGet));
+
+        assertEquals(ProviderGuard.CIRCUIT_OPEN, error.getErrorCode());
+        assertEquals(0, attempts.get());
+        assertEquals(0, limiter.describe("google").getRetries());
+    }
+}
@@ -0,0 +1,68 @@
+package com.translation.resilience;
+
+import com.translation.config.TranslationProperties;
+import com.translation.exception.PartialBatchTranslationException;
+import com.translation.exception.TranslationException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProviderGuardTest {
+
+    private ProviderGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        TranslationProperties properties = new TranslationProperties();
+        properties.getResilience().setSlidingWindowSize(4);
+        properties.getResilience().setMinimumNumberOfCalls(4);
+        guard = new ProviderGuard(properties);
+    }
+
+    @Test
+    void testServerErrorsOpenTheCircuit() {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(TranslationException.class, () -> guard.call("google", () -> {
+                throw new TranslationException("down", HttpStatus.SERVICE_UNAVAILABLE);
+            }));
+        }
+
+        TranslationException error = assertThrows(TranslationException.class,
+            () -> guard.call("google", () -> "Hola"));
+        assertEquals(ProviderGuard.CIRCUIT_OPEN, error.getErrorCode());
+    }
+
+    @Test
+    void testPartialBatchCountsAsSuccess() {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(PartialBatchTranslationException.class, () -> guard.call("google", () -> {
+                throw new PartialBatchTranslationException(Arrays.asList("Hola", null), Map.of(1, "timeout"));
+            }));
+        }
+
+        CircuitBreaker.Metrics metrics = circuitBreaker("google").getMetrics();
+        assertEquals(4, metrics.getNumberOfSuccessfulCalls());
+        assertEquals(0, metrics.getNumberOfFailedCalls());
+        assertEquals("Hola", guard.call("google", () -> "Hola"));
+    }
+
+    @Test
+    void testClientErrorsAreNotRecorded() {
+        assertThrows(TranslationException.class, () -> guard.call("google", () -> {
+            throw new TranslationException("bad pair", HttpStatus.BAD_REQUEST);
+        }));
+
+        CircuitBreaker.Metrics metrics = circuitBreaker("google").getMetrics();
+        assertEquals(0, metrics.getNumberOfBufferedCalls());
+    }
+
+    private CircuitBreaker circuitBreaker(String engine) {
+        return guard.getCircuitBreakerRegistry().circuitBreaker(engine);
+    }
+}
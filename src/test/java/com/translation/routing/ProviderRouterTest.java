@@ -0,0 +1,93 @@
+package com.translation.routing;
+
+import com.translation.config.TranslationProperties;
+import com.translation.dto.RoutingTableRequest;
+import com.translation.exception.TranslationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProviderRouterTest {
+
+    private ProviderRouter router;
+
+    @BeforeEach
+    void setUp() {
+        TranslationProperties properties = new TranslationProperties();
+        TranslationProperties.RoutingConfig routing = properties.getRouting();
+        routing.setEnabled(true);
+        routing.setWeights(Map.of("google", 1, "openai", 1, "local", 0));
+        routing.setExplorationRate(0.0);
+
+        TranslationProperties.RoutingConfig.Route japanese = new TranslationProperties.RoutingConfig.Route();
+        japanese.setSourceLanguage("en");
+        japanese.setTargetLanguage("ja");
+        japanese.setWeights(Map.of("openai", 1));
+        TranslationProperties.RoutingConfig.Route anyToGerman = new TranslationProperties.RoutingConfig.Route();
+        anyToGerman.setTargetLanguage("de");
+        anyToGerman.setWeights(Map.of("local", 1));
+        routing.getRoutes().add(anyToGerman);
+        routing.getRoutes().add(japanese);
+
+        router = new ProviderRouter(properties);
+    }
+
+    @Test
+    void testMostSpecificRouteWins() {
+        assertEquals(Map.of("openai", 1), router.weightsFor("en", "ja"));
+        assertEquals(Map.of("local", 1), router.weightsFor("fr", "de"));
+        assertEquals(Map.of("google", 1, "openai", 1), router.weightsFor("en", "es"));
+    }
+
+    @Test
+    void testSlowProviderGetsLessTraffic() {
+        record(router.stats("google"), 20);
+        record(router.stats("openai"), 400);
+
+        Map<String, Integer> chosen = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            chosen.merge(router.choose(Map.of("google", 1, "openai", 1)), 1, Integer::sum);
+        }
+
+        assertEquals(1000, chosen.get("google"));
+    }
+
+    @Test
+    void testFailingProviderGetsLessTraffic() {
+        ProviderStats google = router.stats("google");
+        for (int i = 0; i < 20; i++) {
+            google.end(google.begin() - TimeUnit.MILLISECONDS.toNanos(10), 1, 1.0);
+        }
+        record(router.stats("openai"), 30);
+
+        assertEquals("openai", router.choose(Map.of("google", 1, "openai", 1)));
+    }
+
+    @Test
+    void testUpdateRejectsEnabledTableWithoutWeights() {
+        RoutingTableRequest zeroWeights = RoutingTableRequest.builder()
+            .weights(Map.of("google", 0))
+            .build();
+
+        TranslationException e = assertThrows(TranslationException.class, () -> router.update(zeroWeights));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatus());
+        assertEquals(Map.of("google", 1, "openai", 1), router.weightsFor("en", "es"));
+        assertTrue(router.isEnabled());
+
+        zeroWeights.setEnabled(false);
+        router.update(zeroWeights);
+        assertFalse(router.isEnabled());
+    }
+
+    private static void record(ProviderStats stats, long latencyMs) {
+        for (int i = 0; i < 20; i++) {
+            stats.end(stats.begin() - TimeUnit.MILLISECONDS.toNanos(latencyMs), 1, 0.0);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.translation.service;
+
+import com.translation.config.TranslationProperties;
+import com.translation.exception.TranslationException;
+import com.translation.integration.BatchExecutor;
+import com.translation.integration.TranslationProvider;
+import com.translation.integration.TranslationProviderFactory;
+import com.translation.metrics.TranslationMetrics;
+import com.translation.tracing.RequestLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DocumentTranslationServiceTest {
+
+    private BatchExecutor batchExecutor;
+    private DocumentTranslationService service;
+    private TranslationProvider provider;
+    private RequestLog requestLog;
+
+    @BeforeEach
+    void setUp() {
+        TranslationProperties properties = new TranslationProperties();
+        properties.getDocument().setMaxChunkChars(20);
+        properties.getDocument().setMaxInFlightChunks(2);
+        batchExecutor = new BatchExecutor(properties);
+        requestLog = mock(RequestLog.class);
+        service = new DocumentTranslationService(mock(TranslationProviderFactory.class), batchExecutor, properties,
+            new TranslationMetrics(new SimpleMeterRegistry()), requestLog);
+
+        provider = mock(TranslationProvider.class);
+        when(provider.getProviderName()).thenReturn("test");
+        when(provider.translate(anyString(), anyString(), anyString())).thenAnswer(call -> {
+            String text = call.getArgument(0);
+            if (text.contains("boom")) {
+                throw new TranslationException("upstream down", HttpStatus.SERVICE_UNAVAILABLE);
+            }
+            return text.toUpperCase();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchExecutor.shutdown();
+    }
+
+    @Test
+    void testDocumentIsReassembledInOrder() throws IOException {
+        StringWriter output = new StringWriter();
+
+        service.translateDocument(provider, new StringReader("First one here.\n\n  Second one here. Third."),
+            output, "en", "es");
+
+        assertEquals("FIRST ONE HERE.\n\n  SECOND ONE HERE. THIRD.", output.toString());
+        verify(requestLog).finished(eq("document"), eq("en"), eq("es"), anyInt(), eq(0), anyLong(), isNull());
+    }
+
+    @Test
+    void testFailedChunkEndsOutputWithErrorLine() throws IOException {
+        StringWriter output = new StringWriter();
+
+        service.translateDocument(provider, new StringReader("First one here. Then boom here. Never seen."),
+            output, "en", "es");
+
+        String[] lines = output.toString().split("\n");
+        assertEquals("FIRST ONE HERE.", lines[0]);
+        assertEquals(DocumentTranslationService.ERROR_LINE_PREFIX + "upstream down", lines[lines.length - 1]);
+        assertFalse(output.toString().contains("NEVER"));
+        verify(requestLog).finished(eq("document"), eq("en"), eq("es"), anyInt(), eq(0), anyLong(),
+            any(TranslationException.class));
+    }
+}
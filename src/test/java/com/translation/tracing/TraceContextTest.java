@@ -0,0 +1,79 @@
+package com.translation.tracing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceContextTest {
+
+    private static final String TRACEPARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    @AfterEach
+    void tearDown() {
+        TraceContext.clear();
+    }
+
+    @Test
+    void testContinuesIncomingTraceparent() {
+        TraceContext.start(TRACEPARENT, 0.0);
+
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", TraceContext.traceId());
+        assertTrue(TraceContext.isSampled());
+        assertNotEquals("00f067aa0ba902b7", MDC.get(TraceContext.SPAN_ID));
+
+        TraceContext.start(TRACEPARENT.substring(0, 53) + "00", 1.0);
+        assertFalse(TraceContext.isSampled());
+    }
+
+    @Test
+    void testInvalidTraceparentStartsNewTrace() {
+        TraceContext.start("00-00000000000000000000000000000000-00f067aa0ba902b7-01", 0.0);
+
+        assertNotEquals("00000000000000000000000000000000", TraceContext.traceId());
+        assertEquals(32, TraceContext.traceId().length());
+        assertFalse(TraceContext.isSampled());
+
+        TraceContext.start(null, 1.0);
+        assertTrue(TraceContext.isSampled());
+    }
+
+    @Test
+    void testWrappedTaskRunsInCallersTrace() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertNull(executor.submit(TraceContext::traceId).get());
+            TraceContext.start(TRACEPARENT, 0.0);
+
+            String[] seen = new String[1];
+            executor.submit(TraceContext.wrap(() -> {
+                seen[0] = TraceContext.traceId();
+            })).get();
+
+            assertEquals(TraceContext.traceId(), seen[0]);
+            assertNull(executor.submit(TraceContext::traceId).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testSpanIsChildOfCurrentSpanOnlyWhenSampled() {
+        TraceContext.start(TRACEPARENT, 0.0);
+        String requestSpan = MDC.get(TraceContext.SPAN_ID);
+
+        Span span = Span.start("provider.translate").tag("engine", "local");
+        assertNotEquals(requestSpan, MDC.get(TraceContext.SPAN_ID));
+        span.end(null);
+        assertEquals(requestSpan, MDC.get(TraceContext.SPAN_ID));
+
+        TraceContext.start(null, 0.0);
+        requestSpan = MDC.get(TraceContext.SPAN_ID);
+        Span.start("provider.translate");
+        assertEquals(requestSpan, MDC.get(TraceContext.SPAN_ID));
+    }
+}